@@ -1,13 +1,16 @@
 package Controller;
 
-import javax.sound.sampled.*;
+import Model.Enumeration.SoundEffect;
+
 import java.io.File;
-import java.io.IOException;
 
 public class AudioManager {
+    private static final String BACKGROUND_MUSIC_PATH = "src/resources/Audio/Ortus.wav";
+
     private static AudioManager instance;
-    private Clip backgroundMusicClip;
+    private MusicStreamer backgroundMusic;
     private boolean isMusicEnabled = true;
+    private float musicVolume = 1.0f;
     
     private AudioManager() {}
     
@@ -21,53 +24,40 @@ public class AudioManager {
     public void playBackgroundMusic() {
         if (!isMusicEnabled) return;
         
-        try {
-            // Stop previous music
-            stopBackgroundMusic();
-            
-            // Load audio file
-            File audioFile = new File("src/resources/Audio/Ortus.wav");
-            AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(audioFile);
-            
-            // Create audio clip
-            backgroundMusicClip = AudioSystem.getClip();
-            backgroundMusicClip.open(audioInputStream);
-            
-            // Set loop playback
-            backgroundMusicClip.loop(Clip.LOOP_CONTINUOUSLY);
-            
-            // Start playback
-            backgroundMusicClip.start();
-            
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.err.println("Error playing background music: " + e.getMessage());
-            e.printStackTrace();
+        if (backgroundMusic != null && !backgroundMusic.isAlive()) {
+            // The music thread exited (e.g. the line failed): drop it and start a fresh one
+            backgroundMusic.stop();
+            backgroundMusic = null;
+        }
+        
+        if (backgroundMusic == null) {
+            // Stream the file in a loop on the music thread
+            backgroundMusic = new MusicStreamer(new File(BACKGROUND_MUSIC_PATH));
+            backgroundMusic.setVolume(musicVolume);
+            backgroundMusic.start();
+        } else {
+            // Already streaming: continue where it was paused
+            backgroundMusic.resume();
         }
     }
     
     public void stopBackgroundMusic() {
-        if (backgroundMusicClip != null && backgroundMusicClip.isRunning()) {
-            backgroundMusicClip.stop();
-            backgroundMusicClip.close();
+        if (backgroundMusic != null) {
+            backgroundMusic.stop();
+            backgroundMusic = null;
         }
     }
     
     public void pauseBackgroundMusic() {
-        if (backgroundMusicClip != null && backgroundMusicClip.isRunning()) {
-            backgroundMusicClip.stop();
-        }
-    }
-    
-    public void resumeBackgroundMusic() {
-        if (backgroundMusicClip != null && !backgroundMusicClip.isRunning()) {
-            backgroundMusicClip.start();
+        if (backgroundMusic != null) {
+            backgroundMusic.pause();
         }
     }
     
     public void setMusicEnabled(boolean enabled) {
         this.isMusicEnabled = enabled;
         if (!enabled) {
-            stopBackgroundMusic();
+            pauseBackgroundMusic();
         } else {
             playBackgroundMusic();
         }
@@ -78,10 +68,33 @@ public class AudioManager {
     }
     
     public void setVolume(float volume) {
-        if (backgroundMusicClip != null) {
-            FloatControl volumeControl = (FloatControl) backgroundMusicClip.getControl(FloatControl.Type.MASTER_GAIN);
-            float dB = (float) (Math.log(volume) / Math.log(10.0) * 20.0);
-            volumeControl.setValue(dB);
+        this.musicVolume = volume;
+        if (backgroundMusic != null) {
+            backgroundMusic.setVolume(volume);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Decode the sound effects and open their output line in the background
+     */
+    public void loadSoundEffects() {
+        SoundEffectEngine.getInstance().start();
+    }
+
+    /**
+     * Trigger a sound effect; returns immediately
+     *
+     * @param effect Effect to play
+     */
+    public void playSoundEffect(SoundEffect effect) {
+        SoundEffectEngine.getInstance().play(effect);
+    }
+
+    public void setSoundEffectsEnabled(boolean enabled) {
+        SoundEffectEngine.getInstance().setEnabled(enabled);
+    }
+
+    public boolean isSoundEffectsEnabled() {
+        return SoundEffectEngine.getInstance().isEnabled();
+    }
+}
@@ -1,5 +1,9 @@
 package Controller;
 
+import Engine.GameAction;
+import Engine.GameEngine;
+import Engine.GameSnapshot;
+import Logging.GameLogger;
 import Model.Player;
 import Model.Role.Role;
 import View.PlayerInfoView;
@@ -7,166 +11,127 @@ import View.WaterLevelView;
 import View.MapView;
 import Model.Deck.TreasureDeck;
 import Model.Cards.Card;
-import Model.Cards.WaterRiseCard;
 import Model.Tile;
-import Model.TilePosition;
-import Model.Enumeration.TileName;
-import Model.Enumeration.TileType;
-import Model.Cards.HandCard;
+import Model.Enumeration.ActionResult;
+import Model.Enumeration.GamePhase;
+import Model.Enumeration.MapLayout;
 import Model.Enumeration.TileState;
-import Model.Deck.FloodDeck;
-import Model.Cards.FloodCard;
-import Model.Cards.SandbagCard;
 import Model.Cards.TreasureCard;
-import Model.Cards.HelicopterCard;
 import Model.Enumeration.TreasureType;
+import Model.Enumeration.SoundEffect;
 import View.BoardView;
 import View.TreasureView;
 import Model.WaterLevel;
+import Model.GameContext;
 
-import java.awt.BorderLayout;
-import java.awt.Component;
-import java.awt.FlowLayout;
-import java.awt.GridLayout;
-import java.awt.Window;
+import java.awt.Dimension;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
 
-import javax.swing.JButton;
-import javax.swing.JFrame;
+import javax.swing.JList;
 import javax.swing.JOptionPane;
-import javax.swing.JPanel;
-import javax.swing.SwingUtilities;
-
+import javax.swing.JScrollPane;
+import javax.swing.ListSelectionModel;
+
+/**
+ * Game Controller Class
+ * Connects the Swing views of one game to its GameEngine
+ *
+ * The engine owns the board, players, decks and turn flow and decides whether every
+ * action is legal; this controller collects the player's choices, submits them as
+ * GameActions through GameEngine.execute, shows the ActionResult of a refused action
+ * and redraws the views from the engine's state after each change
+ */
 public class GameController {
-    private final List<Player> players;
+    private static final GameLogger LOG = GameLogger.getLogger(GameController.class);
+
+    private final GameEngine engine; // Rules, board and turn state of this game
     private final List<PlayerInfoView> playerInfoViews;
     private final CardController cardController;
-    private final TreasureDeck treasureDeck;
-    private int currentPlayerIndex = 0;
-    private static final int MAX_ACTIONS_PER_TURN = 3;
-    private final Tile helicopterTile; // Helicopter landing position
-    private WaterLevelView waterLevelView; // Water level view
-    private int currentWaterLevel; // Initial water level set through constructor
-    private TilePosition tilePosition; // TilePosition object
+    private final WaterLevelView waterLevelView; // Water level view
+    private final GameContext context; // State owned by this game session
+    private final WaterLevel waterLevel; // This game's water level, shared with its view
     private MapController mapController; // MapController member variable
-    private FloodDeck floodDeck;
     private BoardView boardView; // BoardView reference
     private final int playerCount; // Player count field
 
-    // ========== Engineer shore up twice mechanism ==========
-    private int engineerShoreUpCount = 0;
-    private boolean isEngineerShoreUpMode = false;
-    private boolean engineerSandbagConsumed = false;
+    // ========== Last drawn state ==========
+    private final Tile[] shownTiles; // Tile each player's figure is drawn on
+    private int shownTurn;
+    private boolean waterLevelRisen; // Set by the level listener, cleared once the dialog is shown
+
+    // Engineer's first tile while waiting for a second one
+    private Tile pendingShoreUpTile = null;
 
-    // Emergency move queue
-    private List<Integer> emergencyMoveQueue = new ArrayList<>();
-    private boolean isHandlingEmergencyMoves = false;
+    /**
+     * Constructor
+     * Sets up a new game engine from the context's water level and random stream
+     *
+     * @param playerCount    Number of players (2-4)
+     * @param layout         Map layout
+     * @param waterLevelView Water level view
+     * @param context        Game session state, also used by the views of this game
+     */
+    public GameController(int playerCount, MapLayout layout, WaterLevelView waterLevelView, GameContext context) {
+        this(new GameEngine(playerCount, layout, context.getWaterLevel(), context.getRandom().split()),
+                waterLevelView, context);
+        LOG.info(() -> "Game seed: " + context.getRandom().getSeed());
+    }
 
-    public GameController(int playerCount, Tile helicopterTile, WaterLevelView waterLevelView, int initialWaterLevel) {
-        System.out.println("\n========== Starting Game Controller Initialization ==========");
-        this.playerCount = playerCount; // Initialize player count
-        this.players = new ArrayList<>();
+    /**
+     * Constructor
+     * Shows an existing game, e.g. one restored from a GameSnapshot
+     *
+     * @param engine         Game to show and play on
+     * @param waterLevelView Water level view
+     * @param context        Game session state, also used by the views of this game
+     */
+    public GameController(GameEngine engine, WaterLevelView waterLevelView, GameContext context) {
+        LOG.debug("========== Starting Game Controller Initialization ==========");
+        this.playerCount = engine.getPlayers().size(); // Initialize player count
+        this.engine = engine;
         this.playerInfoViews = new ArrayList<>();
         this.cardController = new CardController(this);
-        this.treasureDeck = new TreasureDeck(helicopterTile);
-        this.helicopterTile = helicopterTile;
         this.waterLevelView = waterLevelView;
-        this.currentWaterLevel = initialWaterLevel; // Use the passed initial water level
-        this.tilePosition = null;
+        this.context = context;
+        this.waterLevel = engine.getWaterLevel();
         this.mapController = null;
-        // floodDeck not initialized here, no new Tile created
+        this.shownTiles = new Tile[playerCount];
 
-        // Set initial water level for WaterLevel singleton
-        WaterLevel waterLevelInstance = WaterLevel.getInstance();
-        // Need to add a method to set initial water level
-        waterLevelInstance.setCurrentLevel(initialWaterLevel);
-
-        System.out.println("Initializing " + playerCount + " players...");
-        // Initialize players
+        LOG.debug(() -> "Initializing " + playerCount + " players...");
+        // One panel per player, showing the role the engine assigned
         for (int i = 0; i < playerCount; i++) {
-            Player player = new Player();
-            players.add(player);
             PlayerInfoView playerInfoView = new PlayerInfoView(this);
             playerInfoView.setPlayerName("Player " + (i + 1));
+            Role role = engine.getPlayers().get(i).getRole();
+            playerInfoView.setRole(role.getClass().getSimpleName());
+            playerInfoView.setSpecialKind(GameAction.specialKindOf(role));
+            Player player = engine.getPlayers().get(i);
+            playerInfoView.setActionPoints(player.getActionPoints());
+            player.addOnActionPointsChangeListener(p -> playerInfoView.setActionPoints(p.getActionPoints()));
             playerInfoViews.add(playerInfoView);
         }
 
-        // Initialize water level
-        waterLevelView.updateWaterLevel(currentWaterLevel);
-
-        System.out.println("Assigning roles...");
-        // Assign roles
-        assignRoles();
-
-        System.out.println("Dealing initial cards...");
-        // Deal initial cards
-        dealInitialCards();
-
-        System.out.println("Initializing first player's turn...");
-        // Initialize first player's turn
-        initializeFirstTurn();
+        // Keep the view in step with this game's level
+        waterLevelView.updateWaterLevel(waterLevel.getCurrentLevel());
+        waterLevel.addOnLevelChangeListener(level -> waterLevelView.updateWaterLevel(level.getCurrentLevel()));
+        waterLevel.addOnLevelChangeListener(this::onWaterLevelRisen);
 
-        System.out.println("========== Game Controller Initialization Complete ==========\n");
+        // Sound and log the engine's events
+        for (Tile tile : engine.getAllTiles()) {
+            tile.addOnStateChangeListener(this::onTileStateChanged);
+        }
+        engine.getTreasureDeck().addOnTreasureCollectedListener(
+                type -> AudioManager.getInstance().playSoundEffect(SoundEffect.TREASURE));
 
         // Add listeners for each player's sandbag button
         for (int i = 0; i < playerInfoViews.size(); i++) {
             final int playerIndex = i;
-            PlayerInfoView view = playerInfoViews.get(i);
-            view.getSandbagButton().addActionListener(e -> {
-                Player player = players.get(playerIndex);
-                boolean hasSandbag = false;
-                for (Model.Cards.Card card : player.getHandCard().getCards()) {
-                    if (card instanceof Model.Cards.SandbagCard) {
-                        hasSandbag = true;
-                        break;
-                    }
-                }
-                if (hasSandbag) {
-                    if (mapController != null) {
-                        mapController.enterSandbagMode(playerIndex);
-                    } else {
-                        JOptionPane.showMessageDialog(null, "Map not initialized, cannot use sandbag card!");
-                    }
-                } else {
-                    JOptionPane.showMessageDialog(null, "You don't have a sandbag card, cannot use it!");
-                }
-            });
-        }
-    }
-
-    private void dealInitialCards() {
-        // Deal two initial cards to each player
-        for (int i = 0; i < players.size(); i++) {
-            Player player = players.get(i);
-            for (int j = 0; j < 2; j++) {
-                Card card = treasureDeck.drawInitialCard();
-                if (card != null) {
-                    try {
-                        player.addCard(card);
-                        playerInfoViews.get(i).addCard(card);
-                    } catch (HandCard.HandCardFullException e) {
-                        System.err.println("Hand full during initial card dealing: " + e.getMessage());
-                        // If hand is full, return card to deck
-                        treasureDeck.discard(card);
-                    }
-                }
-            }
-        }
-        // Mark end of initial card dealing
-        treasureDeck.finishInitialDraw();
-    }
-
-    private void assignRoles() {
-        RoleManager.assignRolesToPlayers(players);
-        for (int i = 0; i < players.size(); i++) {
-            Player player = players.get(i);
-            Role role = player.getRole();
-            PlayerInfoView playerInfoView = playerInfoViews.get(i);
-            playerInfoView.setRole(role.getClass().getSimpleName());
+            playerInfoViews.get(i).getSandbagButton().addActionListener(e -> handleSandbagCard(playerIndex));
         }
+        LOG.debug("========== Game Controller Initialization Complete ==========");
     }
 
     public List<PlayerInfoView> getPlayerInfoViews() {
@@ -178,17 +143,12 @@ public class GameController {
     }
 
     public void updatePlayerView(int playerIndex) {
-        if (playerIndex < 0 || playerIndex >= players.size()) {
+        if (playerIndex < 0 || playerIndex >= playerCount) {
             return;
         }
-        Player player = players.get(playerIndex);
+        Player player = engine.getPlayers().get(playerIndex);
         PlayerInfoView view = playerInfoViews.get(playerIndex);
 
-        // Update role information
-        if (player.getRole() != null) {
-            view.setRole(player.getRole().getClass().getSimpleName());
-        }
-
         // Update hand card display
         view.clearCards();
         for (Card card : player.getHandCard().getCards()) {
@@ -196,604 +156,129 @@ public class GameController {
         }
     }
 
-    private void initializeFirstTurn() {
-        currentPlayerIndex = 0;
-        PlayerInfoView currentPlayerView = playerInfoViews.get(currentPlayerIndex);
-        currentPlayerView.setActionPoints(MAX_ACTIONS_PER_TURN);
-        updatePlayerView(currentPlayerIndex);
-
-        // Update button states for all players
-        for (int i = 0; i < playerInfoViews.size(); i++) {
-            final int playerIndex = i;
-            playerInfoViews.get(i).setButtonsEnabled(i == currentPlayerIndex);
-            // Set click event for helicopter card button
-            playerInfoViews.get(i).getHelicopterButton().addActionListener(e -> handleHelicopterCard(playerIndex));
-        }
-    }
-
-    public void handleHelicopterCard(int playerIndex) {
-        System.out.println("\n========== Handling Helicopter Card ==========");
-        System.out.println("Player index: " + playerIndex);
-
-        Player player = players.get(playerIndex);
-        // Check if player has helicopter card
-        boolean hasHelicopterCard = false;
-        HelicopterCard helicopterCard = null;
-        for (Card card : player.getHandCard().getCards()) {
-            if (card instanceof HelicopterCard) {
-                hasHelicopterCard = true;
-                helicopterCard = (HelicopterCard) card;
-                break;
-            }
-        }
-
-        System.out.println("Has helicopter card: " + hasHelicopterCard);
-        if (!hasHelicopterCard) {
-            System.out.println("Player doesn't have a helicopter card!");
-            JOptionPane.showMessageDialog(null, "You don't have a helicopter card!");
-            return;
-        }
-
-        System.out.println("Entering helicopter card usage mode");
-        // Enter helicopter card usage mode, wait for player to click target position
-        mapController.enterHelicopterMode(playerIndex);
-        System.out.println("========== Helicopter Card Handling Complete ==========\n");
-    }
-
     /**
-     * Handle helicopter card movement
-     * 
-     * @param playerIndex Player using the helicopter card
-     * @param row Target row
-     * @param col Target column
+     * Show the first turn
+     * Called once the map, board and treasure views exist
      */
-    public void handleHelicopterMove(int playerIndex, int row, int col) {
-        Player player = players.get(playerIndex);
-        Tile targetTile = mapController.getMapView().getTile(row, col);
-
-        if (targetTile == null || targetTile.getState() == TileState.SUNK) {
-            JOptionPane.showMessageDialog(null, "Cannot move to a sunken tile!");
-            return;
-        }
-
-        // Find player's helicopter card
-        HelicopterCard helicopterCard = null;
-        for (Card card : player.getHandCard().getCards()) {
-            if (card instanceof HelicopterCard) {
-                helicopterCard = (HelicopterCard) card;
-                break;
-            }
-        }
-
-        if (helicopterCard == null) {
-            JOptionPane.showMessageDialog(null, "You don't have a helicopter card!");
-            return;
-        }
-
-        // Use helicopter card to move player
-        List<Player> playersToMove = new ArrayList<>();
-        playersToMove.add(player);
-        if (helicopterCard.useForMovement(playersToMove, targetTile)) {
-            // Remove helicopter card from player's hand
-            player.getHandCard().removeCard(helicopterCard);
-            playerInfoViews.get(playerIndex).removeCard(helicopterCard);
-            treasureDeck.discard(helicopterCard);
-
-            // Update player view
-            updatePlayerView(playerIndex);
-
-            // Show success message
-            JOptionPane.showMessageDialog(null, "Successfully used helicopter card to move to " + targetTile.getName());
-        } else {
-            JOptionPane.showMessageDialog(null, "Helicopter card usage failed!");
-        }
-
-        // Exit helicopter card usage mode
-        mapController.exitHelicopterMode();
+    public void start() {
+        shownTurn = engine.getTurnCount();
+        onEngineChanged();
     }
 
     /**
-     * Handle player emergency movement
-     * When a player's tile sinks, they must immediately move to the nearest available tile
-     * 
-     * @param playerIndex Index of player needing emergency movement
-     * @return true if movement successful, false if unable to move
+     * Submit an action to the engine, then redraw or tell the player why it was refused
+     *
+     * @param action Action chosen by the player
+     * @return Returns true if the engine performed the action
      */
-    private boolean handleEmergencyMove(int playerIndex) {
-        // This method no longer directly enters emergency move mode, but is managed by queue
-        if (!emergencyMoveQueue.contains(playerIndex)) {
-            emergencyMoveQueue.add(playerIndex);
-        }
-        if (!isHandlingEmergencyMoves) {
-            isHandlingEmergencyMoves = true;
-            processNextEmergencyMove();
-        }
-        return true;
-    }
-
-    // Process emergency moves in queue
-    public void processNextEmergencyMove() {
-        if (emergencyMoveQueue.isEmpty()) {
-            isHandlingEmergencyMoves = false;
-            // All emergency moves complete, continue game
-            return;
-        }
-        int playerIndex = emergencyMoveQueue.remove(0);
-        Player player = players.get(playerIndex);
-        Tile currentTile = player.getCurrentTile();
-        if (currentTile == null || currentTile.getState() != TileState.SUNK) {
-            processNextEmergencyMove();
-            return;
-        }
-        // Get all available adjacent tiles
-        List<Tile> availableTiles = new ArrayList<>();
-        boolean isExplorer = player.getRole() instanceof Model.Role.Explorer;
-        for (Tile tile : mapController.getMapView().getAllTiles()) {
-            if (tile.getState() == TileState.SUNK)
-                continue;
-            boolean isReachable;
-            if (isExplorer) {
-                int rowDistance = Math.abs(currentTile.getRow() - tile.getRow());
-                int colDistance = Math.abs(currentTile.getCol() - tile.getCol());
-                isReachable = rowDistance <= 1 && colDistance <= 1;
-            } else {
-                isReachable = currentTile.isAdjacentTo(tile);
-            }
-            if (isReachable) {
-                availableTiles.add(tile);
-            }
-        }
-        if (availableTiles.isEmpty()) {
-            endGameWithLose("Player " + (playerIndex + 1) + " is on a sunken tile and cannot move to another tile, game over!");
-            isHandlingEmergencyMoves = false;
-            emergencyMoveQueue.clear();
-            return;
-        }
-        JOptionPane.showMessageDialog(null,
-                "Player " + (playerIndex + 1) + "'s tile has sunk!\nPlease click an adjacent available tile to move.",
-                "Emergency Move",
-                JOptionPane.WARNING_MESSAGE);
-        mapController.enterEmergencyMoveMode(playerIndex, availableTiles);
-    }
-
-    // performEmergencyMove finished moving
-    public boolean performEmergencyMove(int playerIndex, Tile targetTile) {
-        Player player = players.get(playerIndex);
-        Tile currentTile = player.getCurrentTile();
-        if (currentTile == null || currentTile.getState() != TileState.SUNK) {
-            return true;
-        }
-        boolean isExplorer = player.getRole() instanceof Model.Role.Explorer;
-        boolean isValidTarget = false;
-        if (isExplorer) {
-            int rowDistance = Math.abs(currentTile.getRow() - targetTile.getRow());
-            int colDistance = Math.abs(currentTile.getCol() - targetTile.getCol());
-            isValidTarget = rowDistance <= 1 && colDistance <= 1;
-        } else {
-            isValidTarget = currentTile.isAdjacentTo(targetTile);
-        }
-        if (!isValidTarget || targetTile.getState() == TileState.SUNK) {
-            JOptionPane.showMessageDialog(null, "Cannot move to this tile!");
+    private boolean submit(GameAction action) {
+        ActionResult result = engine.execute(action);
+        if (!result.isSuccess()) {
+            LOG.debug(() -> "Refused " + action + ": " + result);
+            JOptionPane.showMessageDialog(null, result.getDescription(), "Action Refused", JOptionPane.WARNING_MESSAGE);
             return false;
         }
-        mapController.getMapView().hidePlayerImage(currentTile.getRow(), currentTile.getCol(), playerIndex);
-        player.setCurrentTile(targetTile);
-        String roleName = player.getRole().getClass().getSimpleName().toLowerCase();
-        String playerImagePath = "src/resources/Player/" + roleName + "2.png";
-        mapController.getMapView().showPlayerImage(targetTile.getRow(), targetTile.getCol(), playerImagePath,
-                playerIndex);
-        System.out.println("Emergency move completed");
+        onEngineChanged();
         return true;
     }
 
+    // ====== Rendering ======
+
     /**
-     * Check and handle emergency moves for all players
-     * 
-     * @return If all players have successfully moved, return true, otherwise return false
+     * Redraw the views after the engine changed, then prompt for whatever the engine waits on
      */
-    private boolean checkAndHandleEmergencyMoves() {
-        System.out.println("\n========== Checking Emergency Moves ==========");
-        boolean allSuccess = true;
-
-        List<Integer> playersToMove = new ArrayList<>();
-        for (int i = 0; i < players.size(); i++) {
-            Player player = players.get(i);
-            if (player.getCurrentTile() != null && player.getCurrentTile().getState() == TileState.SUNK) {
-                playersToMove.add(i);
-            }
-        }
-
-        for (int playerIndex : playersToMove) {
-            if (!handleEmergencyMove(playerIndex)) {
-                allSuccess = false;
-                break;
-            }
-        }
-
-        System.out.println("========== Emergency Move Check Complete ==========\n");
-        return allSuccess;
-    }
-
-    public void startNewTurn() {
-        currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
-        PlayerInfoView currentPlayerView = playerInfoViews.get(currentPlayerIndex);
-        currentPlayerView.setActionPoints(MAX_ACTIONS_PER_TURN);
-        updatePlayerView(currentPlayerIndex);
-
-        for (int i = 0; i < playerInfoViews.size(); i++) {
-            playerInfoViews.get(i).setButtonsEnabled(i == currentPlayerIndex);
-        }
-
-        if (currentWaterLevel >= 10) {
-            System.out.println("\n========== Game Over ==========");
-            System.out.println("Water level has reached 10, game over!");
-            JOptionPane.showMessageDialog(null, "Water level has reached 10, game over!");
-            endGameWithLose("Water level has reached 10, game over!");
-            return;
-        }
-
-        System.out.println("\n========== Drawing Flood Cards ==========");
-        int floodCardCount;
-        if (currentWaterLevel <= 2) {
-            floodCardCount = 2;
-        } else if (currentWaterLevel <= 5) {
-            floodCardCount = 3;
-        } else if (currentWaterLevel <= 7) {
-            floodCardCount = 4;
-        } else {
-            floodCardCount = 5;
+    private void onEngineChanged() {
+        if (engine.getTurnCount() != shownTurn) {
+            shownTurn = engine.getTurnCount();
+            AudioManager.getInstance().playSoundEffect(SoundEffect.CARD_DRAW);
         }
+        refreshViews();
 
-        System.out.println("Current water level: " + currentWaterLevel + ", need to draw " + floodCardCount + " flood cards");
-
-        for (int i = 0; i < floodCardCount; i++) {
-            FloodCard card = floodDeck.draw();
-            if (card != null) {
-                Tile targetTile = card.getTargetTile();
-                TileState beforeState = targetTile.getState();
-                card.use(floodDeck);
-                floodDeck.discard(card);
-
-                String stateMsg = "";
-                switch (targetTile.getState()) {
-                    case FLOODED:
-                        stateMsg = "flooded";
-                        break;
-                    case SUNK:
-                        stateMsg = "sunken";
-                        break;
-                    default:
-                        stateMsg = "normal";
-                        break;
-                }
-
-                String stateChange = "";
-                if (beforeState == TileState.NORMAL && targetTile.getState() == TileState.FLOODED) {
-                    stateChange = "normal -> flooded";
-                } else if (beforeState == TileState.FLOODED && targetTile.getState() == TileState.SUNK) {
-                    stateChange = "flooded -> sunken";
-                }
-
-                System.out.println("[Log] Flood card drawn: " + targetTile.getName() +
-                        " [Coordinates: " + targetTile.getRow() + "," + targetTile.getCol() + "]" +
-                        ", State change: " + stateChange +
-                        ", Current state: " + stateMsg);
-
-                if (targetTile.getState() == TileState.SUNK) {
-                    System.out.println("[Log] Tile " + targetTile.getName() + " has sunk, checking if players need emergency movement");
-                    for (int j = 0; j < players.size(); j++) {
-                        Player player = players.get(j);
-                        if (player.getCurrentTile().equals(targetTile)) {
-                            System.out.println("[Log] Player " + (j + 1) + " is on sunken tile, needs emergency movement");
-                            if (!handleEmergencyMove(j)) {
-                                System.out.println("[Log] Player " + (j + 1) + " cannot move, game over");
-                                endGameWithLose("Player " + (j + 1) + " is on a sunken tile and cannot move to another tile, game over!");
-                                return;
-                            }
-                        }
-                    }
-                }
-            } else {
-                System.out.println("[Warning] Flood deck is empty!");
-            }
+        if (waterLevelRisen) {
+            waterLevelRisen = false;
+            JOptionPane.showMessageDialog(null, "Water level has risen! Current water level: "
+                    + waterLevel.getCurrentLevel());
         }
-        System.out.println("========== Flood Card Drawing Complete ==========");
 
-        checkGameOver();
-    }
-
-    private void checkGameOver() {
-        // 1. Fool's Landing sinks
-        Tile foolsLanding = null;
-        for (Tile tile : mapController.getMapView().getAllTiles()) {
-            if (tile.getName().name().equals("FOOLS_LANDING")) {
-                foolsLanding = tile;
+        switch (engine.getPhase()) {
+            case DISCARD:
+                cardController.enableDiscardMode(engine.getPendingDiscardPlayerIndex());
                 break;
-            }
-        }
-        if (foolsLanding == null || foolsLanding.getState() == TileState.SUNK) {
-            endGameWithLose("Fool's Landing has sunk, game over!");
-            return;
-        }
-
-        // 2. Treasure tiles all sink and corresponding treasures not collected
-        // Temple (Earth treasure)
-        if (!treasureDeck.isTreasureCollected(Model.Enumeration.TreasureType.EARTH)) {
-            boolean temple1Sunk = isTileSunk("TEMPLE_OF_THE_MOON");
-            boolean temple2Sunk = isTileSunk("TEMPLE_OF_THE_SUN");
-            if (temple1Sunk && temple2Sunk) {
-                endGameWithLose("All temples have sunk and Earth treasure not collected, game over!");
-                return;
-            }
-        }
-        // Cave (Fire treasure)
-        if (!treasureDeck.isTreasureCollected(Model.Enumeration.TreasureType.FIRE)) {
-            boolean cave1Sunk = isTileSunk("CAVE_OF_SHADOWS");
-            boolean cave2Sunk = isTileSunk("CAVE_OF_EMBERS");
-            if (cave1Sunk && cave2Sunk) {
-                endGameWithLose("All caves have sunk and Fire treasure not collected, game over!");
-                return;
-            }
-        }
-        // Garden (Wind treasure)
-        if (!treasureDeck.isTreasureCollected(Model.Enumeration.TreasureType.WIND)) {
-            boolean garden1Sunk = isTileSunk("WHISPERING_GARDEN");
-            boolean garden2Sunk = isTileSunk("HOWLING_GARDEN");
-            if (garden1Sunk && garden2Sunk) {
-                endGameWithLose("All gardens have sunk and Wind treasure not collected, game over!");
-                return;
-            }
-        }
-        // Palace (Water treasure)
-        if (!treasureDeck.isTreasureCollected(Model.Enumeration.TreasureType.WATER)) {
-            boolean palace1Sunk = isTileSunk("CORAL_PALACE");
-            boolean palace2Sunk = isTileSunk("TIDAL_PALACE");
-            if (palace1Sunk && palace2Sunk) {
-                endGameWithLose("All palaces have sunk and Water treasure not collected, game over!");
-                return;
-            }
-        }
-
-        // 3. Player's tile sinks and no adjacent tiles to move to
-        for (Player player : players) {
-            Tile tile = player.getCurrentTile();
-            if (tile != null && tile.getState() == TileState.SUNK) {
-                boolean canEscape = false;
-                for (Tile adj : tile.getAdjacentTiles()) {
-                    if (adj.getState() != TileState.SUNK) {
-                        canEscape = true;
-                        break;
-                    }
-                }
-                if (!canEscape) {
-                    endGameWithLose("Player's tile has sunk and no adjacent tiles to move to, game over!");
-                    return;
+            case EMERGENCY_MOVE:
+                cardController.exitDiscardMode();
+                startEmergencyMove();
+                break;
+            case GAME_OVER:
+                cardController.exitDiscardMode();
+                if (engine.isWon()) {
+                    endGameWithWin();
+                } else {
+                    endGameWithLose(engine.getLossCause().getDescription());
                 }
-            }
-        }
-    }
-
-    // Helper method: Check if a tile with the specified name is sunk
-    private boolean isTileSunk(String tileName) {
-        for (Tile tile : mapController.getMapView().getAllTiles()) {
-            if (tile.getName().name().equals(tileName)) {
-                return tile.getState() == TileState.SUNK;
-            }
-        }
-        return false;
-    }
-
-    // Game over handling for lose condition
-    public void endGameWithLose(String reason) {
-        for (PlayerInfoView view : playerInfoViews) {
-            view.setButtonsEnabled(false);
+                break;
+            default:
+                cardController.exitDiscardMode();
+                break;
         }
-        JOptionPane.showMessageDialog(null, reason);
-        System.out.println("========== Game Over ==========");
-        System.exit(0);
     }
 
-    public Player getCurrentPlayer() {
-        return players.get(currentPlayerIndex);
-    }
-
-    public PlayerInfoView getPlayerInfoView(int playerIndex) {
-        if (playerIndex >= 0 && playerIndex < playerInfoViews.size()) {
-            return playerInfoViews.get(playerIndex);
+    private void refreshViews() {
+        boolean actionPhase = engine.getPhase() == GamePhase.ACTION;
+        for (int i = 0; i < playerCount; i++) {
+            boolean current = i == engine.getCurrentPlayerIndex();
+            PlayerInfoView view = playerInfoViews.get(i);
+            view.setButtonsEnabled(current && actionPhase);
+            updatePlayerView(i);
         }
-        return null;
-    }
-
-    public void performAction(int playerIndex, String actionName) {
-        if (playerIndex != currentPlayerIndex) {
-            return;
+        if (mapController != null) {
+            displayPlayerPositions();
         }
-        PlayerInfoView playerView = playerInfoViews.get(playerIndex);
-        String actionText = playerView.getActionPointsLabel().getText();
-        int currentActions = Integer.parseInt(actionText.split(":")[1].trim());
-
-        boolean consumesAction = actionName.equals("Move") ||
-                actionName.equals("Give Cards") ||
-                actionName.equals("Treasure") ||
-                actionName.equals("Shore up"); // Added shore up to action point consuming operations
-
-        if (!consumesAction || currentActions > 0) {
-            boolean actionSuccess = true;
-
-            switch (actionName) {
-                case "Move":
-                    handleMove(playerIndex);
-                    break;
-                case "Shore up":
-                    handleShoreUp(playerIndex);
-                    break;
-                case "Give Cards":
-                    // First try to give cards, if successful, action points are handled in CardController
-                    actionSuccess = requestGiveCard(playerIndex);
-                    // Don't consume action points here
-                    break;
-                case "Special":
-                    // Special skills don't consume action points here, but after skill completion
-                    handleSpecialSkill(playerIndex);
-                    break;
-                case "Treasure":
-                    handleGetTreasure(playerIndex);
-                    break;
-                case "Skip":
-                    playerView.setActionPoints(0);
-                    currentActions = 0;
-                    endTurn(playerIndex);
-                    return;
-            }
-
-            if (currentActions == 0) {
-                endTurn(playerIndex);
-            }
+        for (TreasureType type : TreasureType.values()) {
+            updateTreasureViewStatus(getTreasureIndex(type), engine.getTreasureDeck().isTreasureCollected(type));
         }
     }
 
     /**
-     * Handle player movement
-     * 
-     * @param playerIndex Player index
-     */
-    private void handleMove(int playerIndex) {
-        System.out.println("\n========== Handling player movement ==========");
-        // Enter move mode, wait for player to click target position
-        mapController.enterMoveMode(playerIndex);
-        System.out.println("========== Movement handling completed ==========\n");
-    }
-
-    /**
-     * Handle treasure acquisition
-     * 
-     * @param playerIndex Player index
+     * Move each player's figure to the tile the engine has them on
      */
-    private void handleGetTreasure(int playerIndex) {
-        System.out.println("\n========== Handling treasure acquisition ==========");
-        Player player = players.get(playerIndex);
-        Tile currentTile = player.getCurrentTile();
-
-        // Count the number of each treasure card the player has
-        Map<TreasureType, Integer> treasureCardCounts = countTreasureCards(player);
-
-        // Check if player is at corresponding treasure location
-        TreasureType matchingTreasureType = getTreasureTypeForTile(currentTile.getName());
-
-        if (matchingTreasureType == null) {
-            System.out.println("Current position is not a treasure location");
-            JOptionPane.showMessageDialog(null, "Current position is not a treasure location, cannot acquire treasure!");
-            return;
-        }
-
-        // Check if player has enough treasure cards
-        Integer cardCount = treasureCardCounts.getOrDefault(matchingTreasureType, 0);
-        if (cardCount < 4) {
-            System.out.println("Not enough treasure cards, need 4 " + matchingTreasureType.getDisplayName() + " treasure cards, currently only have " + cardCount);
-            JOptionPane.showMessageDialog(null,
-                    "Not enough treasure cards, need 4 " + matchingTreasureType.getDisplayName() + " treasure cards, currently only have " + cardCount);
-            return;
-        }
-
-        // Remove 4 treasure cards
-        List<Card> cardsToRemove = new ArrayList<>();
-        int removed = 0;
-
-        for (Card card : player.getHandCard().getCards()) {
-            if (card instanceof TreasureCard) {
-                TreasureCard treasureCard = (TreasureCard) card;
-                if (treasureCard.getTreasureType() == matchingTreasureType && removed < 4) {
-                    cardsToRemove.add(card);
-                    removed++;
-                }
+    private void displayPlayerPositions() {
+        MapView mapView = mapController.getMapView();
+        List<Player> players = engine.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            Tile tile = player.getCurrentTile();
+            if (tile == shownTiles[i]) {
+                continue;
             }
-        }
-
-        // Remove these cards from player's hand (directly destroy, not discard)
-        for (Card card : cardsToRemove) {
-            player.getHandCard().removeCard(card);
-            playerInfoViews.get(playerIndex).removeCard(card);
-            // No longer call treasureDeck.discard(card);
-        }
-
-        // Record treasure collection
-        treasureDeck.recordTreasureCollection(matchingTreasureType);
-
-        // Update treasure view
-        int treasureIndex = getTreasureIndex(matchingTreasureType);
-        updateTreasureViewStatus(treasureIndex, true);
-
-        System.out.println("Successfully acquired treasure: " + matchingTreasureType.getDisplayName());
-        JOptionPane.showMessageDialog(null, "Successfully acquired treasure: " + matchingTreasureType.getDisplayName() + "!");
-
-        // Check if all treasures have been collected
-        if (treasureDeck.allTreasuresCollected()) {
-            System.out.println("All treasures collected!");
-            JOptionPane.showMessageDialog(null, "Congratulations! All treasures collected! Now head to the helipad to escape the island!");
-        }
-
-        // Consume one action point
-        PlayerInfoView playerView = playerInfoViews.get(playerIndex);
-        String actionText = playerView.getActionPointsLabel().getText();
-        int currentActions = Integer.parseInt(actionText.split(":")[1].trim());
-        playerView.setActionPoints(currentActions - 1);
-
-        // New: If action points reach 0, automatically switch turns
-        if (currentActions - 1 == 0) {
-            endTurn(playerIndex);
-        }
-
-        System.out.println("========== Treasure acquisition handling completed ==========\n");
-    }
-
-    /**
-     * Count the number of each treasure card a player has
-     * 
-     * @param player The player
-     * @return Count of each treasure card type
-     */
-    private Map<TreasureType, Integer> countTreasureCards(Player player) {
-        Map<TreasureType, Integer> treasureCardCounts = new HashMap<>();
-
-        for (Card card : player.getHandCard().getCards()) {
-            if (card instanceof TreasureCard) {
-                TreasureCard treasureCard = (TreasureCard) card;
-                TreasureType type = treasureCard.getTreasureType();
-                treasureCardCounts.put(type, treasureCardCounts.getOrDefault(type, 0) + 1);
+            if (shownTiles[i] != null) {
+                mapView.hidePlayerImage(shownTiles[i].getRow(), shownTiles[i].getCol(), i);
             }
+            String playerImagePath = MapView.pawnImagePath(player.getRole().getClass().getSimpleName());
+            mapView.showPlayerImage(tile.getRow(), tile.getCol(), playerImagePath, i);
+            shownTiles[i] = tile;
+            int playerNumber = i + 1;
+            LOG.debug(() -> String.format("Player %d (%s) on %s [%d, %d]", playerNumber,
+                    player.getRole().getClass().getSimpleName(), tile.getName(), tile.getRow(), tile.getCol()));
         }
+    }
 
-        return treasureCardCounts;
+    // The engine raises the level mid-action; the dialog waits until the action is drawn
+    private void onWaterLevelRisen(WaterLevel level) {
+        waterLevelRisen = true;
     }
 
-    /**
-     * Get the treasure type corresponding to a tile name
-     * 
-     * @param tileName Tile name
-     * @return Corresponding treasure type, or null if not a treasure location
-     */
-    private TreasureType getTreasureTypeForTile(TileName tileName) {
-        switch (tileName) {
-            case TEMPLE_OF_THE_MOON:
-            case TEMPLE_OF_THE_SUN:
-                return TreasureType.EARTH; // Earth treasure - temples
-            case WHISPERING_GARDEN:
-            case HOWLING_GARDEN:
-                return TreasureType.WIND; // Wind treasure - gardens
-            case CAVE_OF_SHADOWS:
-            case CAVE_OF_EMBERS:
-                return TreasureType.FIRE; // Fire treasure - caves
-            case CORAL_PALACE:
-            case TIDAL_PALACE:
-                return TreasureType.WATER; // Water treasure - palaces
-            default:
-                return null; // Not a treasure location
+    private void onTileStateChanged(Tile tile) {
+        LOG.debug(() -> "Tile " + tile.getName() + " [" + tile.getRow() + "," + tile.getCol() + "] is now " + tile.getState());
+        if (tile.getState() == TileState.FLOODED) {
+            AudioManager.getInstance().playSoundEffect(SoundEffect.FLOOD);
+        } else if (tile.getState() == TileState.SUNK) {
+            AudioManager.getInstance().playSoundEffect(SoundEffect.SINK);
         }
     }
 
     /**
      * Get the view index for a treasure type
-     * 
+     *
      * @param treasureType Treasure type
      * @return Treasure view index
      */
@@ -814,7 +299,7 @@ public class GameController {
 
     /**
      * Update treasure view status
-     * 
+     *
      * @param treasureIndex Treasure index
      * @param found Whether treasure has been found
      */
@@ -826,399 +311,199 @@ public class GameController {
                 return;
             }
         }
-        System.out.println("Unable to find TreasureView, treasure status update failed");
+        LOG.warn("Unable to find TreasureView, treasure status update failed");
     }
 
+    // ====== Emergency Moves ======
+
     /**
-     * Move player to specified position
-     * 
-     * @param playerIndex Player index
-     * @param row Target row
-     * @param col Target column
+     * Ask the next stranded player to swim to a neighbouring tile
      */
-    public void movePlayer(int playerIndex, int row, int col) {
-        if (playerIndex < 0 || playerIndex >= players.size()) {
-            return;
-        }
-
-        Player player = players.get(playerIndex);
-        Tile currentTile = player.getCurrentTile();
-        System.out.printf("Player %d current position: %s [%d, %d]\n",
-                playerIndex + 1,
-                currentTile.getName(),
-                currentTile.getRow(),
-                currentTile.getCol());
-
-        // Get target tile object (unique Tile)
-        Tile targetTile = mapController.getMapView().getTile(row, col);
-        if (targetTile != null) {
-            // Hide player image at original position
-            mapController.getMapView().hidePlayerImage(currentTile.getRow(), currentTile.getCol(), playerIndex);
-
-            // Update player position
-            player.setCurrentTile(targetTile);
-
-            // Show player image at new position
-            String roleName = player.getRole().getClass().getSimpleName().toLowerCase();
-            String playerImagePath = "src/resources/Player/" + roleName + "2.png";
-            mapController.getMapView().showPlayerImage(row, col, playerImagePath, playerIndex);
-
-            // Decrease action points
-            PlayerInfoView playerView = playerInfoViews.get(playerIndex);
-            String actionText = playerView.getActionPointsLabel().getText();
-            int currentActions = Integer.parseInt(actionText.split(":")[1].trim());
-            playerView.setActionPoints(currentActions - 1);
-
-            System.out.printf("Player %d moved to: %s [%d, %d]\n",
-                    playerIndex + 1,
-                    targetTile.getName(),
-                    targetTile.getRow(),
-                    targetTile.getCol());
-
-            // Check if action points reached 0, if so automatically end turn
-            if (currentActions - 1 == 0) {
-                endTurn(playerIndex);
-            }
-        }
-    }
-
-    public void endTurn(int playerIndex) {
-        Player currentPlayer = players.get(playerIndex);
-
-        // Draw two treasure cards at end of turn
-        List<Card> drawnCards = new ArrayList<>();
-        for (int i = 0; i < 2; i++) {
-            Card card = treasureDeck.draw();
-            if (card != null) {
-                drawnCards.add(card);
-                // Add cards directly to player's hand without checking hand limit
-                currentPlayer.getHandCard().addCardWithoutCheck(card);
-                PlayerInfoView playerInfoView = playerInfoViews.get(playerIndex);
-                cardController.addCard(playerInfoView, card);
-            }
-        }
-
-        // Check for WaterRise cards and use them immediately
-        List<Card> cards = currentPlayer.getHandCard().getCards();
-        for (Card card : new ArrayList<>(cards)) {
-            if (card instanceof WaterRiseCard) {
-                ((WaterRiseCard) card).useCard();
-                currentPlayer.getHandCard().removeCard(card);
-                playerInfoViews.get(playerIndex).removeCard(card);
-                treasureDeck.discard(card);
-                // Update water level
-                currentWaterLevel++;
-                waterLevelView.updateWaterLevel(currentWaterLevel);
-                JOptionPane.showMessageDialog(null, "Water level has risen by one! Current water level: " + currentWaterLevel);
-            }
-        }
-
-        // Check hand size, if over 5 cards, enter discard phase
-        int cardCount = currentPlayer.getHandCard().getCards().size();
-        System.out.println("Current player hand size: " + cardCount); // Debug info
-
-        if (cardCount > 5) {
-            int cardsToDiscard = cardCount - 5;
-            System.out.println("Need to discard " + cardsToDiscard + " cards"); // Debug info
-            PlayerInfoView playerView = playerInfoViews.get(playerIndex);
-
-            // Disable all action buttons, only allow card selection
-            playerView.setButtonsEnabled(false);
-
-            // Enable card discard mode
-            System.out.println("Preparing to enter discard mode, current player: " + playerIndex); // Debug info
-            cardController.enableDiscardMode(playerView, cardsToDiscard);
-            System.out.println("Entered discard mode"); // Debug info
-            return; // Don't start new turn, wait for player to discard cards
-        }
-
-        // Check if action points are 0, if so start new turn
-        PlayerInfoView playerView = playerInfoViews.get(playerIndex);
-        String actionText = playerView.getActionPointsLabel().getText();
-        int currentActions = Integer.parseInt(actionText.split(":")[1].trim());
-
-        if (currentActions == 0) {
-            // Only start new turn directly if no discarding is needed
-            startNewTurn();
-        }
+    private void startEmergencyMove() {
+        int playerIndex = engine.getPendingEmergencyPlayerIndex();
+        JOptionPane.showMessageDialog(null,
+                "Player " + (playerIndex + 1) + "'s tile has sunk!\nPlease click an adjacent available tile to move.",
+                "Emergency Move",
+                JOptionPane.WARNING_MESSAGE);
+        mapController.enterEmergencyMoveMode(playerIndex, engine.getEmergencyMoveTiles(playerIndex));
     }
 
-    // Add method to set MapView
-    public void setMapView(MapView mapView) {
-        System.out.println("\n========== Setting MapView ==========");
-        System.out.println("MapView object: " + (mapView != null ? "not null" : "null"));
-        this.tilePosition = mapView.getTilePosition();
-        this.mapController = new MapController(this, mapView);
-
-        // Reinitialize flood deck each time map is set
-        List<Tile> allTiles = mapView.getAllTiles();
-        this.floodDeck = new FloodDeck(allTiles);
-        System.out.println("tilePosition object: " + (this.tilePosition != null ? "not null" : "null"));
-        if (this.tilePosition != null) {
-            Map<String, int[]> positions = this.tilePosition.getAllTilePositions();
-            System.out.println("Available tiles count: " + (positions != null ? positions.size() : 0));
-            if (positions != null) {
-                System.out.println("Available tiles list:");
-                positions.forEach((name, pos) -> System.out.printf("  - %s: [%d, %d]\n", name, pos[0], pos[1]));
-            }
-            // Initialize player positions after setting tilePosition
-            System.out.println("Initializing player positions...");
-            initializePlayerPositions(mapView);
-        }
-        System.out.println("========== MapView setup completed ==========\n");
+    /**
+     * Swim a stranded player to a tile chosen on the map
+     *
+     * @param playerIndex Player index
+     * @param targetTile  Destination tile
+     * @return Returns true if the move was made
+     */
+    public boolean performEmergencyMove(int playerIndex, Tile targetTile) {
+        mapController.exitEmergencyMoveMode();
+        return submit(GameAction.emergencyMove(playerIndex, targetTile));
     }
 
-    // Get position of specific tile
-    public int[] getTilePosition(String tileName) {
-        if (tilePosition != null) {
-            return tilePosition.getTilePosition(tileName);
-        }
-        return null;
-    }
+    // ====== Game Over ======
 
-    // Get all tile position information
-    public Map<String, int[]> getAllTilePositions() {
-        if (tilePosition != null) {
-            return tilePosition.getAllTilePositions();
+    // Game over handling for lose condition
+    public void endGameWithLose(String reason) {
+        for (PlayerInfoView view : playerInfoViews) {
+            view.setButtonsEnabled(false);
         }
-        return null;
+        JOptionPane.showMessageDialog(null, reason);
+        LOG.info("========== Game Over ==========");
+        System.exit(0);
     }
 
-    /**
-     * Initialize player positions
-     * Randomly assign players to different tiles
-     */
-    private void initializePlayerPositions(MapView mapView) {
-        System.out.println("\n========== Starting player position initialization ==========");
-        System.out.println("Current player count: " + players.size());
-
-        if (tilePosition == null) {
-            System.err.println("Error: tilePosition not initialized");
-            System.out.println("tilePosition object: " + (tilePosition != null ? "not null" : "null"));
-            System.out.println("========== Player position initialization failed ==========\n");
-            return;
+    public void endGameWithWin() {
+        for (PlayerInfoView view : playerInfoViews) {
+            view.setButtonsEnabled(false);
         }
-
-        // Get all available tile positions
-        Map<String, int[]> allPositions = tilePosition.getAllTilePositions();
-        System.out.println("Retrieved tile position info: " + (allPositions != null ? "not null" : "null"));
-
-        if (allPositions == null || allPositions.isEmpty()) {
-            System.err.println("Error: No available tile positions");
-            System.out.println("Available tiles count: " + (allPositions != null ? allPositions.size() : 0));
-            System.out.println("========== Player position initialization failed ==========\n");
-            return;
+        JOptionPane.showMessageDialog(null, "Congratulations! You collected all treasures and escaped, you win!");
+        LOG.info("========== Game Victory ==========");
+        // Return to main menu
+        View.MainView mainView = View.MainView.getInstance();
+        if (mainView != null) {
+            mainView.showStartScreen();
         }
+    }
 
-        System.out.println("Available tiles count: " + allPositions.size());
-        System.out.println("Available tiles list:");
-        allPositions.forEach((name, pos) -> System.out.printf("  - %s: [%d, %d]\n", name, pos[0], pos[1]));
-
-        // Convert tile positions to list for random selection
-        List<String> availableTiles = new ArrayList<>(allPositions.keySet());
-        System.out.println("Tile order before shuffling:");
-        availableTiles.forEach(tile -> System.out.println("  - " + tile));
-
-        java.util.Collections.shuffle(availableTiles); // Random shuffle
-
-        System.out.println("Tile order after shuffling:");
-        availableTiles.forEach(tile -> System.out.println("  - " + tile));
+    // ====== Actions ======
 
-        // Assign positions to each player
-        System.out.println("\nStarting player position assignment:");
-        for (int i = 0; i < players.size(); i++) {
-            if (i >= availableTiles.size()) {
-                System.err.println("Warning: Not enough available tiles");
+    /**
+     * Start an action chosen from a player panel
+     * Actions that need a target open move mode or a selection dialog and finish later
+     *
+     * @param playerIndex Player index
+     * @param action      Kind of the action button pressed
+     */
+    public void performAction(int playerIndex, GameAction.Kind action) {
+        switch (action) {
+            case MOVE:
+                handleMove(playerIndex);
                 break;
-            }
-
-            String tileName = availableTiles.get(i);
-            int[] position = allPositions.get(tileName);
-
-            System.out.printf("Assigning position to player %d:\n", i + 1);
-            System.out.printf("  Selected tile: %s\n", tileName);
-            System.out.printf("  Tile position: [%d, %d]\n", position[0], position[1]);
-
-            // Use MapView's Tile object
-            Tile tile = mapView.getTile(position[0], position[1]);
-            players.get(i).setCurrentTile(tile);
-
-            // Show player image
-            String roleName = players.get(i).getRole().getClass().getSimpleName().toLowerCase();
-            String playerImagePath = "src/resources/Player/" + roleName + "2.png";
-            mapView.showPlayerImage(position[0], position[1], playerImagePath, i);
-
-            System.out.printf("  Player %d position set\n", i + 1);
+            case SHORE_UP:
+                handleShoreUp(playerIndex);
+                break;
+            case GIVE_CARD:
+                requestGiveCard(playerIndex);
+                break;
+            case FLY:
+                handlePilotFlight(playerIndex);
+                break;
+            case NAVIGATE:
+                handleNavigatorAbility(playerIndex);
+                break;
+            case CAPTURE_TREASURE:
+                handleGetTreasure(playerIndex);
+                break;
+            case SKIP:
+                submit(GameAction.skip(playerIndex));
+                break;
+            default:
+                throw new IllegalArgumentException("No action button starts " + action);
         }
-
-        // Display all player position information
-        displayPlayerPositions();
-        System.out.println("========== Player position initialization completed ==========\n");
     }
 
     /**
-     * Display all player position information
+     * Handle player movement
+     *
+     * @param playerIndex Player index
      */
-    private void displayPlayerPositions() {
-        System.out.println("\n========== Player Position Information ==========");
-        for (int i = 0; i < players.size(); i++) {
-            Player player = players.get(i);
-            Tile currentTile = player.getCurrentTile();
-            if (currentTile != null) {
-                System.out.printf("Player %d (%s):\n",
-                        i + 1,
-                        player.getRole() != null ? player.getRole().getClass().getSimpleName() : "No role assigned");
-                System.out.printf("  Tile: %s\n", currentTile.getName());
-                System.out.printf("  Position: [%d, %d]\n", currentTile.getRow(), currentTile.getCol());
-                System.out.printf("  State: %s\n", currentTile.getState());
-            } else {
-                System.out.printf("Player %d: No position assigned\n", i + 1);
-            }
-        }
-        System.out.println("================================\n");
+    private void handleMove(int playerIndex) {
+        LOG.debug("========== Handling player movement ==========");
+        // Enter move mode, wait for player to click target position
+        mapController.enterMoveMode(playerIndex, engine.getMovableTiles(playerIndex), false);
+        LOG.debug("========== Movement handling completed ==========");
     }
 
     /**
-     * Check if player can shore up specified tile
-     * 
+     * Move player to specified position
+     *
      * @param playerIndex Player index
-     * @param targetTile  Target tile
-     * @return Returns true if can shore up
+     * @param row Target row
+     * @param col Target column
      */
-    public boolean canShoreUpTile(int playerIndex, Tile targetTile) {
-        if (playerIndex != currentPlayerIndex || targetTile == null) {
-            return false;
-        }
-        Player player = players.get(playerIndex);
-        Role role = player.getRole();
-        Tile currentTile = player.getCurrentTile();
-
-        // Check if player has sandbag card
-        boolean hasSandbag = false;
-        for (Card card : player.getHandCard().getCards()) {
-            if (card instanceof SandbagCard) {
-                hasSandbag = true;
-                break;
-            }
-        }
-
-        // If has sandbag card, can shore up any flooded tile
-        if (hasSandbag && targetTile.getState() == TileState.FLOODED) {
-            return true;
+    public void movePlayer(int playerIndex, int row, int col) {
+        Tile targetTile = engine.getTile(row, col);
+        mapController.exitMoveMode();
+        if (submit(GameAction.move(playerIndex, targetTile))) {
+            LOG.debug(() -> String.format("Player %d moved to: %s [%d, %d]", playerIndex + 1, targetTile.getName(), row, col));
         }
-
-        // Check if is Explorer
-        boolean isExplorer = role instanceof Model.Role.Explorer;
-
-        // Calculate Manhattan distance
-        int distance = Math.abs(currentTile.getRow() - targetTile.getRow()) +
-                Math.abs(currentTile.getCol() - targetTile.getCol());
-
-        // If Explorer, allow diagonal shore up (distance 2)
-        boolean isAdjacent = isExplorer ? (Math.abs(currentTile.getRow() - targetTile.getRow()) <= 1 &&
-                Math.abs(currentTile.getCol() - targetTile.getCol()) <= 1)
-                : (currentTile.isAdjacentTo(targetTile) || currentTile.equals(targetTile));
-
-        boolean isShoreable = targetTile.isShoreable();
-        return isAdjacent && isShoreable;
     }
 
     /**
-     * Check if player can give card
-     * 
-     * @param fromPlayerIndex Giving player index
-     * @param toPlayerIndex   Receiving player index
-     * @param card            Card to give
-     * @return Returns true if can give card
+     * Fly the Pilot to specified position
+     *
+     * @param playerIndex Player index
+     * @param row Target row
+     * @param col Target column
      */
-    public boolean canGiveCard(int fromPlayerIndex, int toPlayerIndex, Card card) {
-        if (fromPlayerIndex != currentPlayerIndex ||
-                toPlayerIndex < 0 || toPlayerIndex >= players.size() ||
-                fromPlayerIndex == toPlayerIndex || card == null) {
-            return false;
+    public void flyPlayer(int playerIndex, int row, int col) {
+        Tile targetTile = engine.getTile(row, col);
+        mapController.exitMoveMode();
+        if (submit(GameAction.fly(playerIndex, targetTile))) {
+            LOG.debug(() -> String.format("Pilot %d flew to: %s [%d, %d]", playerIndex + 1, targetTile.getName(), row, col));
         }
-        Player fromPlayer = players.get(fromPlayerIndex);
-        Player toPlayer = players.get(toPlayerIndex);
-        boolean sameLocation = fromPlayer.getCurrentTile().equals(toPlayer.getCurrentTile());
-        boolean hasCard = fromPlayer.getHandCard().getCards().contains(card);
-        boolean handNotFull = !toPlayer.getHandCard().isFull();
-        return sameLocation && hasCard && handNotFull;
     }
 
     /**
-     * Check if player can use special skill
-     * 
+     * Handle treasure acquisition
+     *
      * @param playerIndex Player index
-     * @return Returns true if can use special skill
      */
-    public boolean canUseSpecialSkill(int playerIndex) {
-        if (playerIndex != currentPlayerIndex) {
-            return false;
-        }
-        Player player = players.get(playerIndex);
-        Role role = player.getRole();
-        if (role == null) {
-            return false;
+    private void handleGetTreasure(int playerIndex) {
+        LOG.debug("========== Handling treasure acquisition ==========");
+        TreasureType treasureType = TreasureType.forTile(engine.getPlayers().get(playerIndex).getCurrentTile().getName());
+        if (!submit(GameAction.captureTreasure(playerIndex))) {
+            return;
         }
-        String roleName = role.getClass().getSimpleName();
-        switch (roleName) {
-            case "Pilot":
-                return true;
-            case "Navigator":
-                return players.size() > 1;
-            case "Engineer":
-                return true;
-            case "Explorer":
-                return true;
-            case "Diver":
-                return true;
-            case "Messenger":
-                return true;
-            default:
-                return false;
+
+        LOG.info(() -> "Successfully acquired treasure: " + treasureType.getDisplayName());
+        JOptionPane.showMessageDialog(null, "Successfully acquired treasure: " + treasureType.getDisplayName() + "!");
+
+        // Check if all treasures have been collected
+        if (engine.getPhase() != GamePhase.GAME_OVER && engine.getTreasureDeck().allTreasuresCollected()) {
+            LOG.info("All treasures collected!");
+            JOptionPane.showMessageDialog(null, "Congratulations! All treasures collected! Now head to the helipad to escape the island!");
         }
+        LOG.debug("========== Treasure acquisition handling completed ==========");
     }
 
     /**
      * View layer calls this method to initiate card giving process
-     * 
-     * @return Returns true if successfully initiated card giving process, otherwise false
+     *
+     * @return Returns true if a card was given, otherwise false
      */
     public boolean requestGiveCard(int fromPlayerIndex) {
+        List<Player> players = engine.getPlayers();
         Player fromPlayer = players.get(fromPlayerIndex);
-        List<Integer> candidateIndexes = new ArrayList<>();
-        boolean sameLocation = false;
+        List<Card> handCards = fromPlayer.getHandCard().getCards();
+        if (handCards.isEmpty()) {
+            JOptionPane.showMessageDialog(null, "You have no cards to give!");
+            return false;
+        }
 
-        // Build player options list
+        // Players the engine lets this player give to
+        List<Integer> candidateIndexes = new ArrayList<>();
         List<String> playerOptionsList = new ArrayList<>();
-
-        // Iterate through all players
         for (int i = 0; i < players.size(); i++) {
-            if (i != fromPlayerIndex) {
+            if (engine.canGiveCard(fromPlayerIndex, i, handCards.get(0))) {
                 Player targetPlayer = players.get(i);
-                // Check if at same location
-                sameLocation = fromPlayer.getCurrentTile().equals(targetPlayer.getCurrentTile());
-                // If Messenger or at same location, can give card
-                if (fromPlayer.getRole() instanceof Model.Role.Messenger || sameLocation) {
-                    candidateIndexes.add(i);
-                    String location = sameLocation ? "(Same location)" : "(Different location)";
-                    playerOptionsList.add(String.format("Player %d - %s %s",
-                            i + 1,
-                            targetPlayer.getRole().getClass().getSimpleName(),
-                            location));
-                }
+                candidateIndexes.add(i);
+                boolean sameLocation = fromPlayer.getCurrentTile().equals(targetPlayer.getCurrentTile());
+                String location = sameLocation ? "(Same location)" : "(Different location)";
+                playerOptionsList.add(String.format("Player %d - %s %s",
+                        i + 1,
+                        targetPlayer.getRole().getClass().getSimpleName(),
+                        location));
             }
         }
 
-        // Add cancel option
-        playerOptionsList.add("Cancel");
-
         if (candidateIndexes.isEmpty()) {
             JOptionPane.showMessageDialog(null, "No players available to give cards to!");
             return false;
         }
 
-        // Convert List to array
+        // Add cancel option
+        playerOptionsList.add("Cancel");
         String[] playerOptions = playerOptionsList.toArray(new String[0]);
 
         // Let player select target player
@@ -1233,20 +518,13 @@ public class GameController {
                 playerOptions[0]);
 
         if (selectedOption == -1 || selectedOption == playerOptions.length - 1) {
-            System.out.println("[Log] Player canceled target player selection.");
+            LOG.debug("Player canceled target player selection.");
             return false;
         }
 
         // Get selected target player index
         int toPlayerIndex = candidateIndexes.get(selectedOption);
-        System.out.println("[Log] Player selected target player: " + (toPlayerIndex + 1));
-
-        // Get current player's hand cards
-        List<Card> handCards = fromPlayer.getHandCard().getCards();
-        if (handCards.isEmpty()) {
-            JOptionPane.showMessageDialog(null, "You have no cards to give!");
-            return false;
-        }
+        LOG.debug(() -> "Player selected target player: " + (toPlayerIndex + 1));
 
         // Build card options
         String[] cardOptions = new String[handCards.size() + 1];
@@ -1273,139 +551,122 @@ public class GameController {
                 cardOptions[0]);
 
         if (selectedCard == -1 || selectedCard == cardOptions.length - 1) {
-            System.out.println("[Log] Player canceled card selection.");
+            LOG.debug("Player canceled card selection.");
             return false;
         }
 
-        // Execute card giving
-        Card selectedCardObj = handCards.get(selectedCard);
-        cardController.pendingGiveCardPlayerIndex = fromPlayerIndex;
-        return cardController.giveCard(fromPlayerIndex, toPlayerIndex, selectedCardObj);
+        // The receiver may go over the hand limit; the engine then waits for a discard
+        return submit(GameAction.giveCard(fromPlayerIndex, toPlayerIndex, handCards.get(selectedCard)));
     }
 
+    // ====== Shore Up ======
+
     /**
      * Handle shore up action
-     * 
+     *
      * @param playerIndex Player index
      * @return Returns true if successfully initiated shore up action, otherwise false
      */
     public boolean handleShoreUp(int playerIndex) {
-        Player player = players.get(playerIndex);
-        Role role = player.getRole();
-
-        // Check if player has sandbag card
-        boolean hasSandbag = false;
-        for (Card card : player.getHandCard().getCards()) {
-            if (card instanceof SandbagCard) {
-                hasSandbag = true;
-                break;
-            }
-        }
-
-        // If no sandbag card, check if has enough action points
-        if (!hasSandbag) {
-            PlayerInfoView playerView = playerInfoViews.get(playerIndex);
-            String actionText = playerView.getActionPointsLabel().getText();
-            int currentActions = Integer.parseInt(actionText.split(":")[1].trim());
-
-            if (currentActions <= 0) {
-                System.out.println("[Log] Player doesn't have enough action points to shore up");
-                JOptionPane.showMessageDialog(null, "You don't have enough action points to shore up!");
-                return false;
-            }
+        List<Tile> shoreableTiles = engine.getShoreableTiles(playerIndex);
+        if (shoreableTiles.isEmpty()) {
+            JOptionPane.showMessageDialog(null, "No shoreable tiles around!", "Hint", JOptionPane.INFORMATION_MESSAGE);
+            return false;
         }
 
         // If Engineer, can shore up two tiles
-        if (role instanceof Model.Role.Engineer) {
-            System.out.println("[Log] Engineer can shore up two tiles");
+        if (engine.getPlayers().get(playerIndex).getRole() instanceof Model.Role.Engineer) {
+            LOG.debug("Engineer can shore up two tiles");
             JOptionPane.showMessageDialog(null, "As Engineer, you can shore up two tiles consecutively!");
-            engineerShoreUpCount = 0;
-            isEngineerShoreUpMode = true;
-            engineerSandbagConsumed = false;
-        } else {
-            isEngineerShoreUpMode = false;
         }
+        pendingShoreUpTile = null;
 
         // Enter shore up mode, wait for player to select tile to shore up
-        System.out.println("[Log] Entering shore up mode, please select tile to shore up");
-        mapController.enterShoreUpMode(playerIndex);
+        LOG.debug("Entering shore up mode, please select tile to shore up");
+        mapController.enterShoreUpMode(playerIndex, shoreableTiles);
         return true;
     }
 
     /**
-     * Handle special skill
-     * 
+     * Shore up specified tile
+     * An Engineer may pick a second tile before the shore up is made
+     *
      * @param playerIndex Player index
+     * @param row         Target row
+     * @param col         Target column
      */
-    private void handleSpecialSkill(int playerIndex) {
-        Player player = players.get(playerIndex);
-        Role role = player.getRole();
-
-        if (role == null) {
-            System.out.println("[Log] Player has no role, cannot use special skill");
-            return;
+    public void shoreUpTile(int playerIndex, int row, int col) {
+        LOG.debug("========== Starting tile shoring up ==========");
+        Tile targetTile = engine.getTile(row, col);
+        boolean isEngineer = engine.getPlayers().get(playerIndex).getRole() instanceof Model.Role.Engineer;
+        if (isEngineer && pendingShoreUpTile == null && engine.getShoreableTiles(playerIndex).size() > 1) {
+            int option = JOptionPane.showConfirmDialog(null,
+                    "Shore up a second tile with the same action?",
+                    "Engineer Ability",
+                    JOptionPane.YES_NO_OPTION);
+            if (option == JOptionPane.YES_OPTION) {
+                pendingShoreUpTile = targetTile;
+                List<Tile> remaining = engine.getShoreableTiles(playerIndex);
+                remaining.remove(targetTile);
+                mapController.enterShoreUpMode(playerIndex, remaining);
+                LOG.debug("Engineer can continue shoring up");
+                return;
+            }
         }
 
-        // Check if can use special skill
-        if (!role.canUseAbility()) {
-            System.out.println("[Log] Cannot use special skill currently");
-            JOptionPane.showMessageDialog(null, "Cannot use special skill currently!");
-            return;
+        Tile first = pendingShoreUpTile != null ? pendingShoreUpTile : targetTile;
+        Tile second = pendingShoreUpTile != null ? targetTile : null;
+        pendingShoreUpTile = null;
+        mapController.exitShoreUpMode();
+        if (submit(GameAction.shoreUp(playerIndex, first, second))) {
+            LOG.debug("Shore up action complete");
         }
+        LOG.debug("========== Tile shoring up complete ==========");
+    }
 
-        // Handle special skill based on role type
-        if (role instanceof Model.Role.Pilot) {
-            // Pilot can fly to any location
-            System.out.println("[Log] Pilot can use flying ability");
-            mapController.enterMoveMode(playerIndex);
-            role.useSpecialAbility();
-
-            // Pilot consumes one action point immediately after using special skill
-            PlayerInfoView playerView = playerInfoViews.get(playerIndex);
-            String actionText = playerView.getActionPointsLabel().getText();
-            int currentActions = Integer.parseInt(actionText.split(":")[1].trim());
-            playerView.setActionPoints(currentActions - 1);
-
-            // If action points exhausted, end turn
-            if (currentActions - 1 == 0) {
-                endTurn(playerIndex);
-            }
-        } else if (role instanceof Model.Role.Navigator) {
-            // Navigator can move other players
-            System.out.println("[Log] Navigator can use ability to move other players");
-            handleNavigatorAbility(playerIndex);
-        } else {
-            System.out.println("[Log] This role has no active special skill to use");
-            JOptionPane.showMessageDialog(null, "This role has no active special skill to use!");
+    // ====== Special Skills ======
+
+    /**
+     * Handle the Pilot's flight
+     *
+     * @param playerIndex Player index
+     */
+    private void handlePilotFlight(int playerIndex) {
+        // Pilot can fly to any location
+        List<Tile> destinations = new ArrayList<>();
+        for (Tile tile : engine.getAllTiles()) {
+            if (engine.canFly(playerIndex, tile)) {
+                destinations.add(tile);
+            }
+        }
+        if (destinations.isEmpty()) {
+            // Let the engine say why, e.g. the flight is already used this turn
+            Tile currentTile = engine.getPlayers().get(playerIndex).getCurrentTile();
+            submit(GameAction.fly(playerIndex, currentTile));
+            return;
         }
+        LOG.debug("Pilot can use flying ability");
+        mapController.enterMoveMode(playerIndex, destinations, true);
     }
 
     /**
      * Handle Navigator's special ability
-     * 
+     *
      * @param navigatorIndex Navigator player index
      */
     private void handleNavigatorAbility(int navigatorIndex) {
-        // Get all other players
-        List<Player> otherPlayers = new ArrayList<>();
+        List<Player> players = engine.getPlayers();
+
+        // Create player selection dialog
+        List<Integer> otherIndexes = new ArrayList<>();
+        List<String> playerOptionsList = new ArrayList<>();
         for (int i = 0; i < players.size(); i++) {
             if (i != navigatorIndex) {
-                otherPlayers.add(players.get(i));
+                otherIndexes.add(i);
+                playerOptionsList.add("Player " + (i + 1) + " (" + players.get(i).getRole().getClass().getSimpleName() + ")");
             }
         }
-
-        if (otherPlayers.isEmpty()) {
-            System.out.println("[Log] No other players to move");
-            JOptionPane.showMessageDialog(null, "No other players to move!");
-            return;
-        }
-
-        // Create player selection dialog
-        String[] playerOptions = new String[otherPlayers.size()];
-        for (int i = 0; i < otherPlayers.size(); i++) {
-            Player p = otherPlayers.get(i);
-            playerOptions[i] = "Player " + (players.indexOf(p) + 1) + " (" + p.getRole().getClass().getSimpleName() + ")";
-        }
+        String[] playerOptions = playerOptionsList.toArray(new String[0]);
 
         // Show player selection dialog
         int selectedPlayerIndex = JOptionPane.showOptionDialog(
@@ -1419,326 +680,208 @@ public class GameController {
                 playerOptions[0]);
 
         if (selectedPlayerIndex == -1) {
-            System.out.println("[Log] Player canceled selection");
+            LOG.debug("Player canceled selection");
             return;
         }
-
-        // Get selected player
-        Player targetPlayer = otherPlayers.get(selectedPlayerIndex);
-        int targetPlayerIndex = players.indexOf(targetPlayer);
-
-        // Set target player's move count to 2
-        PlayerInfoView targetPlayerView = playerInfoViews.get(targetPlayerIndex);
-        targetPlayerView.setActionPoints(2);
-
-        // Use Navigator's ability
-        Role navigatorRole = players.get(navigatorIndex).getRole();
-        if (navigatorRole != null) {
-            navigatorRole.useSpecialAbility();
-        }
+        int targetPlayerIndex = otherIndexes.get(selectedPlayerIndex);
 
         // Enter move mode, but moving target player
-        System.out.println("[Log] Entering Navigator move mode, moving player " + (targetPlayerIndex + 1));
+        LOG.debug(() -> "Entering Navigator move mode, moving player " + (targetPlayerIndex + 1));
         mapController.enterNavigatorMoveMode(navigatorIndex, targetPlayerIndex);
 
         // Show message
         JOptionPane.showMessageDialog(null,
                 "Player " + (targetPlayerIndex + 1) + " can now move twice!\n" +
-                        "After completing two moves, will consume one action point from Navigator.",
+                        "After completing the moves, will consume one action point from Navigator.",
                 "Navigator Ability",
                 JOptionPane.INFORMATION_MESSAGE);
     }
 
     /**
-     * Move other player to specified position (used by Navigator)
-     * 
+     * Move other player one or two steps (used by Navigator)
+     *
      * @param navigatorIndex    Navigator player index
      * @param targetPlayerIndex Target player index
-     * @param row               Target row
-     * @param col               Target column
+     * @param first             First destination
+     * @param second            Second destination, or null for a single step
      */
-    public void moveOtherPlayer(int navigatorIndex, int targetPlayerIndex, int row, int col) {
-        if (navigatorIndex < 0 || navigatorIndex >= players.size() ||
-                targetPlayerIndex < 0 || targetPlayerIndex >= players.size() ||
-                navigatorIndex == targetPlayerIndex) {
-            return;
+    public void moveOtherPlayer(int navigatorIndex, int targetPlayerIndex, Tile first, Tile second) {
+        mapController.exitNavigatorMoveMode();
+        if (submit(GameAction.navigate(navigatorIndex, targetPlayerIndex, first, second))) {
+            Tile targetTile = second != null ? second : first;
+            LOG.debug(() -> String.format("Navigator moved player %d to: %s [%d, %d]", targetPlayerIndex + 1, targetTile.getName(), targetTile.getRow(), targetTile.getCol()));
         }
+    }
 
-        Player targetPlayer = players.get(targetPlayerIndex);
-        Tile currentTile = targetPlayer.getCurrentTile();
-        System.out.printf("Player %d current position: %s [%d, %d]\n",
-                targetPlayerIndex + 1,
-                currentTile.getName(),
-                currentTile.getRow(),
-                currentTile.getCol());
-
-        // Get target tile object
-        Tile targetTile = mapController.getMapView().getTile(row, col);
-        if (targetTile != null) {
-            // Check if move is valid
-            if (isValidNavigatorMove(targetPlayer, targetTile)) {
-                // Hide player image at original position
-                mapController.getMapView().hidePlayerImage(currentTile.getRow(), currentTile.getCol(),
-                        targetPlayerIndex);
-
-                // Update player position
-                targetPlayer.setCurrentTile(targetTile);
-
-                // Show player image at new position
-                String roleName = targetPlayer.getRole().getClass().getSimpleName().toLowerCase();
-                String playerImagePath = "src/resources/Player/" + roleName + "2.png";
-                mapController.getMapView().showPlayerImage(row, col, playerImagePath, targetPlayerIndex);
-
-                System.out.printf("Navigator moved player %d to: %s [%d, %d]\n",
-                        targetPlayerIndex + 1,
-                        targetTile.getName(),
-                        targetTile.getRow(),
-                        targetTile.getCol());
-
-                // Decrease target player's move count
-                PlayerInfoView targetPlayerView = playerInfoViews.get(targetPlayerIndex);
-                String actionText = targetPlayerView.getActionPointsLabel().getText();
-                int currentActions = Integer.parseInt(actionText.split(":")[1].trim());
-                targetPlayerView.setActionPoints(currentActions - 1);
-
-                // If target player has no remaining moves, consume one action point from Navigator and exit move mode
-                if (currentActions - 1 == 0) {
-                    // Exit Navigator move mode
-                    mapController.exitNavigatorMoveMode();
-
-                    // Show message
-                    JOptionPane.showMessageDialog(null,
-                            "Target player has completed two moves!\n" +
-                                    "Consumed one action point from Navigator.",
-                            "Navigator Ability",
-                            JOptionPane.INFORMATION_MESSAGE);
-
-                    // Consume one action point from Navigator
-                    PlayerInfoView navigatorView = playerInfoViews.get(navigatorIndex);
-                    String navigatorActionText = navigatorView.getActionPointsLabel().getText();
-                    int navigatorActions = Integer.parseInt(navigatorActionText.split(":")[1].trim());
-                    navigatorView.setActionPoints(navigatorActions - 1);
-
-                    // If Navigator has no remaining action points, end turn
-                    if (navigatorActions - 1 == 0) {
-                        endTurn(navigatorIndex);
-                    }
-                } else {
-                    // Ask if want to continue second move
-                    int option = JOptionPane.showConfirmDialog(null,
-                            "Continue with second move?\nSelect 'No' will directly consume one action point from Navigator and end this ability.",
-                            "Navigator Ability",
-                            JOptionPane.YES_NO_OPTION);
-                    if (option == JOptionPane.NO_OPTION) {
-                        // Player chose not to continue second move
-                        mapController.exitNavigatorMoveMode();
-                        PlayerInfoView navigatorView = playerInfoViews.get(navigatorIndex);
-                        String navigatorActionText = navigatorView.getActionPointsLabel().getText();
-                        int navigatorActions = Integer.parseInt(navigatorActionText.split(":")[1].trim());
-                        navigatorView.setActionPoints(navigatorActions - 1);
-                        if (navigatorActions - 1 == 0) {
-                            endTurn(navigatorIndex);
-                        }
-                    } else {
-                        // Player chose to continue, notify can move once more
-                        JOptionPane.showMessageDialog(null,
-                                "Player " + (targetPlayerIndex + 1) + " can move 1 more time!",
-                                "Navigator Ability",
-                                JOptionPane.INFORMATION_MESSAGE);
-                    }
-                }
-            } else {
-                System.out.println("[Log] Invalid move: Target position unreachable");
-                JOptionPane.showMessageDialog(null, "Invalid move: Target position unreachable", "Move Error", JOptionPane.ERROR_MESSAGE);
-            }
+    // ====== Sandbag and Helicopter Cards ======
+
+    private void handleSandbagCard(int playerIndex) {
+        if (mapController != null) {
+            mapController.enterSandbagMode(playerIndex);
+        } else {
+            JOptionPane.showMessageDialog(null, "Map not initialized, cannot use sandbag card!");
         }
     }
 
     /**
-     * Check if Navigator moving other player is valid
-     * 
-     * @param targetPlayer Target player
-     * @param targetTile   Target tile
-     * @return Returns true if move is valid
+     * Use sandbag card to shore up any flooded tile
      */
-    private boolean isValidNavigatorMove(Player targetPlayer, Tile targetTile) {
-        // Only check if sunk, flooded tiles can be moved to
-        if (targetTile.getState() == TileState.SUNK) {
-            System.out.println("Target tile is sunk, cannot move");
-            return false;
+    public void sandbagShoreUpTile(int playerIndex, int row, int col) {
+        mapController.exitSandbagMode();
+        if (submit(GameAction.sandbag(playerIndex, engine.getTile(row, col)))) {
+            JOptionPane.showMessageDialog(null, "Successfully used sandbag card to repair tile!");
         }
+    }
 
-        Tile currentTile = targetPlayer.getCurrentTile();
-        if (currentTile == null) {
-            System.out.println("Cannot get current tile");
-            return false;
-        }
+    public void handleHelicopterCard(int playerIndex) {
+        LOG.debug("========== Handling Helicopter Card ==========");
+        LOG.debug(() -> "Player index: " + playerIndex);
 
-        // Check if target player is Pilot
-        boolean isPilot = targetPlayer.getRole() instanceof Model.Role.Pilot;
-        if (isPilot) {
-            return true;
+        // With every treasure collected and everyone on Fool's Landing, the card wins the game
+        if (engine.canEscape()) {
+            escape(playerIndex);
+            return;
         }
 
-        // Check if target player is Diver
-        boolean isDiver = targetPlayer.getRole().getClass().getSimpleName().equals("Diver");
-        if (isDiver) {
-            // Reuse MapController's BFS check
-            return mapController != null && mapController.isDiverReachable(currentTile, targetTile);
+        LOG.debug("Entering helicopter card usage mode");
+        // Enter helicopter card usage mode, wait for player to click target position
+        mapController.enterHelicopterMode(playerIndex);
+        LOG.debug("========== Helicopter Card Handling Complete ==========");
+    }
+
+    /**
+     * Handle helicopter card movement
+     *
+     * @param playerIndex Player using the helicopter card
+     * @param row Target row
+     * @param col Target column
+     */
+    public void handleHelicopterMove(int playerIndex, int row, int col) {
+        mapController.exitHelicopterMode();
+        if (engine.canEscape()) {
+            escape(playerIndex);
+            return;
         }
 
-        // Check if target player is Explorer
-        boolean isExplorer = targetPlayer.getRole() instanceof Model.Role.Explorer;
-        int rowDistance = Math.abs(currentTile.getRow() - targetTile.getRow());
-        int colDistance = Math.abs(currentTile.getCol() - targetTile.getCol());
-        if (isExplorer) {
-            return rowDistance <= 1 && colDistance <= 1;
+        Tile targetTile = engine.getTile(row, col);
+        List<Integer> passengers = choosePassengers(playerIndex);
+        if (submit(GameAction.helicopter(playerIndex, passengers, targetTile))) {
+            AudioManager.getInstance().playSoundEffect(SoundEffect.HELICOPTER);
+            JOptionPane.showMessageDialog(null, "Successfully used helicopter card to move to " + targetTile.getName());
         }
-        // Other players can only move to adjacent tiles
-        return (rowDistance == 1 && colDistance == 0) || (rowDistance == 0 && colDistance == 1);
     }
 
     /**
-     * Shore up specified tile
+     * Let the card holder pick who else on their tile flies along
      *
-     * @param playerIndex Player index
-     * @param row         Target row
-     * @param col         Target column
+     * @param playerIndex Player using the helicopter card
+     * @return Indexes of the chosen passengers, possibly empty
      */
-    public void shoreUpTile(int playerIndex, int row, int col) {
-        System.out.println("\n========== Starting tile shoring up ==========");
-        System.out.println("Player index: " + playerIndex);
-        System.out.println("Target position: [" + row + "," + col + "]");
-
-        Player player = players.get(playerIndex);
-        System.out.println("Player role: " + player.getRole().getClass().getSimpleName());
-        System.out.println("Is Engineer: " + (player.getRole() instanceof Model.Role.Engineer));
-
-        Tile targetTile = mapController.getMapView().getTile(row, col);
-        System.out.println("Target tile: " + targetTile.getName());
-        System.out.println("Target tile state: " + targetTile.getState());
-
-        if (canShoreUpTile(playerIndex, targetTile)) {
-            System.out.println("Can shore up this tile");
-            targetTile.setState(TileState.NORMAL);
-            System.out.println("Tile shored up, new state: " + targetTile.getState());
-
-            // Check if Engineer's second shore up
-            if (player.getRole() instanceof Model.Role.Engineer) {
-                System.out.println("Player is Engineer, check if can continue shoring up");
-                System.out.println("Current shore up count: " + engineerShoreUpCount);
-
-                // Check if more shoreable tiles nearby
-                boolean hasMoreShoreableTiles = false;
-                Tile currentTile = player.getCurrentTile();
-                for (Tile adjacentTile : currentTile.getAdjacentTiles()) {
-                    if (adjacentTile != targetTile && canShoreUpTile(playerIndex, adjacentTile)) {
-                        hasMoreShoreableTiles = true;
-                        break;
-                    }
-                }
+    private List<Integer> choosePassengers(int playerIndex) {
+        List<Player> players = engine.getPlayers();
+        Tile currentTile = players.get(playerIndex).getCurrentTile();
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < players.size(); i++) {
+            if (i != playerIndex && players.get(i).getCurrentTile().equals(currentTile)) {
+                candidates.add(i);
+            }
+        }
+        List<Integer> passengers = new ArrayList<>();
+        if (candidates.isEmpty()) {
+            return passengers;
+        }
 
-                if (engineerShoreUpCount < 1 && hasMoreShoreableTiles) {
-                    System.out.println("Engineer can continue shoring up");
-                    engineerShoreUpCount++;
-                    System.out.println("Shore up count updated to: " + engineerShoreUpCount);
-                    return;
-                }
+        // Create multi-select list
+        String[] options = new String[candidates.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            options[i] = players.get(candidates.get(i)).getRole().getClass().getSimpleName();
+        }
+        JList<String> list = new JList<>(options);
+        list.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        JScrollPane scrollPane = new JScrollPane(list);
+        scrollPane.setPreferredSize(new Dimension(200, 100));
+
+        int result = JOptionPane.showConfirmDialog(null,
+                scrollPane,
+                "Select players to move with",
+                JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.QUESTION_MESSAGE);
+        if (result == JOptionPane.OK_OPTION) {
+            for (int index : list.getSelectedIndices()) {
+                passengers.add(candidates.get(index));
             }
+        }
+        return passengers;
+    }
 
-            System.out.println("Shore up action complete");
-            endShoreUpAction();
-        } else {
-            System.out.println("Cannot shore up this tile");
+    private void escape(int playerIndex) {
+        AudioManager.getInstance().playSoundEffect(SoundEffect.HELICOPTER);
+        if (submit(GameAction.escape(playerIndex))) {
+            LOG.debug("Used helicopter rescue card, all players escaped, game victory!");
         }
-        System.out.println("========== Tile shoring up complete ==========\n");
     }
 
-    private void endShoreUpAction() {
-        System.out.println("\n========== Ending shore up action ==========");
-        System.out.println("Current shore up count: " + engineerShoreUpCount);
-        System.out.println("Current player role: " + players.get(currentPlayerIndex).getRole().getClass().getSimpleName());
-        System.out.println("Is Engineer: " + (players.get(currentPlayerIndex).getRole() instanceof Model.Role.Engineer));
+    // ====== Discard ======
+
+    /**
+     * Discard a card from the hand of the player over the hand limit
+     *
+     * @param playerIndex Player index
+     * @param card        Card to discard
+     * @return Returns true if the card was discarded
+     */
+    public boolean discardCard(int playerIndex, Card card) {
+        return submit(GameAction.discard(playerIndex, card));
+    }
+
+    // ====== Save ======
 
-        // Update player info view
-        PlayerInfoView playerView = playerInfoViews.get(currentPlayerIndex);
-        String actionText = playerView.getActionPointsLabel().getText();
-        int currentActions = Integer.parseInt(actionText.split(":")[1].trim());
-        playerView.setActionPoints(currentActions - 1);
-        System.out.println("Updated player action points: " + (currentActions - 1));
+    /**
+     * Save the game so it can be continued later from the main menu
+     * A half-chosen action (e.g. an Engineer's first tile) is not part of the save
+     *
+     * @param file File to write
+     * @throws IOException If the file cannot be written
+     */
+    public void saveGame(Path file) throws IOException {
+        GameSnapshot.of(engine).save(file);
+        LOG.info(() -> "Game saved to " + file);
+    }
 
-        // Reset Engineer shore up count
-        engineerShoreUpCount = 0;
-        System.out.println("Shore up count reset to: " + engineerShoreUpCount);
+    // ====== State Access ======
 
-        mapController.exitShoreUpMode();
-        System.out.println("Exited shore up mode");
+    // Add method to set MapView
+    public void setMapView(MapView mapView) {
+        LOG.debug("========== Setting MapView ==========");
+        this.mapController = new MapController(this, mapView);
+        LOG.debug("========== MapView setup completed ==========");
+    }
 
-        // If action points exhausted, end turn
-        if (currentActions - 1 == 0) {
-            System.out.println("Action points exhausted, ending turn");
-            endTurn(currentPlayerIndex);
-        }
+    public GameEngine getEngine() {
+        return engine;
+    }
 
-        System.out.println("========== Shore up action complete ==========\n");
+    public Player getCurrentPlayer() {
+        return engine.getPlayers().get(engine.getCurrentPlayerIndex());
     }
 
-    /**
-     * Use sandbag card to shore up any flooded tile
-     */
-    public void sandbagShoreUpTile(int playerIndex, int row, int col) {
-        if (playerIndex < 0 || playerIndex >= players.size()) {
-            return;
-        }
-        Player player = players.get(playerIndex);
-        Tile targetTile = mapController.getMapView().getTile(row, col);
-        if (targetTile == null || targetTile.getState() != Model.Enumeration.TileState.FLOODED) {
-            JOptionPane.showMessageDialog(null, "Can only shore up flooded tiles!");
-            return;
-        }
-        // Find a sandbag card
-        Model.Cards.Card sandbagCard = null;
-        for (Model.Cards.Card card : player.getHandCard().getCards()) {
-            if (card instanceof Model.Cards.SandbagCard) {
-                sandbagCard = card;
-                break;
-            }
-        }
-        if (sandbagCard == null) {
-            JOptionPane.showMessageDialog(null, "You don't have a sandbag card, cannot use!");
-            return;
+    public PlayerInfoView getPlayerInfoView(int playerIndex) {
+        if (playerIndex >= 0 && playerIndex < playerInfoViews.size()) {
+            return playerInfoViews.get(playerIndex);
         }
-        // Execute shore up
-        targetTile.setState(Model.Enumeration.TileState.NORMAL);
-        player.getHandCard().removeCard(sandbagCard);
-        playerInfoViews.get(playerIndex).removeCard(sandbagCard);
-        treasureDeck.discard(sandbagCard);
-        JOptionPane.showMessageDialog(null, "Successfully used sandbag card to repair tile!");
+        return null;
     }
 
     public List<Player> getPlayers() {
-        return players;
+        return engine.getPlayers();
     }
 
     public TreasureDeck getTreasureDeck() {
-        return treasureDeck;
+        return engine.getTreasureDeck();
     }
 
     public int getCurrentPlayerIndex() {
-        return currentPlayerIndex;
-    }
-
-    public void endGameWithWin() {
-        for (PlayerInfoView view : playerInfoViews) {
-            view.setButtonsEnabled(false);
-        }
-        JOptionPane.showMessageDialog(null, "Congratulations! You collected all treasures and escaped, you win!");
-        System.out.println("========== Game Victory ==========");
-        // Return to main menu
-        View.MainView mainView = View.MainView.getInstance();
-        if (mainView != null) {
-            mainView.showStartScreen();
-        }
+        return engine.getCurrentPlayerIndex();
     }
 
     // Add method to set BoardView
@@ -1746,6 +889,10 @@ public class GameController {
         this.boardView = boardView;
     }
 
+    public GameContext getContext() {
+        return context;
+    }
+
     public MapController getMapController() {
         return mapController;
     }
@@ -1753,46 +900,4 @@ public class GameController {
     public int getPlayerCount() {
         return playerCount;
     }
-
-    /**
-     * Check game win condition
-     * When all treasures are collected and all players are at helipad, game is won
-     */
-    public void checkGameWin() {
-        // Check if all treasures collected
-        if (!treasureDeck.allTreasuresCollected()) {
-            return;
-        }
-
-        // Check if all players at helipad
-        boolean allPlayersAtHelicopter = true;
-        for (Player player : players) {
-            Tile currentTile = player.getCurrentTile();
-            if (currentTile == null || !currentTile.getName().equals(TileName.FOOLS_LANDING)) {
-                allPlayersAtHelicopter = false;
-                break;
-            }
-        }
-
-        if (allPlayersAtHelicopter) {
-            endGameWithWin();
-        }
-    }
-
-    public void resumeGiveCardTurn(int playerIndex) {
-        // Check if A still has action points
-        PlayerInfoView playerView = playerInfoViews.get(playerIndex);
-        String actionText = playerView.getActionPointsLabel().getText();
-        int currentActions = Integer.parseInt(actionText.split(":")[1].trim());
-        if (currentActions <= 0) {
-            // No action points, directly switch to next player
-            startNewTurn();
-            return;
-        }
-        // Restore A's buttons and action points display, don't switch turn
-        for (int i = 0; i < playerInfoViews.size(); i++) {
-            playerInfoViews.get(i).setButtonsEnabled(i == playerIndex);
-        }
-        updatePlayerView(playerIndex);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,177 @@
+package Controller;
+
+import javax.sound.sampled.*;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Music Streamer Class
+ * Plays a looping audio file through a SourceDataLine on its own thread,
+ * holding only a small buffer in memory instead of the whole decoded track
+ *
+ * Pausing keeps the thread, line and read position, so resuming does not
+ * reopen or re-read the file
+ */
+public class MusicStreamer {
+    private static final int CHUNK_BYTES = 4096;        // Bytes copied to the line per write
+    private static final float LINE_BUFFER_SECONDS = 0.25f; // Audio queued in the line's ring buffer
+
+    private final File file;
+    private final Object lock = new Object();
+    private Thread thread;
+    private volatile boolean running;
+    private boolean paused;
+    private float volume = 1.0f;
+    private SourceDataLine line;
+
+    /**
+     * Constructor
+     *
+     * @param file Audio file to stream
+     */
+    public MusicStreamer(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Start streaming from the beginning of the file
+     * Does nothing if already started
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        paused = false;
+        thread = new Thread(this::streamLoop, "music-stream");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stop streaming and release the audio line
+     */
+    public synchronized void stop() {
+        running = false;
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    public void pause() {
+        synchronized (lock) {
+            paused = true;
+        }
+    }
+
+    public void resume() {
+        synchronized (lock) {
+            paused = false;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Whether the streaming thread is still running
+     * False once stopped, or after the thread exited on an audio error
+     *
+     * @return true if the thread is alive
+     */
+    public synchronized boolean isAlive() {
+        return thread != null && thread.isAlive();
+    }
+
+    /**
+     * Set playback volume
+     *
+     * @param volume Linear volume, 0.0 to 1.0
+     */
+    public void setVolume(float volume) {
+        synchronized (lock) {
+            this.volume = volume;
+            applyVolume();
+        }
+    }
+
+    private void applyVolume() {
+        if (line != null && line.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
+            FloatControl gain = (FloatControl) line.getControl(FloatControl.Type.MASTER_GAIN);
+            float dB = (float) (Math.log(Math.max(volume, 0.0001f)) / Math.log(10.0) * 20.0);
+            gain.setValue(Math.max(gain.getMinimum(), Math.min(gain.getMaximum(), dB)));
+        }
+    }
+
+    // =============== Streaming Thread ===============
+
+    private void streamLoop() {
+        byte[] chunk = new byte[CHUNK_BYTES];
+        try {
+            while (running) {
+                try (AudioInputStream stream = openPcmStream()) {
+                    ensureLineOpen(stream.getFormat());
+                    int read;
+                    while (running && (read = stream.read(chunk, 0, chunk.length)) > 0) {
+                        waitWhilePaused();
+                        line.write(chunk, 0, read);
+                    }
+                }
+                // End of file: loop from the start on the same line
+            }
+        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
+            System.err.println("Error streaming background music: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (lock) {
+                if (line != null) {
+                    line.stop();
+                    line.flush();
+                    line.close();
+                    line = null;
+                }
+            }
+        }
+    }
+
+    private AudioInputStream openPcmStream() throws UnsupportedAudioFileException, IOException {
+        AudioInputStream stream = AudioSystem.getAudioInputStream(file);
+        AudioFormat format = stream.getFormat();
+        if (format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED) {
+            AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                    format.getChannels(), format.getChannels() * 2, format.getSampleRate(), false);
+            stream = AudioSystem.getAudioInputStream(pcm, stream);
+        }
+        return stream;
+    }
+
+    private void ensureLineOpen(AudioFormat format) throws LineUnavailableException {
+        synchronized (lock) {
+            if (line != null) {
+                return;
+            }
+            int bufferBytes = Math.max(CHUNK_BYTES,
+                    (int) (format.getFrameRate() * LINE_BUFFER_SECONDS) * format.getFrameSize());
+            line = AudioSystem.getSourceDataLine(format);
+            line.open(format, bufferBytes);
+            applyVolume();
+            line.start();
+        }
+    }
+
+    private void waitWhilePaused() throws InterruptedException {
+        synchronized (lock) {
+            if (!paused) {
+                return;
+            }
+            line.stop();
+            while (paused && running) {
+                lock.wait();
+            }
+            line.start();
+        }
+    }
+}
@@ -1,46 +1,40 @@
 package Controller;
 
+import Model.GameRandom;
 import Model.Role.Role;
-import Model.Role.Engineer;
-import Model.Role.Explorer;
-import Model.Role.Pilot;
-import Model.Role.Messenger;
-import Model.Role.Navigator;
-import Model.Role.Diver;
+import Model.Role.RoleFactory;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 
 public class RoleManager {
-    private static final List<Role> availableRoles = new ArrayList<>();
-
-    static {
-        availableRoles.add(new Diver()); // Can move between missing or flooded tiles, can swim to nearest tile
-        availableRoles.add(new Engineer()); // Use 1 action to repair 2 tiles or own tile
-        availableRoles.add(new Pilot()); // Use 1 action to fly to any tile
-        availableRoles.add(new Messenger()); // Give cards without being on same tile
-        availableRoles.add(new Explorer()); // Can move and repair tiles diagonally
-        availableRoles.add(new Navigator()); // Use 1 action to move other players to 2 adjacent tiles
-    }
-
-    public static List<Role> getRandomRoles(int playerCount) {
+    /**
+     * Pick random roles for a new game
+     * Every call builds new Role instances, so games never share role state
+     * 
+     * @param playerCount Number of players (2-4)
+     * @param random      Stream to draw the roles with
+     * @return New list of unbound roles
+     */
+    public static List<Role> getRandomRoles(int playerCount, SplittableRandom random) {
         if (playerCount < 2 || playerCount > 4) {
             throw new IllegalArgumentException("Player count must be between 2-4");
         }
 
-        List<Role> shuffledRoles = new ArrayList<>(availableRoles);
-        Collections.shuffle(shuffledRoles);
-        return shuffledRoles.subList(0, playerCount);
+        List<Role> shuffledRoles = RoleFactory.createAllRoles();
+        GameRandom.shuffle(shuffledRoles, random);
+        return new ArrayList<>(shuffledRoles.subList(0, playerCount));
     }
 
     /**
      * Randomly assign roles to players and set bidirectional binding
      * 
      * @param players Player list
+     * @param random  Stream to draw the roles with
      */
-    public static void assignRolesToPlayers(List<Model.Player> players) {
-        List<Role> randomRoles = getRandomRoles(players.size());
+    public static void assignRolesToPlayers(List<Model.Player> players, SplittableRandom random) {
+        List<Role> randomRoles = getRandomRoles(players.size(), random);
         for (int i = 0; i < players.size(); i++) {
             Model.Player player = players.get(i);
             Role role = randomRoles.get(i);
@@ -0,0 +1,300 @@
+package Controller;
+
+import Logging.GameLogger;
+import Model.Enumeration.SoundEffect;
+
+import javax.sound.sampled.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sound Effect Engine Class
+ * Plays short game sounds with low latency
+ *
+ * Every effect is decoded once into 16-bit stereo samples when the engine starts.
+ * A mixer thread keeps one output line open for the whole session and mixes up to
+ * VOICE_COUNT sounds into it, so play() only posts the effect to a free request slot
+ * and wakes the mixer; it never opens a line, touches the disk or blocks
+ *
+ * The clips are optional: an effect whose file is missing or cannot be decoded is
+ * reported once at start and playing it is a no-op
+ */
+public class SoundEffectEngine {
+    private static final GameLogger LOG = GameLogger.getLogger(SoundEffectEngine.class);
+    private static final float SAMPLE_RATE = 44100f;
+    private static final int CHANNELS = 2;
+    private static final AudioFormat OUTPUT_FORMAT = new AudioFormat(SAMPLE_RATE, 16, CHANNELS, true, false);
+    private static final int VOICE_COUNT = 8;           // Sounds mixed at the same time
+    private static final int CHUNK_FRAMES = 256;        // About 6 ms of audio per mix pass
+    private static final int LINE_BUFFER_FRAMES = 1024; // About 23 ms queued in the line
+
+    private static SoundEffectEngine instance;
+
+    private final short[][] samples = new short[SoundEffect.values().length][];
+    // Pending triggers: effect ordinal + 1, or 0 when the slot is free
+    private final AtomicIntegerArray requests = new AtomicIntegerArray(VOICE_COUNT);
+    // Playing voices, owned by the mixer thread
+    private final short[][] voiceSamples = new short[VOICE_COUNT][];
+    private final int[] voicePositions = new int[VOICE_COUNT];
+
+    private Thread mixerThread;
+    private volatile boolean ready;
+    private volatile boolean running;
+    private volatile boolean enabled = true;
+    private volatile float volume = 1.0f;
+
+    private SoundEffectEngine() {}
+
+    public static synchronized SoundEffectEngine getInstance() {
+        if (instance == null) {
+            instance = new SoundEffectEngine();
+        }
+        return instance;
+    }
+
+    /**
+     * Decode all effects and open the output line on the mixer thread
+     * Effects can be triggered as soon as this finishes; later calls do nothing
+     */
+    public synchronized void start() {
+        if (mixerThread != null) {
+            return;
+        }
+        running = true;
+        mixerThread = new Thread(this::run, "sound-effects");
+        mixerThread.setDaemon(true);
+        mixerThread.setPriority(Thread.MAX_PRIORITY); // Underruns are audible, keep the mixer ahead
+        mixerThread.start();
+    }
+
+    /**
+     * Stop the mixer and release the output line
+     */
+    public synchronized void stop() {
+        running = false;
+        ready = false;
+        if (mixerThread != null) {
+            LockSupport.unpark(mixerThread);
+            mixerThread = null;
+        }
+    }
+
+    /**
+     * Trigger an effect
+     * Safe to call from any thread; if every voice is already requested the effect is dropped
+     * Does nothing for an effect that has no clip
+     *
+     * @param effect Effect to play
+     */
+    public void play(SoundEffect effect) {
+        if (!ready || !enabled) {
+            return;
+        }
+        if (samples[effect.ordinal()] == null) {
+            LOG.debug(() -> "No clip for sound effect " + effect + ", skipped");
+            return;
+        }
+        for (int slot = 0; slot < VOICE_COUNT; slot++) {
+            if (requests.compareAndSet(slot, 0, effect.ordinal() + 1)) {
+                LockSupport.unpark(mixerThread);
+                return;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Set effect volume
+     *
+     * @param volume Linear volume, 0.0 to 1.0
+     */
+    public void setVolume(float volume) {
+        this.volume = Math.max(0f, Math.min(1f, volume));
+    }
+
+    // =============== Mixer Thread ===============
+
+    private void run() {
+        if (!loadSamples()) {
+            return;
+        }
+        SourceDataLine line;
+        try {
+            line = AudioSystem.getSourceDataLine(OUTPUT_FORMAT);
+            line.open(OUTPUT_FORMAT, LINE_BUFFER_FRAMES * OUTPUT_FORMAT.getFrameSize());
+            line.start();
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            LOG.error("Error opening sound effect line, playing without sound effects: " + e.getMessage());
+            return;
+        }
+
+        int[] mix = new int[CHUNK_FRAMES * CHANNELS];
+        byte[] out = new byte[mix.length * 2];
+        ready = true;
+        try {
+            while (running) {
+                startRequestedVoices();
+                if (!mixChunk(mix)) {
+                    // Nothing playing: sleep until play() or stop() wakes us
+                    LockSupport.park(this);
+                    continue;
+                }
+                float gain = volume;
+                for (int i = 0; i < mix.length; i++) {
+                    int value = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, (int) (mix[i] * gain)));
+                    out[2 * i] = (byte) value;
+                    out[2 * i + 1] = (byte) (value >> 8);
+                }
+                line.write(out, 0, out.length);
+            }
+        } finally {
+            line.stop();
+            line.flush();
+            line.close();
+        }
+    }
+
+    // Move triggered effects into voices; when all voices are busy the one closest to its end is replaced
+    private void startRequestedVoices() {
+        for (int slot = 0; slot < VOICE_COUNT; slot++) {
+            int request = requests.getAndSet(slot, 0);
+            if (request == 0) {
+                continue;
+            }
+            int voice = 0;
+            int mostPlayed = -1;
+            for (int v = 0; v < VOICE_COUNT; v++) {
+                if (voiceSamples[v] == null) {
+                    voice = v;
+                    break;
+                }
+                int played = voicePositions[v] * 1024 / voiceSamples[v].length;
+                if (played > mostPlayed) {
+                    mostPlayed = played;
+                    voice = v;
+                }
+            }
+            voiceSamples[voice] = samples[request - 1];
+            voicePositions[voice] = 0;
+        }
+    }
+
+    /**
+     * Sum the next chunk of every playing voice into mix
+     *
+     * @return false if no voice is playing
+     */
+    private boolean mixChunk(int[] mix) {
+        boolean playing = false;
+        Arrays.fill(mix, 0);
+        for (int v = 0; v < VOICE_COUNT; v++) {
+            short[] sample = voiceSamples[v];
+            if (sample == null) {
+                continue;
+            }
+            playing = true;
+            int position = voicePositions[v];
+            int count = Math.min(mix.length, sample.length - position);
+            for (int i = 0; i < count; i++) {
+                mix[i] += sample[position + i];
+            }
+            position += count;
+            if (position >= sample.length) {
+                voiceSamples[v] = null;
+            } else {
+                voicePositions[v] = position;
+            }
+        }
+        return playing;
+    }
+
+    // =============== Decoding ===============
+
+    /**
+     * Decode every effect file; missing or unreadable files are skipped
+     *
+     * @return true if at least one effect can be played
+     */
+    private boolean loadSamples() {
+        List<String> missing = new ArrayList<>();
+        boolean any = false;
+        for (SoundEffect effect : SoundEffect.values()) {
+            File file = new File(effect.getFilePath());
+            if (!file.isFile()) {
+                missing.add(effect.getFilePath());
+                continue;
+            }
+            try {
+                samples[effect.ordinal()] = decode(file);
+                any = true;
+            } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+                LOG.warn("Error decoding sound effect " + file + ", it will be silent: " + e.getMessage());
+            }
+        }
+        if (!missing.isEmpty()) {
+            LOG.warn("Sound effect clips not found, these effects will be silent: " + missing);
+        }
+        if (!any) {
+            LOG.warn("No sound effect could be loaded, sound effects are off");
+        }
+        return any;
+    }
+
+    // Decode to 16-bit PCM at the file's own rate, then convert to the output rate and channel count
+    private static short[] decode(File file) throws UnsupportedAudioFileException, IOException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(file)) {
+            AudioFormat format = source.getFormat();
+            int channels = format.getChannels();
+            AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                    channels, channels * 2, format.getSampleRate(), false);
+            try (AudioInputStream stream = AudioSystem.getAudioInputStream(pcm, source)) {
+                byte[] bytes = stream.readAllBytes();
+                short[] decoded = new short[bytes.length / 2];
+                for (int i = 0; i < decoded.length; i++) {
+                    decoded[i] = (short) ((bytes[2 * i] & 0xFF) | (bytes[2 * i + 1] << 8));
+                }
+                return resample(decoded, channels, format.getSampleRate());
+            }
+        }
+    }
+
+    // Linear interpolation to SAMPLE_RATE; mono is copied to both channels, extra channels are dropped
+    private static short[] resample(short[] input, int channels, float rate) {
+        int inputFrames = input.length / channels;
+        if (inputFrames == 0) {
+            return new short[0];
+        }
+        double step = rate / SAMPLE_RATE;
+        int outputFrames = (int) (inputFrames / step);
+        short[] output = new short[outputFrames * CHANNELS];
+        for (int frame = 0; frame < outputFrames; frame++) {
+            double position = frame * step;
+            int before = Math.min((int) position, inputFrames - 1);
+            int after = Math.min(before + 1, inputFrames - 1);
+            double fraction = position - before;
+            for (int c = 0; c < CHANNELS; c++) {
+                int channel = Math.min(c, channels - 1);
+                int a = input[before * channels + channel];
+                int b = input[after * channels + channel];
+                output[frame * CHANNELS + c] = (short) Math.round(a + (b - a) * fraction);
+            }
+        }
+        return output;
+    }
+}
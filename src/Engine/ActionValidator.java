@@ -0,0 +1,181 @@
+package Engine;
+
+import Model.Cards.Card;
+import Model.Cards.HelicopterCard;
+import Model.Cards.SandbagCard;
+import Model.Enumeration.ActionResult;
+import Model.Enumeration.GamePhase;
+import Model.Enumeration.TileState;
+import Model.Player;
+import Model.Role.Engineer;
+import Model.Role.Navigator;
+import Model.Role.Pilot;
+import Model.Tile;
+
+/**
+ * Action Validator Class
+ * Checks an action against the rules of a game without changing it
+ *
+ * Runs the same checks GameEngine applies before an action, in the order a player
+ * would hit them (game over, phase, turn, action points, role, card, target), and
+ * reports the first one that fails. Nothing is allocated, so bots and replays can
+ * validate every candidate action
+ */
+public final class ActionValidator {
+
+    private ActionValidator() {}
+
+    /**
+     * Validate an action
+     *
+     * @param engine Game to check against
+     * @param action Action to check
+     * @return OK if GameEngine.execute would perform the action, otherwise the reason it would not
+     */
+    public static ActionResult validate(GameEngine engine, GameAction action) {
+        if (engine.isGameOver()) {
+            return ActionResult.GAME_OVER;
+        }
+        int p = action.getPlayerIndex();
+        if (p < 0 || p >= engine.getPlayers().size()) {
+            return ActionResult.INVALID_PLAYER;
+        }
+        switch (action.getKind()) {
+            case DISCARD:
+                return validateDiscard(engine, action);
+            case EMERGENCY_MOVE:
+                return validateEmergencyMove(engine, action);
+            case SANDBAG:
+            case HELICOPTER:
+            case ESCAPE:
+                return validateCardPlay(engine, action);
+            default:
+                ActionResult turn = validateTurn(engine, p);
+                return turn.isSuccess() ? validateTurnAction(engine, action) : turn;
+        }
+    }
+
+    // =============== Turn Actions ===============
+
+    private static ActionResult validateTurn(GameEngine engine, int p) {
+        if (engine.getPhase() != GamePhase.ACTION) {
+            return ActionResult.WRONG_PHASE;
+        }
+        if (p != engine.getCurrentPlayerIndex()) {
+            return ActionResult.NOT_YOUR_TURN;
+        }
+        if (engine.getRemainingActions() <= 0) {
+            return ActionResult.NO_ACTIONS_LEFT;
+        }
+        return ActionResult.OK;
+    }
+
+    private static ActionResult validateTurnAction(GameEngine engine, GameAction action) {
+        int p = action.getPlayerIndex();
+        Player player = engine.getPlayers().get(p);
+        Tile first = action.getTile(engine);
+        switch (action.getKind()) {
+            case MOVE:
+                return result(engine.canMove(player, first), ActionResult.INVALID_TARGET);
+            case SHORE_UP:
+                Tile second = action.getSecondTile(engine);
+                if (second != null && !(player.getRole() instanceof Engineer)) {
+                    return ActionResult.WRONG_ROLE;
+                }
+                return result(engine.canShoreUp(p, first)
+                        && (second == null || (!second.equals(first) && engine.canShoreUp(p, second))),
+                        ActionResult.INVALID_TARGET);
+            case GIVE_CARD:
+                Card card = action.getCard();
+                if (card == null || !player.getHandCard().contains(card)) {
+                    return ActionResult.MISSING_CARD;
+                }
+                return result(engine.canGiveCard(p, action.getTargetPlayerIndex(), card),
+                        ActionResult.INVALID_TARGET);
+            case FLY:
+                if (!(player.getRole() instanceof Pilot)) {
+                    return ActionResult.WRONG_ROLE;
+                }
+                if (engine.isPilotFlightUsed()) {
+                    return ActionResult.ABILITY_USED;
+                }
+                return result(engine.canFly(p, first), ActionResult.INVALID_TARGET);
+            case NAVIGATE:
+                if (!(player.getRole() instanceof Navigator)) {
+                    return ActionResult.WRONG_ROLE;
+                }
+                return result(engine.canNavigate(p, action.getTargetPlayerIndex(), first,
+                        action.getSecondTile(engine)), ActionResult.INVALID_TARGET);
+            case CAPTURE_TREASURE:
+                return result(engine.canCaptureTreasure(p), ActionResult.CONDITIONS_NOT_MET);
+            case SKIP:
+                return ActionResult.OK;
+            default:
+                return ActionResult.WRONG_PHASE;
+        }
+    }
+
+    // =============== Free Actions ===============
+
+    // Sandbag and helicopter cards can be played by their holder at any time
+    private static ActionResult validateCardPlay(GameEngine engine, GameAction action) {
+        Player player = engine.getPlayers().get(action.getPlayerIndex());
+        Tile target = action.getTile(engine);
+        switch (action.getKind()) {
+            case SANDBAG:
+                if (!player.hasCardType(SandbagCard.class)) {
+                    return ActionResult.MISSING_CARD;
+                }
+                return result(target != null && target.getState() == TileState.FLOODED,
+                        ActionResult.INVALID_TARGET);
+            case HELICOPTER:
+                if (!player.hasCardType(HelicopterCard.class)) {
+                    return ActionResult.MISSING_CARD;
+                }
+                int mask = action.getPassengerMask();
+                if (mask != -1 && (mask >> engine.getPlayers().size() != 0
+                        || (mask & (1 << action.getPlayerIndex())) != 0)) {
+                    return ActionResult.INVALID_PLAYER;
+                }
+                for (int passenger : action.getPassengers(engine)) {
+                    if (!engine.getPlayers().get(passenger).getCurrentTile().equals(player.getCurrentTile())) {
+                        return ActionResult.INVALID_TARGET;
+                    }
+                }
+                return result(target != null && target.getState() != TileState.SUNK,
+                        ActionResult.INVALID_TARGET);
+            default:
+                if (!player.hasCardType(HelicopterCard.class)) {
+                    return ActionResult.MISSING_CARD;
+                }
+                return result(engine.canEscape(), ActionResult.CONDITIONS_NOT_MET);
+        }
+    }
+
+    private static ActionResult validateDiscard(GameEngine engine, GameAction action) {
+        if (engine.getPhase() != GamePhase.DISCARD) {
+            return ActionResult.WRONG_PHASE;
+        }
+        if (action.getPlayerIndex() != engine.getPendingDiscardPlayerIndex()) {
+            return ActionResult.NOT_YOUR_TURN;
+        }
+        Card card = action.getCard();
+        Player player = engine.getPlayers().get(action.getPlayerIndex());
+        return result(card != null && player.getHandCard().contains(card), ActionResult.MISSING_CARD);
+    }
+
+    private static ActionResult validateEmergencyMove(GameEngine engine, GameAction action) {
+        if (engine.getPhase() != GamePhase.EMERGENCY_MOVE) {
+            return ActionResult.WRONG_PHASE;
+        }
+        if (action.getPlayerIndex() != engine.getPendingEmergencyPlayerIndex()) {
+            return ActionResult.NOT_YOUR_TURN;
+        }
+        return result(engine.canEmergencyMove(action.getPlayerIndex(), action.getTile(engine)),
+                ActionResult.INVALID_TARGET);
+    }
+
+    private static ActionResult result(boolean legal, ActionResult failure) {
+        return legal ? ActionResult.OK : failure;
+    }
+}
@@ -0,0 +1,121 @@
+package Engine;
+
+import Model.Cards.Card;
+import Model.Enumeration.ActionResult;
+import Model.Enumeration.MapLayout;
+import Model.Player;
+import Model.Tile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Action validator test class
+ * Plays games with the PlayoutPolicy and, before every step, checks that
+ * ActionValidator.validate accepts exactly the actions the engine would apply
+ *
+ * Candidates cover every action kind for every player, tile, target player and card
+ * in play, so refused actions are checked as well as legal ones; a refused action
+ * must also leave the game as it was
+ */
+public class ActionValidatorTest {
+    private static final int GAMES = 300;
+    private static final List<String> testResults = new ArrayList<>();
+
+    public static void main(String[] args) {
+        System.out.println("Starting action validator tests...\n");
+
+        // Compare validate with apply over whole games
+        testValidateMatchesApply(new SplittableRandom(3));
+
+        // Print test results
+        System.out.println("\nTest Results Summary:");
+        for (String result : testResults) {
+            System.out.println(result);
+        }
+    }
+
+    private static void testValidateMatchesApply(SplittableRandom random) {
+        System.out.println("=== Testing validate against apply ===");
+        long checked = 0;
+        Map<ActionResult, Integer> results = new EnumMap<>(ActionResult.class);
+        for (int game = 0; game < GAMES; game++) {
+            GameEngine engine = new GameEngine(2 + game % 3, MapLayout.values()[game % 3], 1 + game % 4, random.split());
+            PlayoutPolicy policy = new PlayoutPolicy(random.split());
+            while (!engine.isGameOver()) {
+                GameEngine copy = engine.copy(new SplittableRandom(1));
+                long hash = ZobristHash.hashOf(copy);
+                for (GameAction action : candidates(engine)) {
+                    ActionResult result = ActionValidator.validate(engine, action);
+                    boolean applied = action.apply(copy);
+                    if (result.isSuccess() != applied) {
+                        addTestResult("✗ Game " + game + ": " + action + " validated as " + result
+                                + " but apply returned " + applied + " in phase " + engine.getPhase());
+                        return;
+                    }
+                    if (applied) {
+                        copy = engine.copy(new SplittableRandom(1));
+                    } else if (ZobristHash.hashOf(copy) != hash) {
+                        addTestResult("✗ Game " + game + ": refused " + action + " changed the game");
+                        return;
+                    }
+                    checked++;
+                    results.merge(result, 1, Integer::sum);
+                }
+                for (GameAction action : GameAction.legalActions(engine)) {
+                    if (!ActionValidator.validate(engine, action).isSuccess()) {
+                        addTestResult("✗ Game " + game + ": legal action " + action + " is refused");
+                        return;
+                    }
+                }
+                policy.step(engine);
+            }
+        }
+        addTestResult("✓ validate matches apply on " + checked + " actions (" + GAMES + " games)");
+        addTestResult("✓ Refused actions leave the game unchanged");
+        addTestResult("✓ Every legal action is accepted");
+        addTestResult("  Results: " + results);
+    }
+
+    private static List<GameAction> candidates(GameEngine engine) {
+        List<GameAction> candidates = new ArrayList<>();
+        int playerCount = engine.getPlayers().size();
+        for (int p = 0; p < playerCount; p++) {
+            for (Tile tile : engine.getAllTiles()) {
+                candidates.add(GameAction.move(p, tile));
+                candidates.add(GameAction.fly(p, tile));
+                candidates.add(GameAction.sandbag(p, tile));
+                candidates.add(GameAction.helicopter(p, tile));
+                candidates.add(GameAction.emergencyMove(p, tile));
+                candidates.add(GameAction.shoreUp(p, tile, null));
+                candidates.add(GameAction.helicopter(p, Collections.singletonList(playerCount), tile));
+                for (int q = 0; q < playerCount; q++) {
+                    candidates.add(GameAction.navigate(p, q, tile, null));
+                    candidates.add(GameAction.helicopter(p, Collections.singletonList(q), tile));
+                }
+            }
+            candidates.add(GameAction.captureTreasure(p));
+            candidates.add(GameAction.escape(p));
+            candidates.add(GameAction.skip(p));
+            for (Player player : engine.getPlayers()) {
+                for (Card card : player.getHandCard().getCards()) {
+                    candidates.add(GameAction.discard(p, card));
+                    for (int q = 0; q < playerCount; q++) {
+                        candidates.add(GameAction.giveCard(p, q, card));
+                    }
+                }
+            }
+        }
+        candidates.addAll(GameAction.legalActions(engine));
+        return candidates;
+    }
+
+    private static void addTestResult(String result) {
+        testResults.add(result);
+        System.out.println(result);
+    }
+}
@@ -0,0 +1,251 @@
+package Engine;
+
+import Model.Enumeration.LossCause;
+import Model.Enumeration.MapLayout;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Batch Simulator Class
+ * Plays many complete games in parallel with PlayoutPolicy and reports win rates,
+ * mean game length and loss causes for every player count, map and starting water level
+ *
+ * Every game is built from its own seed, so with a replay file given each game is
+ * also appended to it and can be re-run with Replayer
+ *
+ * Usage: java Engine.BatchSimulator [gamesPerConfig] [seed] [threads] [replayFile]
+ */
+public class BatchSimulator {
+    /** Player counts offered by SetupView */
+    public static final int[] PLAYER_COUNTS = { 2, 3, 4 };
+    /** Starting water levels offered by SetupView (difficulty index + 1) */
+    public static final int[] START_LEVELS = { 1, 2, 3, 4 };
+
+    private static final int GAMES_PER_TASK = 64;
+    private static final int MAX_STEPS_PER_GAME = 10_000;
+
+    private final int threads;
+    private final ReplayWriter replayWriter;
+
+    /**
+     * Constructor
+     *
+     * @param threads Number of worker threads
+     */
+    public BatchSimulator(int threads) {
+        this(threads, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param threads      Number of worker threads
+     * @param replayWriter Writer every game is appended to, or null to keep no replays
+     */
+    public BatchSimulator(int threads, ReplayWriter replayWriter) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        this.threads = threads;
+        this.replayWriter = replayWriter;
+    }
+
+    /**
+     * Run every combination of player count, map layout and starting water level
+     *
+     * @param gamesPerConfig Games to play per combination
+     * @param seed           Root seed, split into one random stream per task
+     * @return Results in player count, layout, level order
+     */
+    public List<Result> runAll(int gamesPerConfig, long seed) throws InterruptedException {
+        List<Config> configs = new ArrayList<>();
+        for (int playerCount : PLAYER_COUNTS) {
+            for (MapLayout layout : MapLayout.values()) {
+                for (int level : START_LEVELS) {
+                    configs.add(new Config(playerCount, layout, level));
+                }
+            }
+        }
+        return run(configs, gamesPerConfig, seed);
+    }
+
+    /**
+     * Run the given configurations
+     *
+     * @param configs        Configurations to simulate
+     * @param gamesPerConfig Games to play per configuration
+     * @param seed           Root seed, split into one random stream per task
+     * @return One merged result per configuration
+     */
+    public List<Result> run(List<Config> configs, int gamesPerConfig, long seed) throws InterruptedException {
+        SplittableRandom root = new SplittableRandom(seed);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            // Each task plays a slice of one configuration with its own random stream
+            List<List<Future<Result>>> futures = new ArrayList<>();
+            for (Config config : configs) {
+                List<Future<Result>> slices = new ArrayList<>();
+                for (int start = 0; start < gamesPerConfig; start += GAMES_PER_TASK) {
+                    int games = Math.min(GAMES_PER_TASK, gamesPerConfig - start);
+                    SplittableRandom stream = root.split();
+                    slices.add(pool.submit(() -> simulate(config, games, stream)));
+                }
+                futures.add(slices);
+            }
+
+            List<Result> results = new ArrayList<>();
+            for (int i = 0; i < configs.size(); i++) {
+                Result merged = new Result(configs.get(i));
+                for (Future<Result> slice : futures.get(i)) {
+                    merged.merge(slice.get());
+                }
+                results.add(merged);
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation task failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Result simulate(Config config, int games, SplittableRandom random) throws IOException {
+        Result result = new Result(config);
+        PlayoutPolicy policy = new PlayoutPolicy(random);
+        for (int i = 0; i < games; i++) {
+            ReplayRecorder game = new ReplayRecorder(config.playerCount, config.layout, config.startLevel,
+                    random.nextLong());
+            policy.playToEnd(game.getEngine(), MAX_STEPS_PER_GAME);
+            result.record(game.getEngine());
+            if (replayWriter != null) {
+                replayWriter.append(game);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Simulation configuration: one cell of the setup screen
+     */
+    public static class Config {
+        private final int playerCount;
+        private final MapLayout layout;
+        private final int startLevel;
+
+        public Config(int playerCount, MapLayout layout, int startLevel) {
+            this.playerCount = playerCount;
+            this.layout = layout;
+            this.startLevel = startLevel;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%dP %-8s L%d", playerCount, layout, startLevel);
+        }
+    }
+
+    /**
+     * Aggregated outcome of the games played for one configuration
+     */
+    public static class Result {
+        private final Config config;
+        private long games;
+        private long wins;
+        private long unfinished;
+        private long totalTurns;
+        private final Map<LossCause, Long> lossCauses = new EnumMap<>(LossCause.class);
+
+        public Result(Config config) {
+            this.config = config;
+        }
+
+        private void record(GameEngine engine) {
+            games++;
+            totalTurns += engine.getTurnCount();
+            if (!engine.isGameOver()) {
+                unfinished++;
+            } else if (engine.isWon()) {
+                wins++;
+            } else {
+                lossCauses.merge(engine.getLossCause(), 1L, Long::sum);
+            }
+        }
+
+        private void merge(Result other) {
+            games += other.games;
+            wins += other.wins;
+            unfinished += other.unfinished;
+            totalTurns += other.totalTurns;
+            other.lossCauses.forEach((cause, count) -> lossCauses.merge(cause, count, Long::sum));
+        }
+
+        public Config getConfig() {
+            return config;
+        }
+
+        public long getGames() {
+            return games;
+        }
+
+        public double getWinRate() {
+            return games == 0 ? 0 : (double) wins / games;
+        }
+
+        public double getMeanTurns() {
+            return games == 0 ? 0 : (double) totalTurns / games;
+        }
+
+        public Map<LossCause, Long> getLossCauses() {
+            return lossCauses;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%s  games=%d  win=%5.1f%%  turns=%5.1f", config, games,
+                    getWinRate() * 100, getMeanTurns()));
+            if (unfinished > 0) {
+                sb.append("  unfinished=").append(unfinished);
+            }
+            lossCauses.forEach((cause, count) -> sb.append("  ").append(cause).append('=').append(count));
+            return sb.toString();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        int gamesPerConfig = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        ReplayWriter replayWriter = args.length > 3 ? new ReplayWriter(Paths.get(args[3])) : null;
+
+        long start = System.nanoTime();
+        List<Result> results;
+        try {
+            results = new BatchSimulator(threads, replayWriter).runAll(gamesPerConfig, seed);
+        } finally {
+            if (replayWriter != null) {
+                replayWriter.close();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println("========== Simulation Results (seed " + seed + ", " + threads + " threads) ==========");
+        long totalGames = 0;
+        for (Result result : results) {
+            System.out.println(result);
+            totalGames += result.getGames();
+        }
+        System.out.printf("Played %d games in %.1f s (%.0f games/s)%n", totalGames, elapsed / 1e9,
+                totalGames / (elapsed / 1e9));
+    }
+}
@@ -0,0 +1,74 @@
+package Engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Benchmark Class
+ * Minimal JMH-style measurement harness: warmup iterations, timed measurement
+ * iterations and a sink that keeps results alive so the JIT cannot drop the work
+ */
+public class Benchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final long ITERATION_NANOS = 200_000_000L; // 200 ms per iteration
+
+    private final List<String> report = new ArrayList<>();
+    private long sink;
+
+    /**
+     * Measure an operation
+     * Every call of the supplier is one operation; its return value is consumed by the sink
+     *
+     * @param name      Benchmark name
+     * @param operation Operation to measure
+     */
+    public void measure(String name, LongSupplier operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runIteration(operation);
+        }
+        double[] nanosPerOp = new double[MEASUREMENT_ITERATIONS];
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            nanosPerOp[i] = runIteration(operation);
+        }
+
+        double mean = 0;
+        for (double value : nanosPerOp) {
+            mean += value;
+        }
+        mean /= nanosPerOp.length;
+        double variance = 0;
+        for (double value : nanosPerOp) {
+            variance += (value - mean) * (value - mean);
+        }
+        double error = Math.sqrt(variance / (nanosPerOp.length - 1));
+        report.add(String.format("%-64s %12.1f +- %8.1f ns/op", name, mean, error));
+    }
+
+    private double runIteration(LongSupplier operation) {
+        long ops = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            // Check the clock every 64 operations to keep timer overhead out of the result
+            for (int i = 0; i < 64; i++) {
+                sink += operation.getAsLong();
+            }
+            ops += 64;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < ITERATION_NANOS);
+        return (double) elapsed / ops;
+    }
+
+    /**
+     * Get the formatted results, one line per benchmark
+     *
+     * @return Report lines
+     */
+    public List<String> getReport() {
+        List<String> lines = new ArrayList<>(report);
+        lines.add("(sink " + (sink & 1) + ")");
+        return lines;
+    }
+}
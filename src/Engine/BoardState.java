@@ -0,0 +1,241 @@
+package Engine;
+
+import Model.Deck.TreasureDeck;
+import Model.Enumeration.TileName;
+import Model.Enumeration.TileState;
+import Model.Enumeration.TreasureType;
+import Model.Player;
+import Model.Tile;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Board State Class
+ * Compact primitive encoding of one game's island: tile states, player positions
+ * and collected treasures
+ *
+ * Cells are numbered as in MoveGenerator. Each tile's TileState takes 2 bits spread
+ * over two 36-bit planes: NORMAL = (0, 0), FLOODED = (1, 0), SUNK = (0, 1) in
+ * (flooded, sunk). Player positions are 6-bit cell numbers packed 8 bits per player
+ * into one long, collected treasures are one bit per TreasureType ordinal
+ *
+ * A GameEngine keeps its board in step with the Tile, Player and TreasureDeck objects
+ * through their listeners, and the MoveGenerator reads its masks from here. Copying a
+ * game copies this state and rebuilds the objects from it. The tile-name assignment
+ * never changes during a game, so copies share it
+ */
+public final class BoardState {
+    public static final int NO_CELL = -1;
+    private static final int MAX_PLAYERS = 4;
+    private static final int PLAYER_BITS = 8;
+    private static final long PLAYER_MASK = (1L << PLAYER_BITS) - 1;
+    private static final TileName[] TILE_NAMES = TileName.values();
+
+    /** Layout information that is fixed for a whole game */
+    private static final class Layout {
+        private final long land;
+        private final byte[] names; // TileName ordinal per cell, -1 for water
+
+        private Layout(long land, byte[] names) {
+            this.land = land;
+            this.names = names;
+        }
+    }
+
+    private final Layout layout;
+    private long flooded;
+    private long sunk;
+    private long playerCells;
+    private int playerCount;
+    private int collectedTreasures;
+
+    private BoardState(Layout layout) {
+        this.layout = layout;
+    }
+
+    /**
+     * Capture a board and keep following its tiles
+     *
+     * @param boardTiles All tiles of one board
+     * @return Board state tracking the tiles; players and treasures are added with track
+     */
+    public static BoardState of(Collection<Tile> boardTiles) {
+        byte[] names = new byte[MoveGenerator.CELL_COUNT];
+        Arrays.fill(names, (byte) -1);
+        long land = 0;
+        for (Tile tile : boardTiles) {
+            int cell = MoveGenerator.cellOf(tile);
+            names[cell] = (byte) tile.getName().ordinal();
+            land |= MoveGenerator.bit(cell);
+        }
+        BoardState board = new BoardState(new Layout(land, names));
+        board.trackTiles(boardTiles);
+        return board;
+    }
+
+    /**
+     * Copy this state; only the primitive fields are duplicated
+     * The copy follows no objects until it is given its own with trackTiles and track
+     *
+     * @return Independent copy sharing the immutable layout data
+     */
+    public BoardState copy() {
+        BoardState copy = new BoardState(layout);
+        copy.flooded = flooded;
+        copy.sunk = sunk;
+        copy.playerCells = playerCells;
+        copy.playerCount = playerCount;
+        copy.collectedTreasures = collectedTreasures;
+        return copy;
+    }
+
+    // =============== Tracking ===============
+
+    /**
+     * Follow the state changes of a board's tiles
+     * The tiles are read first, so they win over what this state held
+     *
+     * @param boardTiles Tiles on the cells of this board's layout
+     */
+    public void trackTiles(Collection<Tile> boardTiles) {
+        for (Tile tile : boardTiles) {
+            onTileStateChanged(tile);
+            tile.addOnStateChangeListener(this::onTileStateChanged);
+        }
+    }
+
+    /**
+     * Follow the positions of a game's players and the treasures its deck records
+     *
+     * @param players      Players in turn order
+     * @param treasureDeck Treasure deck recording collected treasures
+     */
+    public void track(List<Player> players, TreasureDeck treasureDeck) {
+        if (players.size() > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Board supports at most " + MAX_PLAYERS + " players");
+        }
+        playerCount = players.size();
+        for (int i = 0; i < players.size(); i++) {
+            int playerIndex = i;
+            Player player = players.get(i);
+            setPlayerCell(playerIndex, player.getCurrentTile());
+            player.addOnPositionChangeListener(p -> setPlayerCell(playerIndex, p.getCurrentTile()));
+        }
+        collectedTreasures = 0;
+        for (TreasureType type : TreasureType.values()) {
+            if (treasureDeck.isTreasureCollected(type)) {
+                collectedTreasures |= 1 << type.ordinal();
+            }
+        }
+        treasureDeck.addOnTreasureCollectedListener(type -> collectedTreasures |= 1 << type.ordinal());
+    }
+
+    private void onTileStateChanged(Tile tile) {
+        long b = MoveGenerator.bit(MoveGenerator.cellOf(tile));
+        flooded &= ~b;
+        sunk &= ~b;
+        if (tile.getState() == TileState.FLOODED) {
+            flooded |= b;
+        } else if (tile.getState() == TileState.SUNK) {
+            sunk |= b;
+        }
+    }
+
+    private void setPlayerCell(int playerIndex, Tile tile) {
+        int shift = playerIndex * PLAYER_BITS;
+        long value = tile == null ? PLAYER_MASK : MoveGenerator.cellOf(tile);
+        playerCells = (playerCells & ~(PLAYER_MASK << shift)) | (value << shift);
+    }
+
+    // =============== Tiles ===============
+
+    /**
+     * Get the tile name dealt onto a cell
+     *
+     * @return Tile name, or null for water
+     */
+    public TileName getName(int cell) {
+        byte ordinal = layout.names[cell];
+        return ordinal < 0 ? null : TILE_NAMES[ordinal];
+    }
+
+    public TileState getState(int cell) {
+        long b = MoveGenerator.bit(cell);
+        if ((sunk & b) != 0) {
+            return TileState.SUNK;
+        }
+        return (flooded & b) != 0 ? TileState.FLOODED : TileState.NORMAL;
+    }
+
+    public long getLandMask() {
+        return layout.land;
+    }
+
+    public long getFloodedMask() {
+        return flooded;
+    }
+
+    public long getSunkMask() {
+        return sunk;
+    }
+
+    /**
+     * Get the tiles that can still be stood on (normal or flooded)
+     */
+    public long getStandableMask() {
+        return layout.land & ~sunk;
+    }
+
+    // =============== Players ===============
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Get the cell a player stands on
+     *
+     * @return Cell number, or NO_CELL for a player without a tile
+     */
+    public int getPlayerCell(int playerIndex) {
+        if (playerIndex < 0 || playerIndex >= playerCount) {
+            throw new IllegalArgumentException("Invalid player index: " + playerIndex);
+        }
+        int value = (int) ((playerCells >>> (playerIndex * PLAYER_BITS)) & PLAYER_MASK);
+        return value == PLAYER_MASK ? NO_CELL : value;
+    }
+
+    // =============== Treasures ===============
+
+    public boolean isTreasureCollected(TreasureType type) {
+        return (collectedTreasures & (1 << type.ordinal())) != 0;
+    }
+
+    public int getCollectedTreasureCount() {
+        return Integer.bitCount(collectedTreasures);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BoardState)) {
+            return false;
+        }
+        BoardState other = (BoardState) o;
+        return flooded == other.flooded && sunk == other.sunk && playerCells == other.playerCells
+                && playerCount == other.playerCount && collectedTreasures == other.collectedTreasures
+                && layout.land == other.layout.land && Arrays.equals(layout.names, other.layout.names);
+    }
+
+    @Override
+    public int hashCode() {
+        long h = flooded * 31 + sunk;
+        h = h * 31 + playerCells;
+        h = h * 31 + collectedTreasures;
+        return Long.hashCode(h);
+    }
+}
@@ -0,0 +1,88 @@
+package Engine;
+
+import Model.Enumeration.MapLayout;
+import Model.Enumeration.TreasureType;
+import Model.Player;
+import Model.Tile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Board state test class
+ * Plays policy games and checks after every step that the engine's BoardState holds
+ * the same tile states, player cells and collected treasures as the game objects,
+ * and that a copied game starts from an equal board
+ */
+public class BoardStateTest {
+    private static final int GAMES = 300;
+    private static final List<String> testResults = new ArrayList<>();
+
+    public static void main(String[] args) {
+        System.out.println("Starting board state tests...\n");
+
+        // Follow whole games step by step
+        testFollowsGame(new SplittableRandom(9));
+
+        // Print test results
+        System.out.println("\nTest Results Summary:");
+        for (String result : testResults) {
+            System.out.println(result);
+        }
+    }
+
+    private static void testFollowsGame(SplittableRandom random) {
+        System.out.println("=== Testing board state against the game objects ===");
+        long steps = 0;
+        for (int game = 0; game < GAMES; game++) {
+            GameEngine engine = new GameEngine(2 + game % 3, MapLayout.values()[game % 3], 1 + game % 4, random.split());
+            PlayoutPolicy policy = new PlayoutPolicy(random.split());
+            while (true) {
+                String problem = compare(engine);
+                if (problem == null && !engine.copy(random.split()).getBoard().equals(engine.getBoard())) {
+                    problem = "copied game has a different board";
+                }
+                if (problem != null) {
+                    addTestResult("✗ Game " + game + " turn " + engine.getTurnCount() + ": " + problem);
+                    return;
+                }
+                steps++;
+                if (engine.isGameOver()) {
+                    break;
+                }
+                policy.step(engine);
+            }
+        }
+        addTestResult("✓ Board state matches the game after " + steps + " steps (" + GAMES + " games)");
+        addTestResult("✓ Copied games start from an equal board");
+    }
+
+    private static String compare(GameEngine engine) {
+        BoardState board = engine.getBoard();
+        for (Tile tile : engine.getAllTiles()) {
+            int cell = MoveGenerator.cellOf(tile);
+            if (board.getName(cell) != tile.getName() || board.getState(cell) != tile.getState()) {
+                return tile.getName() + " is " + tile.getState() + " but the board has "
+                        + board.getName(cell) + " " + board.getState(cell);
+            }
+        }
+        List<Player> players = engine.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            if (board.getPlayerCell(i) != MoveGenerator.cellOf(players.get(i).getCurrentTile())) {
+                return "player " + i + " is on another cell than the board says";
+            }
+        }
+        for (TreasureType type : TreasureType.values()) {
+            if (board.isTreasureCollected(type) != engine.getTreasureDeck().isTreasureCollected(type)) {
+                return type + " collected state differs";
+            }
+        }
+        return null;
+    }
+
+    private static void addTestResult(String result) {
+        testResults.add(result);
+        System.out.println(result);
+    }
+}
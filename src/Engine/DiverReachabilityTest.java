@@ -0,0 +1,95 @@
+package Engine;
+
+import Model.Enumeration.MapLayout;
+import Model.Enumeration.TileState;
+import Model.Tile;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Diver reachability test class
+ * Checks the MoveGenerator bitboard flood fill against a plain breadth-first search
+ * over the tiles' adjacency lists, for every pair of tiles on randomly flooded boards
+ */
+public class DiverReachabilityTest {
+    private static final int BOARDS = 300;
+    private static final List<String> testResults = new ArrayList<>();
+
+    public static void main(String[] args) {
+        System.out.println("Starting Diver reachability tests...\n");
+
+        // Compare flood fill and search on random boards
+        testAgainstSearch(new SplittableRandom(1));
+
+        // Print test results
+        System.out.println("\nTest Results Summary:");
+        for (String result : testResults) {
+            System.out.println(result);
+        }
+    }
+
+    private static void testAgainstSearch(SplittableRandom random) {
+        System.out.println("=== Testing flood fill against breadth-first search ===");
+        MapLayout[] layouts = MapLayout.values();
+        long pairs = 0;
+        for (int board = 0; board < BOARDS; board++) {
+            GameEngine engine = new GameEngine(4, layouts[board % layouts.length], 2, random.split());
+            List<Tile> tiles = engine.getAllTiles();
+            for (Tile tile : tiles) {
+                tile.setState(TileState.values()[random.nextInt(TileState.values().length)]);
+            }
+
+            MoveGenerator moves = engine.getMoveGenerator();
+            for (Tile start : tiles) {
+                for (Tile target : tiles) {
+                    if (start == target) {
+                        continue;
+                    }
+                    pairs++;
+                    if (search(start, target) != moves.isDiverReachable(start, target)) {
+                        addTestResult("✗ Board " + board + ": " + start.getName() + " -> " + target.getName()
+                                + " differs from the search");
+                        return;
+                    }
+                }
+            }
+        }
+        addTestResult("✓ Flood fill matches the search on " + pairs + " tile pairs (" + BOARDS + " boards)");
+    }
+
+    /**
+     * Reference rule: swim through flooded or sunk tiles, stop on any unsunk tile
+     */
+    private static boolean search(Tile start, Tile target) {
+        if (target.getState() == TileState.SUNK) {
+            return false;
+        }
+        Set<Tile> visited = new HashSet<>();
+        List<Tile> queue = new ArrayList<>();
+        queue.add(start);
+        visited.add(start);
+        for (int head = 0; head < queue.size(); head++) {
+            for (Tile next : queue.get(head).getAdjacentTiles()) {
+                if (!visited.add(next)) {
+                    continue;
+                }
+                if (next.equals(target)) {
+                    return true;
+                }
+                if (next.getState() != TileState.NORMAL) {
+                    queue.add(next);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void addTestResult(String result) {
+        testResults.add(result);
+        System.out.println(result);
+    }
+}
@@ -0,0 +1,488 @@
+package Engine;
+
+import Model.Cards.Card;
+import Model.Cards.HelicopterCard;
+import Model.Cards.SandbagCard;
+import Model.Cards.TreasureCard;
+import Model.Enumeration.GamePhase;
+import Model.Enumeration.TileState;
+import Model.Player;
+import Model.Role.Engineer;
+import Model.Role.Navigator;
+import Model.Role.Pilot;
+import Model.Role.Role;
+import Model.Tile;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Game Action Class
+ * One decision a player can take. The PlayerInfoView buttons start the MOVE,
+ * SHORE_UP, GIVE_CARD, CAPTURE_TREASURE and SKIP kinds and the role's special kind;
+ * the card buttons play SANDBAG and HELICOPTER, and the engine waits on the DISCARD
+ * and EMERGENCY_MOVE decisions between turns
+ *
+ * Tiles are stored as coordinates and cards by reference, so an action found on a
+ * GameEngine copy can be applied to the original game. Bots, replays and benchmarks
+ * build actions with the factory methods and submit them through GameEngine.execute,
+ * which checks them with ActionValidator first
+ */
+public final class GameAction {
+    /**
+     * Action kinds; FLY and NAVIGATE are the Pilot's and Navigator's special actions
+     * The order is part of the replay format
+     */
+    public enum Kind {
+        MOVE("Move"),
+        SHORE_UP("Shore up"),
+        GIVE_CARD("Give Cards"),
+        FLY("Fly"),
+        NAVIGATE("Navigate"),
+        SANDBAG("Sandbag"),
+        HELICOPTER("Helicopter"),
+        CAPTURE_TREASURE("Treasure"),
+        ESCAPE("Escape"),
+        SKIP("Skip"),
+        DISCARD("Discard"),
+        EMERGENCY_MOVE("Swim");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Get the text shown on the button that starts this kind of action
+         * @return Button label
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * Get the action a role starts with its special button
+     *
+     * @param role Role
+     * @return FLY for the Pilot, NAVIGATE for the Navigator, or null if the ability needs no button
+     */
+    public static Kind specialKindOf(Role role) {
+        if (role instanceof Pilot) {
+            return Kind.FLY;
+        }
+        if (role instanceof Navigator) {
+            return Kind.NAVIGATE;
+        }
+        return null;
+    }
+
+    private static final int NONE = -1;
+
+    private final Kind kind;
+    private final int playerIndex;
+    private final int targetPlayerIndex;
+    private final int row;
+    private final int col;
+    private final int secondRow;
+    private final int secondCol;
+    private final Card card;
+    private final int passengerMask; // Helicopter passengers by player bit, NONE for everyone on the tile
+
+    private GameAction(Kind kind, int playerIndex, int targetPlayerIndex, Tile first, Tile second, Card card) {
+        this(kind, playerIndex, targetPlayerIndex, first, second, card, NONE);
+    }
+
+    private GameAction(Kind kind, int playerIndex, int targetPlayerIndex, Tile first, Tile second, Card card,
+            int passengerMask) {
+        this.kind = kind;
+        this.playerIndex = playerIndex;
+        this.targetPlayerIndex = targetPlayerIndex;
+        this.row = first == null ? NONE : first.getRow();
+        this.col = first == null ? NONE : first.getCol();
+        this.secondRow = second == null ? NONE : second.getRow();
+        this.secondCol = second == null ? NONE : second.getCol();
+        this.card = card;
+        this.passengerMask = passengerMask;
+    }
+
+    // =============== Factory Methods ===============
+
+    public static GameAction move(int playerIndex, Tile target) {
+        return new GameAction(Kind.MOVE, playerIndex, NONE, target, null, null);
+    }
+
+    /**
+     * Shore up one tile, or two for the Engineer
+     *
+     * @param second Second tile, or null
+     */
+    public static GameAction shoreUp(int playerIndex, Tile first, Tile second) {
+        return new GameAction(Kind.SHORE_UP, playerIndex, NONE, first, second, null);
+    }
+
+    public static GameAction giveCard(int playerIndex, int targetPlayerIndex, Card card) {
+        return new GameAction(Kind.GIVE_CARD, playerIndex, targetPlayerIndex, null, null, card);
+    }
+
+    public static GameAction fly(int playerIndex, Tile target) {
+        return new GameAction(Kind.FLY, playerIndex, NONE, target, null, null);
+    }
+
+    /**
+     * Navigator moves another player up to two times
+     *
+     * @param second Second destination, or null
+     */
+    public static GameAction navigate(int playerIndex, int targetPlayerIndex, Tile first, Tile second) {
+        return new GameAction(Kind.NAVIGATE, playerIndex, targetPlayerIndex, first, second, null);
+    }
+
+    public static GameAction sandbag(int playerIndex, Tile target) {
+        return new GameAction(Kind.SANDBAG, playerIndex, NONE, target, null, null);
+    }
+
+    /**
+     * Helicopter lift; everyone on the holder's tile flies along
+     */
+    public static GameAction helicopter(int playerIndex, Tile target) {
+        return new GameAction(Kind.HELICOPTER, playerIndex, NONE, target, null, null);
+    }
+
+    /**
+     * Helicopter lift taking only the chosen players on the holder's tile
+     *
+     * @param passengers Indexes of the players flying along, possibly empty
+     */
+    public static GameAction helicopter(int playerIndex, List<Integer> passengers, Tile target) {
+        int mask = 0;
+        for (int passenger : passengers) {
+            mask |= 1 << passenger;
+        }
+        return new GameAction(Kind.HELICOPTER, playerIndex, NONE, target, null, null, mask);
+    }
+
+    public static GameAction captureTreasure(int playerIndex) {
+        return new GameAction(Kind.CAPTURE_TREASURE, playerIndex, NONE, null, null, null);
+    }
+
+    public static GameAction escape(int playerIndex) {
+        return new GameAction(Kind.ESCAPE, playerIndex, NONE, null, null, null);
+    }
+
+    public static GameAction skip(int playerIndex) {
+        return new GameAction(Kind.SKIP, playerIndex, NONE, null, null, null);
+    }
+
+    public static GameAction discard(int playerIndex, Card card) {
+        return new GameAction(Kind.DISCARD, playerIndex, NONE, null, null, card);
+    }
+
+    public static GameAction emergencyMove(int playerIndex, Tile target) {
+        return new GameAction(Kind.EMERGENCY_MOVE, playerIndex, NONE, target, null, null);
+    }
+
+    /**
+     * Apply this action to a game without reporting why it was refused
+     * Use GameEngine.execute to get an ActionResult instead
+     *
+     * @param engine Game to change
+     * @return Returns true if the engine accepted the action
+     */
+    public boolean apply(GameEngine engine) {
+        Tile first = engine.getTile(row, col);
+        Tile second = engine.getTile(secondRow, secondCol);
+        switch (kind) {
+            case MOVE:
+                return engine.move(playerIndex, first);
+            case SHORE_UP:
+                return engine.shoreUp(playerIndex, first, second);
+            case GIVE_CARD:
+                return engine.giveCard(playerIndex, targetPlayerIndex, card);
+            case FLY:
+                return engine.fly(playerIndex, first);
+            case NAVIGATE:
+                return engine.navigate(playerIndex, targetPlayerIndex, first, second);
+            case SANDBAG:
+                return engine.useSandbag(playerIndex, first);
+            case HELICOPTER:
+                return engine.useHelicopter(playerIndex, getPassengers(engine), first);
+            case CAPTURE_TREASURE:
+                return engine.captureTreasure(playerIndex);
+            case ESCAPE:
+                return engine.escape(playerIndex);
+            case SKIP:
+                return engine.endTurn(playerIndex);
+            case DISCARD:
+                return engine.discard(playerIndex, card);
+            case EMERGENCY_MOVE:
+                return engine.emergencyMove(playerIndex, first);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Get the players flying along with a helicopter lift
+     * Without a chosen set, everyone standing with the card holder flies along
+     *
+     * @param engine Game to look the players up on
+     * @return Passenger indexes, empty for other actions
+     */
+    public List<Integer> getPassengers(GameEngine engine) {
+        List<Integer> passengers = new ArrayList<>();
+        if (kind != Kind.HELICOPTER) {
+            return passengers;
+        }
+        List<Player> players = engine.getPlayers();
+        if (passengerMask != NONE) {
+            // Keep every chosen bit so the engine refuses players that do not exist
+            for (int i = 0; i < Integer.SIZE; i++) {
+                if ((passengerMask & (1 << i)) != 0) {
+                    passengers.add(i);
+                }
+            }
+            return passengers;
+        }
+        Tile origin = players.get(playerIndex).getCurrentTile();
+        for (int i = 0; i < players.size(); i++) {
+            if (i != playerIndex && players.get(i).getCurrentTile().equals(origin)) {
+                passengers.add(i);
+            }
+        }
+        return passengers;
+    }
+
+    // =============== Legal Action Generation ===============
+
+    /**
+     * List the actions available to whichever player the engine is waiting on
+     * Cards of the same kind are interchangeable, so only one card per kind is offered
+     *
+     * @param engine Game
+     * @return Legal actions, empty when the game is over
+     */
+    public static List<GameAction> legalActions(GameEngine engine) {
+        List<GameAction> actions = new ArrayList<>();
+        switch (engine.getPhase()) {
+            case ACTION:
+                addTurnActions(engine, engine.getCurrentPlayerIndex(), actions);
+                break;
+            case DISCARD:
+                int discarder = engine.getPendingDiscardPlayerIndex();
+                for (Card card : distinctCards(engine.getPlayers().get(discarder))) {
+                    actions.add(new GameAction(Kind.DISCARD, discarder, NONE, null, null, card));
+                }
+                addFreeCardActions(engine, discarder, actions);
+                break;
+            case EMERGENCY_MOVE:
+                int swimmer = engine.getPendingEmergencyPlayerIndex();
+                for (Tile tile : engine.getEmergencyMoveTiles(swimmer)) {
+                    actions.add(new GameAction(Kind.EMERGENCY_MOVE, swimmer, NONE, tile, null, null));
+                }
+                break;
+            default:
+                break;
+        }
+        return actions;
+    }
+
+    private static void addTurnActions(GameEngine engine, int p, List<GameAction> actions) {
+        Player player = engine.getPlayers().get(p);
+
+        if (engine.canEscape()) {
+            for (int i = 0; i < engine.getPlayers().size(); i++) {
+                if (engine.getPlayers().get(i).hasCardType(HelicopterCard.class)) {
+                    actions.add(new GameAction(Kind.ESCAPE, i, NONE, null, null, null));
+                }
+            }
+        }
+        if (engine.canCaptureTreasure(p)) {
+            actions.add(new GameAction(Kind.CAPTURE_TREASURE, p, NONE, null, null, null));
+        }
+
+        for (Tile tile : engine.getMovableTiles(p)) {
+            actions.add(new GameAction(Kind.MOVE, p, NONE, tile, null, null));
+        }
+
+        List<Tile> shoreable = engine.getShoreableTiles(p);
+        for (int i = 0; i < shoreable.size(); i++) {
+            actions.add(new GameAction(Kind.SHORE_UP, p, NONE, shoreable.get(i), null, null));
+            if (player.getRole() instanceof Engineer) {
+                for (int j = i + 1; j < shoreable.size(); j++) {
+                    actions.add(new GameAction(Kind.SHORE_UP, p, NONE, shoreable.get(i), shoreable.get(j), null));
+                }
+            }
+        }
+
+        for (Card card : distinctCards(player)) {
+            for (int to = 0; to < engine.getPlayers().size(); to++) {
+                if (engine.canGiveCard(p, to, card)) {
+                    actions.add(new GameAction(Kind.GIVE_CARD, p, to, null, null, card));
+                }
+            }
+        }
+
+        if (player.getRole() instanceof Pilot && !engine.isPilotFlightUsed()) {
+            for (Tile tile : engine.getAllTiles()) {
+                if (engine.canFly(p, tile) && !engine.canMove(player, tile)) {
+                    actions.add(new GameAction(Kind.FLY, p, NONE, tile, null, null));
+                }
+            }
+        }
+
+        if (player.getRole() instanceof Navigator) {
+            for (int target = 0; target < engine.getPlayers().size(); target++) {
+                if (target == p) {
+                    continue;
+                }
+                for (Tile tile : engine.getMovableTiles(target)) {
+                    actions.add(new GameAction(Kind.NAVIGATE, p, target, tile, null, null));
+                }
+            }
+        }
+
+        addFreeCardActions(engine, p, actions);
+        actions.add(new GameAction(Kind.SKIP, p, NONE, null, null, null));
+    }
+
+    // Sandbag and helicopter cards can be played by their holder outside the action budget
+    private static void addFreeCardActions(GameEngine engine, int p, List<GameAction> actions) {
+        Player player = engine.getPlayers().get(p);
+        if (player.hasCardType(SandbagCard.class)) {
+            for (Tile tile : engine.getAllTiles()) {
+                if (tile.getState() == TileState.FLOODED) {
+                    actions.add(new GameAction(Kind.SANDBAG, p, NONE, tile, null, null));
+                }
+            }
+        }
+        if (player.hasCardType(HelicopterCard.class) && engine.getPhase() != GamePhase.DISCARD) {
+            for (Tile tile : engine.getAllTiles()) {
+                if (tile.getState() != TileState.SUNK && !tile.equals(player.getCurrentTile())) {
+                    actions.add(new GameAction(Kind.HELICOPTER, p, NONE, tile, null, null));
+                }
+            }
+        }
+    }
+
+    private static List<Card> distinctCards(Player player) {
+        List<Card> result = new ArrayList<>();
+        Set<Object> seen = new HashSet<>();
+        for (Card card : player.getHandCard().getCards()) {
+            Object key = card instanceof TreasureCard ? ((TreasureCard) card).getTreasureType() : card.getType();
+            if (seen.add(key)) {
+                result.add(card);
+            }
+        }
+        return result;
+    }
+
+    // =============== Accessors ===============
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getPlayerIndex() {
+        return playerIndex;
+    }
+
+    /**
+     * Get the player moved or given a card
+     *
+     * @return Player index, or -1 if the action has no target player
+     */
+    public int getTargetPlayerIndex() {
+        return targetPlayerIndex;
+    }
+
+    /**
+     * Get the first target tile on a game
+     *
+     * @param engine Game to look the tile up on
+     * @return Tile, or null if the action has no target tile
+     */
+    public Tile getTile(GameEngine engine) {
+        return engine.getTile(row, col);
+    }
+
+    /**
+     * Get the second target tile on a game (Engineer shore up, Navigator second step)
+     *
+     * @param engine Game to look the tile up on
+     * @return Tile, or null if the action has no second tile
+     */
+    public Tile getSecondTile(GameEngine engine) {
+        return engine.getTile(secondRow, secondCol);
+    }
+
+    public Card getCard() {
+        return card;
+    }
+
+    // Board cell of the first / second tile (row * 6 + col), or -1
+    int getCell() {
+        return row == NONE ? NONE : MoveGenerator.cellOf(row, col);
+    }
+
+    int getSecondCell() {
+        return secondRow == NONE ? NONE : MoveGenerator.cellOf(secondRow, secondCol);
+    }
+
+    // Chosen helicopter passengers by player bit, or -1 for everyone on the tile
+    int getPassengerMask() {
+        return passengerMask;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GameAction)) {
+            return false;
+        }
+        GameAction other = (GameAction) o;
+        return kind == other.kind && playerIndex == other.playerIndex
+                && targetPlayerIndex == other.targetPlayerIndex
+                && row == other.row && col == other.col
+                && secondRow == other.secondRow && secondCol == other.secondCol
+                && Objects.equals(card, other.card) && passengerMask == other.passengerMask;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, playerIndex, targetPlayerIndex, row, col, secondRow, secondCol, card,
+                passengerMask);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(kind.name()).append(" p").append(playerIndex);
+        if (targetPlayerIndex != NONE) {
+            sb.append(" -> p").append(targetPlayerIndex);
+        }
+        if (row != NONE) {
+            sb.append(" [").append(row).append(',').append(col).append(']');
+        }
+        if (secondRow != NONE) {
+            sb.append(" [").append(secondRow).append(',').append(secondCol).append(']');
+        }
+        if (card != null) {
+            sb.append(' ').append(card.getName());
+        }
+        if (passengerMask != NONE) {
+            sb.append(" with");
+            for (int i = 0; i < Integer.SIZE - 1; i++) {
+                if ((passengerMask & (1 << i)) != 0) {
+                    sb.append(" p").append(i);
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
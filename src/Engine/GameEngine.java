@@ -0,0 +1,1233 @@
+package Engine;
+
+import Controller.RoleManager;
+import Model.Cards.Card;
+import Model.Cards.FloodCard;
+import Model.Cards.HandCard;
+import Model.Cards.HelicopterCard;
+import Model.Cards.SandbagCard;
+import Model.Cards.TreasureCard;
+import Model.Cards.WaterRiseCard;
+import Model.Deck.FloodDeck;
+import Model.Deck.TreasureDeck;
+import Model.Enumeration.ActionResult;
+import Model.Enumeration.GamePhase;
+import Model.Enumeration.LossCause;
+import Model.Enumeration.MapLayout;
+import Model.Enumeration.TileName;
+import Model.Enumeration.TileState;
+import Model.Enumeration.TreasureType;
+import Model.GameRandom;
+import Model.Player;
+import Model.Role.Engineer;
+import Model.Role.Explorer;
+import Model.Role.Messenger;
+import Model.Role.Navigator;
+import Model.Role.Pilot;
+import Model.Role.Role;
+import Model.Role.RoleFactory;
+import Model.Tile;
+import Model.TileIndex;
+import Model.WaterLevel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Game Engine Class
+ * Headless implementation of the rules driven by GameController and MapController
+ * Owns the board, players, decks and water level of one game and exposes every
+ * player decision as a method call that returns whether it was legal, so a game can
+ * be played to the end without constructing BoardView, MapView or any dialog
+ */
+public class GameEngine {
+    public static final int MAP_SIZE = MapLayout.MAP_SIZE;
+    public static final int MAX_ACTIONS_PER_TURN = 3;
+    private static final int TREASURE_CARDS_PER_TURN = 2;
+    private static final int CARDS_PER_TREASURE = 4;
+
+    // Board
+    private final MapLayout layout;
+    private final Tile[][] tiles;
+    private final List<Tile> allTiles;
+    private final BoardState board;
+    private final MoveGenerator moveGenerator;
+    private final TileIndex tileIndex;
+    private final LossTracker lossTracker;
+    private ZobristHash zobristHash; // Created by the first getHash call
+    private Tile foolsLanding;
+
+    // Stream every shuffle of this game is drawn from
+    private final SplittableRandom random;
+
+    // Players and decks
+    private final List<Player> players;
+    private final TreasureDeck treasureDeck;
+    private final FloodDeck floodDeck;
+
+    // Turn state
+    private final WaterLevel waterLevel;
+    private int currentPlayerIndex;
+    private int turnCount;
+    private boolean pilotFlightUsed;
+    private GamePhase phase;
+    private LossCause lossCause;
+
+    // Pending decisions
+    private int discardPlayerIndex = -1;
+    private boolean nextTurnAfterDiscard;
+    private final List<Integer> emergencyMoveQueue;
+    private int pendingFloodDraws; // Flood cards still to draw this turn, paused while players swim
+
+    // Event listeners
+    private final List<Consumer<GameEngine>> onGameOverListeners;
+    private final List<Consumer<GameAction>> onActionListeners;
+
+    /**
+     * Constructor
+     * Builds the island, assigns roles, places players and deals the initial cards
+     *
+     * @param playerCount       Number of players (2-4)
+     * @param layout            Map layout
+     * @param initialWaterLevel Starting water level
+     */
+    public GameEngine(int playerCount, MapLayout layout, int initialWaterLevel) {
+        this(playerCount, layout, initialWaterLevel, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for a reproducible game
+     * The same random stream state always builds the same island, roles, positions and decks
+     *
+     * @param playerCount       Number of players (2-4)
+     * @param layout            Map layout
+     * @param initialWaterLevel Starting water level
+     * @param random            Stream owned by this game from now on
+     */
+    public GameEngine(int playerCount, MapLayout layout, int initialWaterLevel, SplittableRandom random) {
+        this(playerCount, layout, new WaterLevel(initialWaterLevel), random);
+    }
+
+    /**
+     * Create a new game that keeps its water level in the given WaterLevel
+     * The engine raises that instance as Waters Rise cards are drawn, so its listeners follow the game
+     *
+     * @param playerCount Number of players (2-4)
+     * @param layout      Island layout
+     * @param waterLevel  Water level at its starting value, owned by this game from now on
+     * @param random      Stream owned by this game from now on
+     */
+    public GameEngine(int playerCount, MapLayout layout, WaterLevel waterLevel, SplittableRandom random) {
+        if (playerCount < 2 || playerCount > 4) {
+            throw new IllegalArgumentException("Player count must be between 2-4");
+        }
+        if (waterLevel.isAtMaxLevel()) {
+            throw new IllegalArgumentException("Initial water level must be between "
+                    + WaterLevel.MIN_LEVEL + "-" + (WaterLevel.MAX_LEVEL - 1));
+        }
+        this.layout = layout;
+        this.tiles = new Tile[MAP_SIZE][MAP_SIZE];
+        this.allTiles = new ArrayList<>();
+        this.players = new ArrayList<>();
+        this.emergencyMoveQueue = new ArrayList<>();
+        this.onGameOverListeners = new ArrayList<>();
+        this.onActionListeners = new ArrayList<>();
+        this.waterLevel = waterLevel;
+        this.random = random;
+
+        buildBoard();
+        this.board = BoardState.of(allTiles);
+        this.moveGenerator = new MoveGenerator(allTiles, board);
+        this.tileIndex = new TileIndex(allTiles);
+        this.treasureDeck = new TreasureDeck(foolsLanding, random.split());
+        this.floodDeck = new FloodDeck(allTiles, random.split());
+        this.lossTracker = new LossTracker(tileIndex, moveGenerator, treasureDeck);
+        lossTracker.addOnLossListener(this::endGame);
+
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Player());
+        }
+        RoleManager.assignRolesToPlayers(players, random.split());
+        placePlayers();
+        board.track(players, treasureDeck);
+        dealInitialCards();
+
+        this.currentPlayerIndex = 0;
+        players.get(0).setActionPoints(MAX_ACTIONS_PER_TURN);
+        this.turnCount = 1;
+        this.phase = GamePhase.ACTION;
+    }
+
+    /**
+     * Copy constructor used by copy()
+     */
+    private GameEngine(GameEngine source, SplittableRandom random) {
+        this.layout = source.layout;
+        this.random = random;
+        this.tiles = new Tile[MAP_SIZE][MAP_SIZE];
+        this.allTiles = new ArrayList<>();
+        this.players = new ArrayList<>();
+        this.emergencyMoveQueue = new ArrayList<>(source.emergencyMoveQueue);
+        this.onGameOverListeners = new ArrayList<>();
+        this.onActionListeners = new ArrayList<>();
+
+        // Board: copy the packed state and build fresh tiles from it, in the source's order
+        this.board = source.board.copy();
+        for (Tile sourceTile : source.allTiles) {
+            int cell = MoveGenerator.cellOf(sourceTile);
+            Tile tile = new Tile(board.getName(cell), sourceTile.getRow(), sourceTile.getCol());
+            tile.setState(board.getState(cell));
+            tiles[tile.getRow()][tile.getCol()] = tile;
+            allTiles.add(tile);
+            if (tile.getName() == TileName.FOOLS_LANDING) {
+                foolsLanding = tile;
+            }
+        }
+        linkAdjacentTiles();
+        board.trackTiles(allTiles);
+        this.moveGenerator = new MoveGenerator(allTiles, board);
+        this.tileIndex = new TileIndex(allTiles);
+
+        // Players: cards are immutable and shared, so actions chosen on a copy
+        // can be replayed on the original with the same Card references; roles are
+        // per-game state and get new instances
+        for (Player sourcePlayer : source.players) {
+            Player player = new Player();
+            Role role = RoleFactory.copyOf(sourcePlayer.getRole());
+            player.setRole(role);
+            role.setPlayer(player);
+            player.setState(sourcePlayer.getState());
+            player.setActionPoints(sourcePlayer.getActionPoints());
+            int cell = board.getPlayerCell(players.size());
+            player.setCurrentTile(cell == BoardState.NO_CELL ? null : tiles[cell / MAP_SIZE][cell % MAP_SIZE]);
+            for (Card card : sourcePlayer.getHandCard().getCards()) {
+                player.getHandCard().addCardWithoutCheck(card);
+            }
+            players.add(player);
+        }
+
+        // Treasure deck: same draw and discard contents, unseen draw pile reshuffled
+        this.treasureDeck = new TreasureDeck(foolsLanding, random.split());
+        treasureDeck.clear();
+        source.treasureDeck.getDrawPileView().forEach(treasureDeck::discard);
+        treasureDeck.reshuffleDiscardPile();
+        source.treasureDeck.getDiscardPileView().forEach(treasureDeck::discard);
+        treasureDeck.finishInitialDraw();
+        for (TreasureType type : TreasureType.values()) {
+            for (int i = 0; i < source.treasureDeck.getCollectedTreasureCount(type); i++) {
+                treasureDeck.recordTreasureCollection(type);
+            }
+        }
+
+        // Flood deck: cards of sunk tiles are gone, unseen order is redrawn
+        this.floodDeck = new FloodDeck(allTiles, random.split());
+        for (Tile tile : allTiles) {
+            if (tile.getState() == TileState.SUNK) {
+                floodDeck.removeCardForSunkTile(tile);
+            }
+        }
+        board.track(players, treasureDeck);
+        this.lossTracker = new LossTracker(tileIndex, moveGenerator, treasureDeck);
+        lossTracker.addOnLossListener(this::endGame);
+
+        this.waterLevel = new WaterLevel(source.waterLevel.getCurrentLevel());
+        this.currentPlayerIndex = source.currentPlayerIndex;
+        this.turnCount = source.turnCount;
+        this.pilotFlightUsed = source.pilotFlightUsed;
+        this.phase = source.phase;
+        this.lossCause = source.lossCause;
+        this.discardPlayerIndex = source.discardPlayerIndex;
+        this.nextTurnAfterDiscard = source.nextTurnAfterDiscard;
+        this.pendingFloodDraws = source.pendingFloodDraws;
+    }
+
+    /**
+     * Constructor used by GameSnapshot
+     * Takes a board, players and decks already in their saved state and rebuilds what
+     * is derived from them; the turn state follows with restoreTurnState
+     */
+    GameEngine(MapLayout layout, List<Tile> boardTiles, List<Player> savedPlayers, TreasureDeck treasureDeck,
+            FloodDeck floodDeck, SplittableRandom random) {
+        this.layout = layout;
+        this.random = random;
+        this.tiles = new Tile[MAP_SIZE][MAP_SIZE];
+        this.allTiles = new ArrayList<>(boardTiles);
+        this.players = new ArrayList<>(savedPlayers);
+        this.emergencyMoveQueue = new ArrayList<>();
+        this.onGameOverListeners = new ArrayList<>();
+        this.onActionListeners = new ArrayList<>();
+        this.waterLevel = new WaterLevel();
+
+        for (Tile tile : allTiles) {
+            tiles[tile.getRow()][tile.getCol()] = tile;
+            if (tile.getName() == TileName.FOOLS_LANDING) {
+                foolsLanding = tile;
+            }
+        }
+        linkAdjacentTiles();
+        this.board = BoardState.of(allTiles);
+        this.moveGenerator = new MoveGenerator(allTiles, board);
+        this.tileIndex = new TileIndex(allTiles);
+        this.treasureDeck = treasureDeck;
+        this.floodDeck = floodDeck;
+        board.track(players, treasureDeck);
+        this.lossTracker = new LossTracker(tileIndex, moveGenerator, treasureDeck);
+        lossTracker.addOnLossListener(this::endGame);
+    }
+
+    /**
+     * Set the turn state of a game rebuilt by GameSnapshot
+     */
+    void restoreTurnState(int waterLevel, int currentPlayerIndex, int remainingActions, int turnCount,
+            boolean pilotFlightUsed, GamePhase phase, LossCause lossCause,
+            int discardPlayerIndex, boolean nextTurnAfterDiscard, List<Integer> emergencyMoveQueue,
+            int pendingFloodDraws) {
+        this.waterLevel.setCurrentLevel(waterLevel);
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.players.get(currentPlayerIndex).setActionPoints(remainingActions);
+        this.turnCount = turnCount;
+        this.pilotFlightUsed = pilotFlightUsed;
+        this.phase = phase;
+        this.lossCause = lossCause;
+        this.discardPlayerIndex = discardPlayerIndex;
+        this.nextTurnAfterDiscard = nextTurnAfterDiscard;
+        this.emergencyMoveQueue.clear();
+        this.emergencyMoveQueue.addAll(emergencyMoveQueue);
+        this.pendingFloodDraws = pendingFloodDraws;
+    }
+
+    /**
+     * Copy the game for search
+     * Everything a player can see is copied exactly; the order of the unseen treasure
+     * draw pile and flood cards is reshuffled, so each copy is one possible future.
+     * Listeners are not copied
+     *
+     * @return Independent game with the same visible state
+     */
+    public GameEngine copy() {
+        return copy(new SplittableRandom());
+    }
+
+    /**
+     * Copy the game, drawing the reshuffled unseen cards and all later shuffles from a given stream
+     * Safe to call from several threads at once, each with its own stream
+     *
+     * @param random Stream owned by the copy from now on
+     * @return Independent game with the same visible state
+     */
+    public GameEngine copy(SplittableRandom random) {
+        return new GameEngine(this, random);
+    }
+
+    // =============== Setup ===============
+
+    private void buildBoard() {
+        List<TileName> tileNames = new ArrayList<>(Arrays.asList(TileName.values()));
+        GameRandom.shuffle(tileNames, random);
+
+        for (int i = 0; i < layout.getTileCount(); i++) {
+            Tile tile = new Tile(tileNames.get(i), layout.getRow(i), layout.getCol(i));
+            tiles[tile.getRow()][tile.getCol()] = tile;
+            allTiles.add(tile);
+            if (tile.getName() == TileName.FOOLS_LANDING) {
+                foolsLanding = tile;
+            }
+        }
+
+        linkAdjacentTiles();
+    }
+
+    /**
+     * Set up adjacency relationships between tiles (up, down, left, right)
+     */
+    private void linkAdjacentTiles() {
+        int[][] dirs = { { -1, 0 }, { 1, 0 }, { 0, -1 }, { 0, 1 } };
+        for (Tile tile : allTiles) {
+            for (int[] d : dirs) {
+                Tile neighbour = getTile(tile.getRow() + d[0], tile.getCol() + d[1]);
+                if (neighbour != null) {
+                    tile.addAdjacentTile(neighbour);
+                }
+            }
+        }
+    }
+
+    private void placePlayers() {
+        List<Tile> startTiles = new ArrayList<>(allTiles);
+        GameRandom.shuffle(startTiles, random);
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).setCurrentTile(startTiles.get(i));
+        }
+    }
+
+    private void dealInitialCards() {
+        for (Player player : players) {
+            for (int j = 0; j < HandCard.getInitialCardCount(); j++) {
+                Card card = treasureDeck.drawInitialCard();
+                if (card != null) {
+                    try {
+                        player.addCard(card);
+                    } catch (HandCard.HandCardFullException e) {
+                        treasureDeck.discard(card);
+                    }
+                }
+            }
+        }
+        treasureDeck.finishInitialDraw();
+    }
+
+    // =============== Actions ===============
+
+    /**
+     * Validate and perform one action
+     * Single entry point for bots, replays and benchmarks; never shows a dialog
+     *
+     * @param action Action to perform
+     * @return OK if the action was performed, otherwise why it was refused
+     */
+    public ActionResult execute(GameAction action) {
+        ActionResult result = ActionValidator.validate(this, action);
+        if (!result.isSuccess()) {
+            return result;
+        }
+        if (!action.apply(this)) {
+            return ActionResult.CONDITIONS_NOT_MET;
+        }
+        onActionListeners.forEach(listener -> listener.accept(action));
+        return ActionResult.OK;
+    }
+
+    /**
+     * Move the current player to a tile
+     * Costs one action point
+     *
+     * @param playerIndex Player index
+     * @param target      Target tile
+     * @return Returns true if the move was legal and performed
+     */
+    public boolean move(int playerIndex, Tile target) {
+        if (!canAct(playerIndex) || !canMove(players.get(playerIndex), target)) {
+            return false;
+        }
+        players.get(playerIndex).setCurrentTile(target);
+        spendAction();
+        return true;
+    }
+
+    /**
+     * Pilot special ability: fly to any unsunk tile, once per turn
+     * Costs one action point
+     *
+     * @param playerIndex Player index
+     * @param target      Target tile
+     * @return Returns true if the flight was legal and performed
+     */
+    public boolean fly(int playerIndex, Tile target) {
+        if (!canAct(playerIndex) || !canFly(playerIndex, target)) {
+            return false;
+        }
+        players.get(playerIndex).setCurrentTile(target);
+        pilotFlightUsed = true;
+        spendAction();
+        return true;
+    }
+
+    /**
+     * Shore up one tile, or two tiles when the player is an Engineer
+     * Costs one action point
+     *
+     * @param playerIndex Player index
+     * @param first       First tile to shore up
+     * @param second      Second tile (Engineer only), may be null
+     * @return Returns true if the shore up was legal and performed
+     */
+    public boolean shoreUp(int playerIndex, Tile first, Tile second) {
+        if (!canAct(playerIndex) || !canShoreUp(playerIndex, first)) {
+            return false;
+        }
+        if (second != null && (second.equals(first)
+                || !(players.get(playerIndex).getRole() instanceof Engineer)
+                || !canShoreUp(playerIndex, second))) {
+            return false;
+        }
+        first.setState(TileState.NORMAL);
+        if (second != null) {
+            second.setState(TileState.NORMAL);
+        }
+        spendAction();
+        return true;
+    }
+
+    /**
+     * Give a card to another player on the same tile (any tile for the Messenger)
+     * Costs one action point; the receiver may have to discard afterwards
+     *
+     * @param fromPlayerIndex Giving player index
+     * @param toPlayerIndex   Receiving player index
+     * @param card            Card to give
+     * @return Returns true if the card was given
+     */
+    public boolean giveCard(int fromPlayerIndex, int toPlayerIndex, Card card) {
+        if (!canAct(fromPlayerIndex) || !canGiveCard(fromPlayerIndex, toPlayerIndex, card)) {
+            return false;
+        }
+        Player fromPlayer = players.get(fromPlayerIndex);
+        Player toPlayer = players.get(toPlayerIndex);
+        fromPlayer.removeCard(card);
+        toPlayer.getHandCard().addCardWithoutCheck(card);
+
+        fromPlayer.decrementActionPoints();
+        if (toPlayer.getHandCard().getCardCount() > HandCard.getMaxCards()) {
+            enterDiscardPhase(toPlayerIndex, false);
+        } else if (!fromPlayer.hasActionPoints()) {
+            finishTurn();
+        }
+        return true;
+    }
+
+    /**
+     * Capture the treasure of the tile the player stands on with 4 matching cards
+     * Costs one action point
+     *
+     * @param playerIndex Player index
+     * @return Returns true if the treasure was captured
+     */
+    public boolean captureTreasure(int playerIndex) {
+        if (!canAct(playerIndex) || !canCaptureTreasure(playerIndex)) {
+            return false;
+        }
+        Player player = players.get(playerIndex);
+        TreasureType type = TreasureType.forTile(player.getCurrentTile().getName());
+        int removed = 0;
+        for (Card card : player.getHandCard().getCards()) {
+            if (removed < CARDS_PER_TREASURE && card instanceof TreasureCard
+                    && ((TreasureCard) card).getTreasureType() == type) {
+                player.removeCard(card);
+                removed++;
+            }
+        }
+        treasureDeck.recordTreasureCollection(type);
+        spendAction();
+        return true;
+    }
+
+    /**
+     * Navigator special ability: move another player up to two times
+     * Costs one action point of the Navigator
+     *
+     * @param navigatorIndex    Navigator player index
+     * @param targetPlayerIndex Player to move
+     * @param first             First destination
+     * @param second            Second destination, may be null
+     * @return Returns true if the moves were legal and performed
+     */
+    public boolean navigate(int navigatorIndex, int targetPlayerIndex, Tile first, Tile second) {
+        if (!canAct(navigatorIndex) || !canNavigate(navigatorIndex, targetPlayerIndex, first, second)) {
+            return false;
+        }
+        players.get(targetPlayerIndex).setCurrentTile(second != null ? second : first);
+        spendAction();
+        return true;
+    }
+
+    /**
+     * Play a sandbag card to shore up any flooded tile
+     * Free action, also allowed while discarding
+     *
+     * @param playerIndex Player index
+     * @param target      Flooded tile
+     * @return Returns true if the card was played
+     */
+    public boolean useSandbag(int playerIndex, Tile target) {
+        if (phase == GamePhase.GAME_OVER || !isValidPlayer(playerIndex)
+                || target == null || target.getState() != TileState.FLOODED) {
+            return false;
+        }
+        Player player = players.get(playerIndex);
+        Card sandbag = findCard(player, SandbagCard.class);
+        if (sandbag == null) {
+            return false;
+        }
+        target.setState(TileState.NORMAL);
+        player.removeCard(sandbag);
+        treasureDeck.discard(sandbag);
+        resolveDiscardIfDone();
+        return true;
+    }
+
+    /**
+     * Play a helicopter card to fly the player and chosen passengers on the same tile
+     * to any unsunk tile. Free action, also allowed while discarding
+     *
+     * @param playerIndex Player index
+     * @param passengers  Indexes of other players on the same tile to take along
+     * @param target      Destination tile
+     * @return Returns true if the card was played
+     */
+    public boolean useHelicopter(int playerIndex, List<Integer> passengers, Tile target) {
+        if (phase == GamePhase.GAME_OVER || !isValidPlayer(playerIndex)
+                || target == null || target.getState() == TileState.SUNK) {
+            return false;
+        }
+        Player player = players.get(playerIndex);
+        Card helicopter = findCard(player, HelicopterCard.class);
+        if (helicopter == null) {
+            return false;
+        }
+        Tile origin = player.getCurrentTile();
+        for (int passenger : passengers) {
+            if (!isValidPlayer(passenger) || passenger == playerIndex
+                    || !players.get(passenger).getCurrentTile().equals(origin)) {
+                return false;
+            }
+        }
+        for (int passenger : passengers) {
+            players.get(passenger).setCurrentTile(target);
+        }
+        player.setCurrentTile(target);
+        player.removeCard(helicopter);
+        treasureDeck.discard(helicopter);
+        resolveDiscardIfDone();
+        return true;
+    }
+
+    /**
+     * Play a helicopter card to lift everyone off the island and win
+     * Requires all treasures collected and every player on Fool's Landing
+     *
+     * @param playerIndex Player holding the helicopter card
+     * @return Returns true if the game was won
+     */
+    public boolean escape(int playerIndex) {
+        if (phase == GamePhase.GAME_OVER || !isValidPlayer(playerIndex) || !canEscape()) {
+            return false;
+        }
+        Player player = players.get(playerIndex);
+        Card helicopter = findCard(player, HelicopterCard.class);
+        if (helicopter == null) {
+            return false;
+        }
+        player.removeCard(helicopter);
+        treasureDeck.discard(helicopter);
+        for (Player p : players) {
+            p.rescue();
+        }
+        endGame(null);
+        return true;
+    }
+
+    /**
+     * End the current player's turn early (the "Skip" action)
+     *
+     * @param playerIndex Player index
+     * @return Returns true if the turn was ended
+     */
+    public boolean endTurn(int playerIndex) {
+        if (!canAct(playerIndex)) {
+            return false;
+        }
+        players.get(playerIndex).setActionPoints(0);
+        finishTurn();
+        return true;
+    }
+
+    /**
+     * Discard a card from the hand of the player who is over the hand limit
+     *
+     * @param playerIndex Player index
+     * @param card        Card to discard
+     * @return Returns true if the card was discarded
+     */
+    public boolean discard(int playerIndex, Card card) {
+        if (phase != GamePhase.DISCARD || playerIndex != discardPlayerIndex) {
+            return false;
+        }
+        Player player = players.get(playerIndex);
+        if (!player.getHandCard().contains(card)) {
+            return false;
+        }
+        player.removeCard(card);
+        treasureDeck.discard(card);
+        resolveDiscardIfDone();
+        return true;
+    }
+
+    /**
+     * Swim from a sunken tile to a neighbouring unsunk tile
+     *
+     * @param playerIndex Player index
+     * @param target      Destination tile
+     * @return Returns true if the move was legal and performed
+     */
+    public boolean emergencyMove(int playerIndex, Tile target) {
+        if (phase != GamePhase.EMERGENCY_MOVE || getPendingEmergencyPlayerIndex() != playerIndex
+                || !canEmergencyMove(playerIndex, target)) {
+            return false;
+        }
+        players.get(playerIndex).setCurrentTile(target);
+        emergencyMoveQueue.remove(0);
+        continueFloodDraw();
+        return true;
+    }
+
+    // =============== Rule Checks ===============
+
+    /**
+     * Check if a player may move to a tile with a regular move
+     *
+     * @param player Player
+     * @param target Target tile
+     * @return Returns true if the move is legal
+     */
+    public boolean canMove(Player player, Tile target) {
+        if (target == null || target.getState() == TileState.SUNK) {
+            return false;
+        }
+        return moveGenerator.canMove(player, target, false);
+    }
+
+    /**
+     * Check if a Pilot may fly to a tile this turn
+     *
+     * @param playerIndex Player index
+     * @param target      Target tile
+     * @return Returns true if the flight is legal
+     */
+    public boolean canFly(int playerIndex, Tile target) {
+        Player player = players.get(playerIndex);
+        return player.getRole() instanceof Pilot && !pilotFlightUsed
+                && target != null && target.getState() != TileState.SUNK
+                && !target.equals(player.getCurrentTile());
+    }
+
+    /**
+     * Check if a player may shore up a tile
+     *
+     * @param playerIndex Player index
+     * @param target      Target tile
+     * @return Returns true if the tile is flooded and within reach
+     */
+    public boolean canShoreUp(int playerIndex, Tile target) {
+        if (target == null || !target.isShoreable()) {
+            return false;
+        }
+        Player player = players.get(playerIndex);
+        Tile current = player.getCurrentTile();
+        if (player.getRole() instanceof Explorer) {
+            return isWithinOneStep(current, target) || current.equals(target);
+        }
+        return current.isAdjacentTo(target) || current.equals(target);
+    }
+
+    /**
+     * Check if a card may be given from one player to another
+     *
+     * @param fromPlayerIndex Giving player index
+     * @param toPlayerIndex   Receiving player index
+     * @param card            Card to give
+     * @return Returns true if the card can be given
+     */
+    public boolean canGiveCard(int fromPlayerIndex, int toPlayerIndex, Card card) {
+        if (!isValidPlayer(toPlayerIndex) || fromPlayerIndex == toPlayerIndex || card == null) {
+            return false;
+        }
+        Player fromPlayer = players.get(fromPlayerIndex);
+        Player toPlayer = players.get(toPlayerIndex);
+        boolean sameLocation = fromPlayer.getCurrentTile().equals(toPlayer.getCurrentTile());
+        return (sameLocation || fromPlayer.getRole() instanceof Messenger)
+                && fromPlayer.getHandCard().contains(card);
+    }
+
+    /**
+     * Check if a Navigator may move another player to one tile, or on to a second
+     *
+     * @param navigatorIndex    Navigator player index
+     * @param targetPlayerIndex Player to move
+     * @param first             First destination
+     * @param second            Second destination, may be null
+     * @return Returns true if both steps are legal moves for the moved player
+     */
+    public boolean canNavigate(int navigatorIndex, int targetPlayerIndex, Tile first, Tile second) {
+        if (targetPlayerIndex == navigatorIndex || !isValidPlayer(targetPlayerIndex)
+                || !(players.get(navigatorIndex).getRole() instanceof Navigator)) {
+            return false;
+        }
+        Player target = players.get(targetPlayerIndex);
+        return isValidNavigatorMove(target, target.getCurrentTile(), first)
+                && (second == null || isValidNavigatorMove(target, first, second));
+    }
+
+    /**
+     * Check if a player may swim from their tile to a neighbouring tile
+     *
+     * @param playerIndex Player index
+     * @param target      Destination tile
+     * @return Returns true if the target is an unsunk neighbour (diagonals included for the Explorer)
+     */
+    public boolean canEmergencyMove(int playerIndex, Tile target) {
+        return target != null && (moveGenerator.getEmergencyMoves(players.get(playerIndex))
+                & MoveGenerator.bit(MoveGenerator.cellOf(target))) != 0;
+    }
+
+    /**
+     * Check if a player can capture the treasure of their current tile
+     *
+     * @param playerIndex Player index
+     * @return Returns true if on a treasure tile with 4 matching cards
+     */
+    public boolean canCaptureTreasure(int playerIndex) {
+        Player player = players.get(playerIndex);
+        TreasureType type = TreasureType.forTile(player.getCurrentTile().getName());
+        if (type == null || treasureDeck.isTreasureCollected(type)) {
+            return false;
+        }
+        int count = 0;
+        for (Card card : player.getHandCard().getCards()) {
+            if (card instanceof TreasureCard && ((TreasureCard) card).getTreasureType() == type) {
+                count++;
+            }
+        }
+        return count >= CARDS_PER_TREASURE;
+    }
+
+    /**
+     * Check if the team may escape by helicopter
+     *
+     * @return Returns true if all treasures are collected and everyone is on Fool's Landing
+     */
+    public boolean canEscape() {
+        if (!treasureDeck.allTreasuresCollected()) {
+            return false;
+        }
+        for (Player player : players) {
+            if (!player.getCurrentTile().equals(foolsLanding)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Diver movement: pass through any connected flooded or sunk tiles and stop on an unsunk tile
+     *
+     * @param start  Start tile
+     * @param target Target tile
+     * @return Returns true if the target can be reached
+     */
+    public boolean isDiverReachable(Tile start, Tile target) {
+        return moveGenerator.isDiverReachable(start, target);
+    }
+
+    /**
+     * Get all tiles a player can reach with a regular move
+     *
+     * @param playerIndex Player index
+     * @return List of reachable tiles
+     */
+    public List<Tile> getMovableTiles(int playerIndex) {
+        return moveGenerator.tilesOf(moveGenerator.getMoves(players.get(playerIndex), false));
+    }
+
+    /**
+     * Get all tiles a player can shore up
+     *
+     * @param playerIndex Player index
+     * @return List of shoreable tiles
+     */
+    public List<Tile> getShoreableTiles(int playerIndex) {
+        List<Tile> result = new ArrayList<>();
+        for (Tile tile : allTiles) {
+            if (canShoreUp(playerIndex, tile)) {
+                result.add(tile);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the tiles a stranded player may swim to
+     *
+     * @param playerIndex Player index
+     * @return List of unsunk neighbouring tiles (diagonals included for the Explorer)
+     */
+    public List<Tile> getEmergencyMoveTiles(int playerIndex) {
+        Player player = players.get(playerIndex);
+        Tile current = player.getCurrentTile();
+        boolean isExplorer = player.getRole() instanceof Explorer;
+        List<Tile> result = new ArrayList<>();
+        for (Tile tile : allTiles) {
+            if (tile.getState() == TileState.SUNK) {
+                continue;
+            }
+            if (isExplorer ? isWithinOneStep(current, tile) : current.isAdjacentTo(tile)) {
+                result.add(tile);
+            }
+        }
+        return result;
+    }
+
+    private boolean isValidNavigatorMove(Player target, Tile from, Tile to) {
+        if (from == null || to == null) {
+            return false;
+        }
+        // A Pilot moved by the Navigator may land anywhere
+        long moves = moveGenerator.getMoves(target.getRole(), MoveGenerator.cellOf(from), true);
+        return (moves & MoveGenerator.bit(MoveGenerator.cellOf(to))) != 0;
+    }
+
+    private boolean isWithinOneStep(Tile from, Tile to) {
+        int rowDistance = Math.abs(from.getRow() - to.getRow());
+        int colDistance = Math.abs(from.getCol() - to.getCol());
+        return rowDistance <= 1 && colDistance <= 1 && (rowDistance + colDistance) > 0;
+    }
+
+    // =============== Turn Flow ===============
+
+    private boolean canAct(int playerIndex) {
+        return phase == GamePhase.ACTION && playerIndex == currentPlayerIndex
+                && players.get(playerIndex).hasActionPoints();
+    }
+
+    private void spendAction() {
+        if (players.get(currentPlayerIndex).decrementActionPoints() == 0) {
+            finishTurn();
+        }
+    }
+
+    /**
+     * End of turn: draw treasure cards, apply Waters Rise cards, then discard or flood
+     */
+    private void finishTurn() {
+        Player player = players.get(currentPlayerIndex);
+        for (int i = 0; i < TREASURE_CARDS_PER_TURN; i++) {
+            Card card = treasureDeck.draw();
+            if (card != null) {
+                player.getHandCard().addCardWithoutCheck(card);
+            }
+        }
+
+        // Waters Rise cards take effect immediately
+        for (Card card : player.getHandCard().getCards()) {
+            if (card instanceof WaterRiseCard) {
+                player.removeCard(card);
+                treasureDeck.discard(card);
+                waterLevel.increaseLevel();
+            }
+        }
+
+        if (player.getHandCard().getCardCount() > HandCard.getMaxCards()) {
+            enterDiscardPhase(currentPlayerIndex, true);
+            return;
+        }
+        startNewTurn();
+    }
+
+    /**
+     * Start of the next player's turn: check the water level and draw flood cards
+     */
+    private void startNewTurn() {
+        currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+        players.get(currentPlayerIndex).setActionPoints(MAX_ACTIONS_PER_TURN);
+        pilotFlightUsed = false;
+        turnCount++;
+        phase = GamePhase.ACTION;
+
+        if (waterLevel.isAtMaxLevel()) {
+            endGame(LossCause.WATER_LEVEL_MAX);
+            return;
+        }
+
+        pendingFloodDraws = getFloodDrawCount();
+        continueFloodDraw();
+    }
+
+    /**
+     * Draw the flood cards still due this turn
+     * Pauses after a card that sinks a tile with players on it, so each of them swims
+     * off before the next card is drawn; emergencyMove resumes the draw
+     */
+    private void continueFloodDraw() {
+        // A sink that loses the game ends it through the loss tracker, so stop drawing
+        while (phase != GamePhase.GAME_OVER) {
+            if (!emergencyMoveQueue.isEmpty()) {
+                int playerIndex = emergencyMoveQueue.get(0);
+                if (players.get(playerIndex).getCurrentTile().getState() != TileState.SUNK) {
+                    emergencyMoveQueue.remove(0);
+                    continue;
+                }
+                if (getEmergencyMoveTiles(playerIndex).isEmpty()) {
+                    emergencyMoveQueue.clear();
+                    endGame(LossCause.PLAYER_DROWNED);
+                    return;
+                }
+                phase = GamePhase.EMERGENCY_MOVE;
+                return;
+            }
+            if (pendingFloodDraws == 0) {
+                phase = GamePhase.ACTION;
+                return;
+            }
+
+            pendingFloodDraws--;
+            FloodCard card = floodDeck.draw();
+            if (card == null) {
+                continue;
+            }
+            Tile targetTile = card.getTargetTile();
+            card.use(floodDeck);
+            if (targetTile.getState() == TileState.SUNK) {
+                for (int j = 0; j < players.size(); j++) {
+                    if (players.get(j).getCurrentTile().equals(targetTile)) {
+                        emergencyMoveQueue.add(j);
+                    }
+                }
+            }
+        }
+    }
+
+    private void enterDiscardPhase(int playerIndex, boolean nextTurnAfterDiscard) {
+        this.discardPlayerIndex = playerIndex;
+        this.nextTurnAfterDiscard = nextTurnAfterDiscard;
+        this.phase = GamePhase.DISCARD;
+    }
+
+    private void resolveDiscardIfDone() {
+        if (phase != GamePhase.DISCARD
+                || players.get(discardPlayerIndex).getHandCard().getCardCount() > HandCard.getMaxCards()) {
+            return;
+        }
+        discardPlayerIndex = -1;
+        if (nextTurnAfterDiscard) {
+            startNewTurn();
+        } else if (!players.get(currentPlayerIndex).hasActionPoints()) {
+            phase = GamePhase.ACTION;
+            finishTurn();
+        } else {
+            phase = GamePhase.ACTION;
+        }
+    }
+
+    /**
+     * Evaluate the board's loss conditions without ending the game
+     * Reads the LossTracker counters; drowning is not among them, it is decided by the
+     * flood draw when a stranded player's turn to swim comes
+     *
+     * @return First loss condition that holds, or null if the game can go on
+     */
+    public LossCause findLossCause() {
+        return lossTracker.findLossCause();
+    }
+
+    private void endGame(LossCause cause) {
+        if (phase == GamePhase.GAME_OVER) {
+            return;
+        }
+        this.lossCause = cause;
+        this.phase = GamePhase.GAME_OVER;
+        this.pendingFloodDraws = 0;
+        onGameOverListeners.forEach(listener -> listener.accept(this));
+    }
+
+    private Card findCard(Player player, Class<? extends Card> cardClass) {
+        for (Card card : player.getHandCard().getCards()) {
+            if (cardClass.isInstance(card)) {
+                return card;
+            }
+        }
+        return null;
+    }
+
+    private boolean isValidPlayer(int playerIndex) {
+        return playerIndex >= 0 && playerIndex < players.size();
+    }
+
+    // =============== State Access ===============
+
+    /**
+     * Get number of flood cards drawn per turn at the current water level
+     *
+     * @return Flood card count
+     */
+    public int getFloodDrawCount() {
+        return waterLevel.getDrawCount();
+    }
+
+    public Tile getTile(int row, int col) {
+        if (row >= 0 && row < MAP_SIZE && col >= 0 && col < MAP_SIZE) {
+            return tiles[row][col];
+        }
+        return null;
+    }
+
+    /**
+     * Get the packed state of this board
+     *
+     * @return Board state kept in step with this game's tiles, players and treasures
+     */
+    public BoardState getBoard() {
+        return board;
+    }
+
+    /**
+     * Get the Zobrist hash of the current state
+     * The first call hashes the game and subscribes to it, later calls only fold in
+     * the turn state, so copies made for search pay nothing until they are hashed
+     *
+     * @return 64-bit hash, equal to ZobristHash.hashOf(this)
+     */
+    public long getHash() {
+        if (zobristHash == null) {
+            zobristHash = new ZobristHash(this);
+        }
+        return zobristHash.getHash();
+    }
+
+    /**
+     * Get the move generator for this board
+     *
+     * @return Move generator tracking this game's tiles
+     */
+    public MoveGenerator getMoveGenerator() {
+        return moveGenerator;
+    }
+
+    /**
+     * Get the name and treasure index of this board
+     *
+     * @return Tile index
+     */
+    public TileIndex getTileIndex() {
+        return tileIndex;
+    }
+
+    public List<Tile> getAllTiles() {
+        return Collections.unmodifiableList(allTiles);
+    }
+
+    public Tile getFoolsLanding() {
+        return foolsLanding;
+    }
+
+    public MapLayout getLayout() {
+        return layout;
+    }
+
+    public List<Player> getPlayers() {
+        return Collections.unmodifiableList(players);
+    }
+
+    public TreasureDeck getTreasureDeck() {
+        return treasureDeck;
+    }
+
+    public FloodDeck getFloodDeck() {
+        return floodDeck;
+    }
+
+    /**
+     * Get this game's water level
+     * The engine is the only writer; views follow it with level change listeners
+     *
+     * @return Water level
+     */
+    public WaterLevel getWaterLevel() {
+        return waterLevel;
+    }
+
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    public int getRemainingActions() {
+        return players.get(currentPlayerIndex).getActionPoints();
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    public GamePhase getPhase() {
+        return phase;
+    }
+
+    public boolean isGameOver() {
+        return phase == GamePhase.GAME_OVER;
+    }
+
+    public boolean isWon() {
+        return phase == GamePhase.GAME_OVER && lossCause == null;
+    }
+
+    /**
+     * Get the reason the game was lost
+     *
+     * @return Loss cause, or null while playing or after a win
+     */
+    public LossCause getLossCause() {
+        return lossCause;
+    }
+
+    /**
+     * Get the player who has to discard down to the hand limit
+     *
+     * @return Player index, or -1 outside the discard phase
+     */
+    public int getPendingDiscardPlayerIndex() {
+        return phase == GamePhase.DISCARD ? discardPlayerIndex : -1;
+    }
+
+    /**
+     * Get the player who has to swim off a sunken tile next
+     *
+     * @return Player index, or -1 outside the emergency move phase
+     */
+    public int getPendingEmergencyPlayerIndex() {
+        return phase == GamePhase.EMERGENCY_MOVE ? emergencyMoveQueue.get(0) : -1;
+    }
+
+    public boolean isPilotFlightUsed() {
+        return pilotFlightUsed;
+    }
+
+    // Raw pending decision state, saved by GameSnapshot
+    int getDiscardPlayerIndex() {
+        return discardPlayerIndex;
+    }
+
+    boolean isNextTurnAfterDiscard() {
+        return nextTurnAfterDiscard;
+    }
+
+    List<Integer> getEmergencyMoveQueue() {
+        return Collections.unmodifiableList(emergencyMoveQueue);
+    }
+
+    int getPendingFloodDraws() {
+        return pendingFloodDraws;
+    }
+
+    // =============== Event Listener Management ===============
+
+    /**
+     * Add game over listener
+     *
+     * @param listener Listener, called once when the game is won or lost
+     */
+    public void addOnGameOverListener(Consumer<GameEngine> listener) {
+        onGameOverListeners.add(listener);
+    }
+
+    /**
+     * Add action listener, called after each action performed through execute
+     * Listeners are not carried over to copies
+     *
+     * @param listener Listener
+     */
+    public void addOnActionListener(Consumer<GameAction> listener) {
+        onActionListeners.add(listener);
+    }
+}
@@ -0,0 +1,386 @@
+package Engine;
+
+import Model.Cards.Card;
+import Model.Cards.FloodCard;
+import Model.Deck.FloodDeck;
+import Model.Deck.TreasureDeck;
+import Model.Enumeration.GamePhase;
+import Model.Enumeration.LossCause;
+import Model.Enumeration.MapLayout;
+import Model.Enumeration.PlayerState;
+import Model.Enumeration.TileName;
+import Model.Enumeration.TileState;
+import Model.Enumeration.TreasureType;
+import Model.Player;
+import Model.Role.Role;
+import Model.Role.RoleFactory;
+import Model.Tile;
+import Model.WaterLevel;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Game Snapshot Class
+ * Complete state of a GameEngine in a compact versioned binary form
+ *
+ * Holds the board (tile names and states), players (role, state, tile, hand),
+ * treasure draw and discard piles in order, collected treasures, the flood deck's
+ * master and active cards with its current index, the water level and the turn and
+ * pending decision state. A snapshot is about 200 bytes, so one can be taken every
+ * turn and kept in memory, or written to any NIO channel.
+ *
+ * The file layout is the magic bytes "FISN", a version byte and a two-byte body
+ * length, then the body. Every field in the body is one byte except the four-byte
+ * turn count; cards are stored by id and flood cards by the cell of their tile.
+ *
+ * The game's random stream cannot be saved. A restored game is exact up to its next
+ * shuffle, and from then on draws from the stream passed to restore.
+ */
+public final class GameSnapshot {
+    public static final byte[] MAGIC = { 'F', 'I', 'S', 'N' };
+    public static final int VERSION = 2; // 2: flood cards still to draw this turn
+    private static final int HEADER_SIZE = MAGIC.length + 1 + 2;
+    private static final int MAX_BODY_SIZE = 1024;
+    private static final int NO_TILE = 0xFF;
+
+    private static final MapLayout[] LAYOUTS = MapLayout.values();
+    private static final TileName[] TILE_NAMES = TileName.values();
+    private static final TileState[] TILE_STATES = TileState.values();
+    private static final PlayerState[] PLAYER_STATES = PlayerState.values();
+    private static final GamePhase[] PHASES = GamePhase.values();
+    private static final LossCause[] LOSS_CAUSES = LossCause.values();
+
+    private final byte[] body;
+
+    private GameSnapshot(byte[] body) {
+        this.body = body;
+    }
+
+    // =============== Capture ===============
+
+    /**
+     * Take a snapshot of a game
+     *
+     * @param engine Game to save
+     * @return Snapshot of the current state
+     */
+    public static GameSnapshot of(GameEngine engine) {
+        ByteBuffer out = ByteBuffer.allocate(MAX_BODY_SIZE);
+        out.put((byte) engine.getLayout().ordinal());
+
+        List<Tile> tiles = engine.getAllTiles();
+        out.put((byte) tiles.size());
+        for (Tile tile : tiles) {
+            out.put((byte) MoveGenerator.cellOf(tile));
+            out.put((byte) tile.getName().ordinal());
+            out.put((byte) tile.getState().ordinal());
+        }
+
+        List<Player> players = engine.getPlayers();
+        out.put((byte) players.size());
+        for (Player player : players) {
+            out.put((byte) RoleFactory.idOf(player.getRole()));
+            out.put((byte) player.getState().ordinal());
+            Tile tile = player.getCurrentTile();
+            out.put((byte) (tile == null ? NO_TILE : MoveGenerator.cellOf(tile)));
+            putCardIds(out, player.getHandCard().getCards());
+        }
+
+        TreasureDeck treasureDeck = engine.getTreasureDeck();
+        putCardIds(out, treasureDeck.getDrawPileView());
+        putCardIds(out, treasureDeck.getDiscardPileView());
+        for (TreasureType type : TreasureType.values()) {
+            out.put((byte) treasureDeck.getCollectedTreasureCount(type));
+        }
+
+        FloodDeck floodDeck = engine.getFloodDeck();
+        putFloodCells(out, floodDeck.getMasterDeckView());
+        putFloodCells(out, floodDeck.getActiveDeckView());
+        out.put((byte) floodDeck.getCurrentIndex());
+
+        out.put((byte) engine.getWaterLevel().getCurrentLevel());
+        out.put((byte) engine.getCurrentPlayerIndex());
+        out.put((byte) engine.getRemainingActions());
+        out.putInt(engine.getTurnCount());
+        out.put((byte) ((engine.isPilotFlightUsed() ? 1 : 0) | (engine.isNextTurnAfterDiscard() ? 2 : 0)));
+        out.put((byte) engine.getPhase().ordinal());
+        LossCause lossCause = engine.getLossCause();
+        out.put((byte) (lossCause == null ? 0 : lossCause.ordinal() + 1));
+        out.put((byte) (engine.getDiscardPlayerIndex() + 1));
+        List<Integer> queue = engine.getEmergencyMoveQueue();
+        out.put((byte) queue.size());
+        for (int playerIndex : queue) {
+            out.put((byte) playerIndex);
+        }
+        out.put((byte) engine.getPendingFloodDraws());
+
+        byte[] body = new byte[out.position()];
+        out.flip();
+        out.get(body);
+        return new GameSnapshot(body);
+    }
+
+    private static void putCardIds(ByteBuffer out, List<? extends Card> cards) {
+        out.put((byte) cards.size());
+        for (Card card : cards) {
+            out.put((byte) card.getId());
+        }
+    }
+
+    private static void putFloodCells(ByteBuffer out, List<FloodCard> cards) {
+        out.put((byte) cards.size());
+        for (FloodCard card : cards) {
+            out.put((byte) MoveGenerator.cellOf(card.getTargetTile()));
+        }
+    }
+
+    // =============== Restore ===============
+
+    /**
+     * Rebuild the game with a fresh random stream for later shuffles
+     *
+     * @return New game in the saved state
+     */
+    public GameEngine restore() {
+        return restore(new SplittableRandom());
+    }
+
+    /**
+     * Rebuild the game
+     *
+     * @param random Stream owned by the restored game, drawn from at its next shuffle
+     * @return New game in the saved state
+     * @throws IllegalArgumentException If the snapshot is corrupt
+     */
+    public GameEngine restore(SplittableRandom random) {
+        try {
+            return decode(ByteBuffer.wrap(body), random);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Snapshot is truncated", e);
+        }
+    }
+
+    private static GameEngine decode(ByteBuffer in, SplittableRandom random) {
+        MapLayout layout = LAYOUTS[index(in, LAYOUTS.length, "layout")];
+
+        // Board
+        int tileCount = index(in, MoveGenerator.CELL_COUNT + 1, "tile count");
+        List<Tile> tiles = new ArrayList<>(tileCount);
+        Tile[] byCell = new Tile[MoveGenerator.CELL_COUNT];
+        Tile foolsLanding = null;
+        for (int i = 0; i < tileCount; i++) {
+            int cell = index(in, MoveGenerator.CELL_COUNT, "tile cell");
+            Tile tile = new Tile(TILE_NAMES[index(in, TILE_NAMES.length, "tile name")],
+                    cell / MoveGenerator.MAP_SIZE, cell % MoveGenerator.MAP_SIZE);
+            tile.setState(TILE_STATES[index(in, TILE_STATES.length, "tile state")]);
+            check(byCell[cell] == null, "two tiles on one cell");
+            byCell[cell] = tile;
+            tiles.add(tile);
+            if (tile.getName() == TileName.FOOLS_LANDING) {
+                foolsLanding = tile;
+            }
+        }
+        check(foolsLanding != null, "no Fool's Landing");
+
+        // Every treasure card is created by the deck, then found again by id
+        TreasureDeck treasureDeck = new TreasureDeck(foolsLanding, random.split());
+        List<Card> allCards = treasureDeck.getDrawPileView();
+        Card[] cardsById = new Card[allCards.size()];
+        for (Card card : allCards) {
+            cardsById[card.getId()] = card;
+        }
+        boolean[] dealt = new boolean[cardsById.length];
+
+        // Players
+        int playerCount = index(in, 5, "player count");
+        check(playerCount >= 2, "too few players");
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            Player player = new Player();
+            Role role = RoleFactory.create(index(in, RoleFactory.getRoleTypes().size(), "role"));
+            player.setRole(role);
+            role.setPlayer(player);
+            player.setState(PLAYER_STATES[index(in, PLAYER_STATES.length, "player state")]);
+            int cell = in.get() & 0xFF;
+            if (cell != NO_TILE) {
+                check(cell < MoveGenerator.CELL_COUNT && byCell[cell] != null, "player on water");
+                player.setCurrentTile(byCell[cell]);
+            }
+            for (Card card : getCards(in, cardsById, dealt)) {
+                player.getHandCard().addCardWithoutCheck(card);
+            }
+            players.add(player);
+        }
+
+        // Treasure deck
+        List<Card> drawPile = getCards(in, cardsById, dealt);
+        List<Card> discardPile = getCards(in, cardsById, dealt);
+        treasureDeck.restore(drawPile, discardPile);
+        treasureDeck.finishInitialDraw();
+        for (TreasureType type : TreasureType.values()) {
+            for (int n = in.get() & 0xFF; n > 0; n--) {
+                treasureDeck.recordTreasureCollection(type);
+            }
+        }
+
+        // Flood deck, one card per tile
+        FloodDeck floodDeck = new FloodDeck(tiles, random.split());
+        FloodCard[] floodByCell = new FloodCard[MoveGenerator.CELL_COUNT];
+        for (FloodCard card : floodDeck.getMasterDeckView()) {
+            floodByCell[MoveGenerator.cellOf(card.getTargetTile())] = card;
+        }
+        List<FloodCard> master = getFloodCards(in, floodByCell);
+        List<FloodCard> active = getFloodCards(in, floodByCell);
+        floodDeck.restore(master, active, index(in, active.size() + 1, "flood index"));
+
+        GameEngine engine = new GameEngine(layout, tiles, players, treasureDeck, floodDeck, random);
+
+        // Turn state
+        int waterLevel = index(in, WaterLevel.MAX_LEVEL + 1, "water level");
+        check(waterLevel >= WaterLevel.MIN_LEVEL, "water level");
+        int currentPlayer = index(in, playerCount, "current player");
+        int remainingActions = index(in, GameEngine.MAX_ACTIONS_PER_TURN + 1, "remaining actions");
+        int turnCount = in.getInt();
+        int flags = in.get();
+        GamePhase phase = PHASES[index(in, PHASES.length, "phase")];
+        int lossCause = index(in, LOSS_CAUSES.length + 1, "loss cause");
+        int discardPlayer = index(in, playerCount + 1, "discarding player") - 1;
+        int queueSize = index(in, playerCount + 1, "emergency queue");
+        List<Integer> queue = new ArrayList<>(queueSize);
+        for (int i = 0; i < queueSize; i++) {
+            queue.add(index(in, playerCount, "emergency player"));
+        }
+        int pendingFloodDraws = index(in, WaterLevel.MAX_DRAW_COUNT + 1, "pending flood draws");
+        check(!in.hasRemaining(), "trailing bytes");
+        engine.restoreTurnState(waterLevel, currentPlayer, remainingActions, turnCount,
+                (flags & 1) != 0, phase, lossCause == 0 ? null : LOSS_CAUSES[lossCause - 1],
+                discardPlayer, (flags & 2) != 0, queue, pendingFloodDraws);
+        return engine;
+    }
+
+    private static List<Card> getCards(ByteBuffer in, Card[] cardsById, boolean[] dealt) {
+        int count = index(in, cardsById.length + 1, "card count");
+        List<Card> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int id = index(in, cardsById.length, "card id");
+            check(!dealt[id], "card dealt twice");
+            dealt[id] = true;
+            cards.add(cardsById[id]);
+        }
+        return cards;
+    }
+
+    private static List<FloodCard> getFloodCards(ByteBuffer in, FloodCard[] byCell) {
+        int count = index(in, MoveGenerator.CELL_COUNT + 1, "flood card count");
+        List<FloodCard> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            FloodCard card = byCell[index(in, MoveGenerator.CELL_COUNT, "flood card")];
+            check(card != null, "flood card for water");
+            cards.add(card);
+        }
+        return cards;
+    }
+
+    // Read one unsigned byte and check it is below a bound
+    private static int index(ByteBuffer in, int bound, String field) {
+        int value = in.get() & 0xFF;
+        if (value >= bound) {
+            throw new IllegalArgumentException("Corrupt snapshot: " + field + " out of range: " + value);
+        }
+        return value;
+    }
+
+    private static void check(boolean valid, String problem) {
+        if (!valid) {
+            throw new IllegalArgumentException("Corrupt snapshot: " + problem);
+        }
+    }
+
+    // =============== Channels ===============
+
+    /**
+     * Write the snapshot, header included
+     *
+     * @param channel Channel to write to, left open
+     */
+    public void write(WritableByteChannel channel) throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + body.length);
+        out.put(MAGIC).put((byte) VERSION).putShort((short) body.length).put(body);
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+    }
+
+    /**
+     * Read one snapshot
+     *
+     * @param channel Channel positioned at a snapshot header, left open
+     * @return Snapshot; corrupt content is reported by restore
+     * @throws IOException If the channel ends early or holds no snapshot
+     */
+    public static GameSnapshot read(ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = readFully(channel, HEADER_SIZE);
+        for (byte expected : MAGIC) {
+            if (header.get() != expected) {
+                throw new IOException("Not a game snapshot");
+            }
+        }
+        int version = header.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+        int length = header.getShort() & 0xFFFF;
+        if (length > MAX_BODY_SIZE) {
+            throw new IOException("Snapshot too large: " + length + " bytes");
+        }
+        return new GameSnapshot(readFully(channel, length).array());
+    }
+
+    private static ByteBuffer readFully(ReadableByteChannel channel, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Snapshot is truncated");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Save to a file, replacing it
+     */
+    public void save(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            write(channel);
+        }
+    }
+
+    /**
+     * Load from a file
+     */
+    public static GameSnapshot load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    /**
+     * Get the size of the snapshot as written, header included
+     */
+    public int size() {
+        return HEADER_SIZE + body.length;
+    }
+}
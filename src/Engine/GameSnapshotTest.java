@@ -0,0 +1,158 @@
+package Engine;
+
+import Model.Enumeration.MapLayout;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Game snapshot test class
+ * Snapshots policy games at every step, writes and reads each snapshot through a
+ * channel, restores it and checks that the restored game is the same game
+ */
+public class GameSnapshotTest {
+    private static final int GAMES = 360;
+    private static final List<String> testResults = new ArrayList<>();
+
+    public static void main(String[] args) {
+        System.out.println("Starting game snapshot tests...\n");
+
+        // Round-trip a snapshot at every step of whole games
+        testRoundTrip(new SplittableRandom(7));
+
+        // Save to and load from a file
+        testSaveAndLoad();
+
+        // Reject data that is not a snapshot
+        testCorruptInput();
+
+        // Print test results
+        System.out.println("\nTest Results Summary:");
+        for (String result : testResults) {
+            System.out.println(result);
+        }
+    }
+
+    private static void testRoundTrip(SplittableRandom random) {
+        System.out.println("=== Testing snapshot round trips ===");
+        long roundTrips = 0;
+        int largest = 0;
+        try {
+            for (int game = 0; game < GAMES; game++) {
+                GameEngine engine = new GameEngine(2 + game % 3, MapLayout.values()[game / 3 % 3], 1 + game / 9 % 4,
+                        random.split());
+                PlayoutPolicy policy = new PlayoutPolicy(random.split());
+                while (true) {
+                    GameSnapshot snapshot = GameSnapshot.of(engine);
+                    byte[] written = bytesOf(snapshot);
+                    GameEngine restored = GameSnapshot.read(Channels.newChannel(new ByteArrayInputStream(written)))
+                            .restore(new SplittableRandom(1));
+                    if (!Arrays.equals(written, bytesOf(GameSnapshot.of(restored)))) {
+                        addTestResult("✗ Game " + game + " turn " + engine.getTurnCount()
+                                + ": restored game snapshots differently");
+                        return;
+                    }
+                    if (ZobristHash.hashOf(restored) != ZobristHash.hashOf(engine)) {
+                        addTestResult("✗ Game " + game + " turn " + engine.getTurnCount()
+                                + ": restored game hashes differently");
+                        return;
+                    }
+                    if (!GameAction.legalActions(restored).equals(GameAction.legalActions(engine))) {
+                        addTestResult("✗ Game " + game + " turn " + engine.getTurnCount()
+                                + ": restored game has different legal actions");
+                        return;
+                    }
+                    roundTrips++;
+                    largest = Math.max(largest, snapshot.size());
+                    if (engine.isGameOver()) {
+                        break;
+                    }
+                    policy.step(engine);
+                }
+            }
+        } catch (IOException e) {
+            addTestResult("✗ Snapshot could not be read back: " + e.getMessage());
+            return;
+        }
+        addTestResult("✓ " + roundTrips + " snapshots restore to the same game (" + GAMES + " games)");
+        addTestResult("  Largest snapshot: " + largest + " bytes");
+    }
+
+    private static void testSaveAndLoad() {
+        System.out.println("=== Testing save and load ===");
+        GameEngine engine = new GameEngine(4, MapLayout.ADVANCED, 2, new SplittableRandom(11));
+        new PlayoutPolicy(new SplittableRandom(12)).playToEnd(engine, 20);
+        Path file = null;
+        try {
+            file = Files.createTempFile("snapshot-test", ".fisn");
+            GameSnapshot saved = GameSnapshot.of(engine);
+            saved.save(file);
+            if (Files.size(file) != saved.size()) {
+                addTestResult("✗ Saved file is " + Files.size(file) + " bytes, expected " + saved.size());
+                return;
+            }
+            GameEngine loaded = GameSnapshot.load(file).restore();
+            if (ZobristHash.hashOf(loaded) != ZobristHash.hashOf(engine)) {
+                addTestResult("✗ Loaded game differs from the saved one");
+                return;
+            }
+            addTestResult("✓ Saved game loads back from the file");
+        } catch (IOException e) {
+            addTestResult("✗ Save or load failed: " + e.getMessage());
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    System.err.println("Could not delete " + file + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void testCorruptInput() {
+        System.out.println("=== Testing corrupt input ===");
+        byte[] written;
+        try {
+            written = bytesOf(GameSnapshot.of(new GameEngine(3, MapLayout.EXPERT, 3, new SplittableRandom(13))));
+        } catch (IOException e) {
+            addTestResult("✗ Snapshot could not be written: " + e.getMessage());
+            return;
+        }
+
+        byte[] badMagic = written.clone();
+        badMagic[0] = 'X';
+        byte[] badVersion = written.clone();
+        badVersion[GameSnapshot.MAGIC.length] = GameSnapshot.VERSION + 1;
+        byte[] truncated = Arrays.copyOf(written, written.length - 1);
+        for (byte[] bytes : Arrays.asList(badMagic, badVersion, truncated)) {
+            try {
+                GameSnapshot.read(Channels.newChannel(new ByteArrayInputStream(bytes)));
+                addTestResult("✗ Read accepted a damaged snapshot");
+                return;
+            } catch (IOException expected) {
+                // Rejected as it should be
+            }
+        }
+        addTestResult("✓ Damaged headers and truncated snapshots are rejected");
+    }
+
+    private static byte[] bytesOf(GameSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(snapshot.size());
+        snapshot.write(Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private static void addTestResult(String result) {
+        testResults.add(result);
+        System.out.println(result);
+    }
+}
@@ -0,0 +1,204 @@
+package Engine;
+
+import Model.Cards.Card;
+import Model.Cards.FloodCard;
+import Model.Cards.HandCard;
+import Model.Cards.TreasureCard;
+import Model.Cards.WaterRiseCard;
+import Model.Deck.FloodDeck;
+import Model.Deck.TreasureDeck;
+import Model.Enumeration.CardType;
+import Model.Enumeration.MapLayout;
+import Model.Enumeration.TileName;
+import Model.Enumeration.TileState;
+import Model.Enumeration.TreasureType;
+import Model.Player;
+import Model.Tile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Hot Path Benchmarks
+ * Regression numbers for the deck, hand and tile operations that run every turn,
+ * measured on mid-game states produced by PlayoutPolicy
+ *
+ * Usage: java Engine.HotPathBenchmarks [seed]
+ */
+public class HotPathBenchmarks {
+    private static final int MID_GAME_TURN = 6;
+
+    /**
+     * Treasure deck that lets the benchmark put a Waters Rise card on top,
+     * which forces drawInitialCard through moveCardToBottom
+     */
+    private static class WaterRiseOnTopDeck extends TreasureDeck {
+        WaterRiseOnTopDeck(Tile helicopterTile, SplittableRandom random) {
+            super(helicopterTile, random);
+        }
+
+        void putOnTop(Card card) {
+            drawPile.push(card);
+        }
+
+        void restore(Card drawn) {
+            drawPile.remove(0); // Take the Waters Rise card back off the bottom
+            drawPile.push(drawn);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 42L;
+        SplittableRandom random = new SplittableRandom(seed);
+        GameEngine midGame = createMidGame(random.split());
+        Benchmark bench = new Benchmark();
+
+        benchmarkDecks(bench, midGame, random.split());
+        benchmarkHand(bench);
+        benchmarkReachability(bench, midGame);
+        benchmarkGameOver(bench, midGame, random.split());
+        benchmarkActions(bench, midGame);
+
+        System.out.println("\n========== Hot Path Benchmarks (seed " + seed + ") ==========");
+        bench.getReport().forEach(System.out::println);
+    }
+
+    /**
+     * Play a game with the playout policy until it reaches mid-game
+     */
+    private static GameEngine createMidGame(SplittableRandom random) {
+        while (true) {
+            GameEngine engine = new GameEngine(4, MapLayout.CLASSIC, 2, random.split());
+            PlayoutPolicy policy = new PlayoutPolicy(random.split());
+            while (!engine.isGameOver() && engine.getTurnCount() < MID_GAME_TURN) {
+                policy.step(engine);
+            }
+            if (!engine.isGameOver() && engine.findLossCause() == null) {
+                return engine;
+            }
+        }
+    }
+
+    private static void benchmarkDecks(Benchmark bench, GameEngine midGame, SplittableRandom random) {
+        FloodDeck floodDeck = new FloodDeck(midGame.getAllTiles(), random.split());
+        bench.measure("FloodDeck.draw (mid-game, refill every 6)", () -> {
+            FloodCard card = floodDeck.draw();
+            return card == null ? 0 : card.getTargetTile().getRow();
+        });
+        bench.measure("FloodDeck.refillActiveDeck", () -> {
+            floodDeck.forceRefillActiveDeck();
+            return floodDeck.getActiveDeckRemainingCount();
+        });
+
+        SplittableRandom setupRandom = random.split();
+        bench.measure("TreasureDeck + FloodDeck construction (new game)", () -> {
+            TreasureDeck deck = new TreasureDeck(midGame.getFoolsLanding(), setupRandom);
+            FloodDeck flood = new FloodDeck(midGame.getAllTiles(), setupRandom);
+            return deck.getDrawPileView().size() + flood.getActiveDeckRemainingCount();
+        });
+
+        TreasureDeck treasureDeck = new TreasureDeck(midGame.getFoolsLanding(), random.split());
+        bench.measure("TreasureDeck.draw (+discard to keep cycling)", () -> {
+            Card card = treasureDeck.draw();
+            treasureDeck.discard(card);
+            return card.getType().ordinal();
+        });
+
+        WaterRiseOnTopDeck initialDeck = new WaterRiseOnTopDeck(midGame.getFoolsLanding(), random.split());
+        WaterRiseCard waterRise = new WaterRiseCard(-1); // Not one of the deck's own cards
+        bench.measure("TreasureDeck.drawInitialCard (Waters Rise -> moveCardToBottom)", () -> {
+            initialDeck.putOnTop(waterRise);
+            Card drawn = initialDeck.drawInitialCard();
+            initialDeck.restore(drawn);
+            return drawn.getType().ordinal();
+        });
+    }
+
+    private static void benchmarkActions(Benchmark bench, GameEngine midGame) {
+        List<GameAction> actions = GameAction.legalActions(midGame);
+        bench.measure("ActionValidator.validate (every legal action, mid-game, " + actions.size() + ")", () -> {
+            int legal = 0;
+            for (GameAction action : actions) {
+                if (ActionValidator.validate(midGame, action).isSuccess()) {
+                    legal++;
+                }
+            }
+            return legal;
+        });
+
+        GameSnapshot snapshot = GameSnapshot.of(midGame);
+        bench.measure("GameSnapshot.of (mid-game, " + snapshot.size() + " bytes)",
+                () -> GameSnapshot.of(midGame).size());
+        SplittableRandom restoreRandom = new SplittableRandom(1);
+        bench.measure("GameSnapshot.restore (mid-game)", () -> snapshot.restore(restoreRandom.split()).getTurnCount());
+    }
+
+    private static void benchmarkHand(Benchmark bench) {
+        HandCard hand = new HandCard();
+        List<Card> pool = new ArrayList<>();
+        for (TreasureType type : TreasureType.values()) {
+            pool.add(new TreasureCard(type.ordinal(), type));
+        }
+        for (int i = 0; i < 4; i++) {
+            hand.addCardWithoutCheck(pool.get(i % 2));
+        }
+        Card extra = pool.get(3);
+        bench.measure("HandCard.addCard+removeCard (4 -> 5 -> 4 cards)", () -> {
+            try {
+                hand.addCard(extra);
+            } catch (HandCard.HandCardFullException e) {
+                throw new IllegalStateException(e);
+            }
+            return hand.removeCard(extra) ? 1 : 0;
+        });
+        bench.measure("HandCard.getCardTypeCount(CardType)", () -> hand.getCardTypeCount(CardType.TREASURE));
+        bench.measure("HandCard.getCardTypeCount() map", () -> hand.getCardTypeCount().size());
+    }
+
+    private static void benchmarkReachability(Benchmark bench, GameEngine midGame) {
+        List<Tile> engineTiles = midGame.getAllTiles();
+        Tile engineStart = engineTiles.get(engineTiles.size() / 2);
+        int[] next = { 0 };
+        bench.measure("GameEngine.isDiverReachable (one target)", () -> {
+            Tile target = engineTiles.get(next[0]++ % engineTiles.size());
+            return midGame.isDiverReachable(engineStart, target) ? 1 : 0;
+        });
+
+        MoveGenerator moves = midGame.getMoveGenerator();
+        int startCell = MoveGenerator.cellOf(engineStart);
+        bench.measure("MoveGenerator.getDiverMoves (all targets)", () -> Long.bitCount(moves.getDiverMoves(startCell)));
+    }
+
+    private static void benchmarkGameOver(Benchmark bench, GameEngine midGame, SplittableRandom random) {
+        // Sink and restore a plain empty tile on a copy, so the other benchmarks keep their board
+        GameEngine game = midGame.copy(random.split());
+        Tile plain = null;
+        for (Tile tile : game.getAllTiles()) {
+            if (tile.getState() != TileState.SUNK && tile.getName() != TileName.FOOLS_LANDING
+                    && TreasureType.forTile(tile.getName()) == null && !isOccupied(game, tile)) {
+                plain = tile;
+                break;
+            }
+        }
+        Tile target = plain;
+        TileState original = target.getState();
+        bench.measure("Tile sink + restore (MoveGenerator, LossTracker listeners)", () -> {
+            target.setState(TileState.SUNK);
+            target.setState(original);
+            return game.isGameOver() ? 0 : 1;
+        });
+
+        bench.measure("LossTracker.findLossCause (mid-game)", () -> midGame.findLossCause() == null ? 1 : 0);
+    }
+
+    private static boolean isOccupied(GameEngine engine, Tile tile) {
+        for (Player player : engine.getPlayers()) {
+            if (player.getCurrentTile() == tile) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
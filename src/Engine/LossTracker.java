@@ -0,0 +1,147 @@
+package Engine;
+
+import Model.Deck.TreasureDeck;
+import Model.Enumeration.LossCause;
+import Model.Enumeration.TileName;
+import Model.Enumeration.TileState;
+import Model.Enumeration.TreasureType;
+import Model.Tile;
+import Model.TileIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Loss Tracker Class
+ * Watches one board and reports a loss the moment a tile change causes it
+ *
+ * Keeps a sunk counter per treasure pair and the collected state of each treasure,
+ * updated from the tile state change and treasure collection listeners, so each
+ * event costs a counter update. Covers Fool's Landing and the treasure pairs.
+ *
+ * Drowning is left to the engine's flood draw: a sink happens while the emergency
+ * moves it causes are still queued, and only the engine knows when each stranded
+ * player gets to swim. The water level is also checked by the turn flow
+ */
+public final class LossTracker {
+    private final TileIndex tileIndex;
+    private final int[] treasureTileCount = new int[TreasureType.values().length];
+    private final int[] treasureSunkCount = new int[TreasureType.values().length];
+    private final boolean[] treasureCollected = new boolean[TreasureType.values().length];
+    private long sunk; // Cells this tracker has counted as sunk
+    private LossCause lossCause;
+
+    private final List<Consumer<LossCause>> onLossListeners = new ArrayList<>();
+
+    /**
+     * Constructor
+     * Counts the current board and subscribes to every tile and the treasure deck
+     *
+     * @param tileIndex     Tile index of the board
+     * @param moveGenerator Move generator of the board, listing its land cells
+     * @param treasureDeck  Treasure deck recording collected treasures
+     */
+    public LossTracker(TileIndex tileIndex, MoveGenerator moveGenerator, TreasureDeck treasureDeck) {
+        this.tileIndex = tileIndex;
+
+        for (TreasureType type : TreasureType.values()) {
+            treasureTileCount[type.ordinal()] = tileIndex.getTreasureTiles(type).size();
+            treasureCollected[type.ordinal()] = treasureDeck.isTreasureCollected(type);
+        }
+        for (long rest = moveGenerator.getLandMask(); rest != 0; rest &= rest - 1) {
+            Tile tile = moveGenerator.getTile(Long.numberOfTrailingZeros(rest));
+            if (tile.getState() == TileState.SUNK) {
+                countSunk(tile, 1);
+            }
+            tile.addOnStateChangeListener(this::onTileStateChanged);
+        }
+        treasureDeck.addOnTreasureCollectedListener(this::onTreasureCollected);
+        this.lossCause = findLossCause();
+    }
+
+    // =============== Events ===============
+
+    private void onTileStateChanged(Tile tile) {
+        boolean wasSunk = (sunk & MoveGenerator.bit(MoveGenerator.cellOf(tile))) != 0;
+        boolean isSunk = tile.getState() == TileState.SUNK;
+        if (wasSunk == isSunk) {
+            return;
+        }
+        countSunk(tile, isSunk ? 1 : -1);
+        if (isSunk) {
+            checkLoss();
+        }
+    }
+
+    private void onTreasureCollected(TreasureType type) {
+        treasureCollected[type.ordinal()] = true;
+    }
+
+    private void countSunk(Tile tile, int delta) {
+        sunk ^= MoveGenerator.bit(MoveGenerator.cellOf(tile));
+        TreasureType type = TreasureType.forTile(tile.getName());
+        if (type != null) {
+            treasureSunkCount[type.ordinal()] += delta;
+        }
+    }
+
+    private void checkLoss() {
+        if (lossCause != null) {
+            return;
+        }
+        LossCause cause = findLossCause();
+        if (cause != null) {
+            lossCause = cause;
+            onLossListeners.forEach(listener -> listener.accept(cause));
+        }
+    }
+
+    /**
+     * Evaluate the loss conditions from the counters
+     * Does not notify the listeners or record the result
+     *
+     * @return First loss condition that holds, or null
+     */
+    public LossCause findLossCause() {
+        // 1. Fool's Landing sinks
+        if (tileIndex.isSunk(TileName.FOOLS_LANDING)) {
+            return LossCause.FOOLS_LANDING_SUNK;
+        }
+
+        // 2. Both tiles of an uncollected treasure sink
+        for (TreasureType type : TreasureType.values()) {
+            int i = type.ordinal();
+            if (!treasureCollected[i] && treasureSunkCount[i] == treasureTileCount[i]) {
+                return LossCause.forTreasure(type);
+            }
+        }
+        return null;
+    }
+
+    // =============== State Access ===============
+
+    /**
+     * Get the loss reached so far
+     *
+     * @return Loss cause, or null while the game can go on
+     */
+    public LossCause getLossCause() {
+        return lossCause;
+    }
+
+    public boolean isLost() {
+        return lossCause != null;
+    }
+
+    // =============== Event Listener Management ===============
+
+    /**
+     * Add loss listener, called once with the first loss condition reached
+     *
+     * @param listener Listener
+     */
+    public void addOnLossListener(Consumer<LossCause> listener) {
+        onLossListeners.add(listener);
+    }
+}
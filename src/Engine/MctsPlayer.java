@@ -0,0 +1,255 @@
+package Engine;
+
+import Model.Enumeration.ActionResult;
+import Model.Enumeration.MapLayout;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MCTS Player Class
+ * Bot that picks actions with Monte Carlo Tree Search
+ *
+ * Every iteration searches a fresh GameEngine copy, so hidden deck order is resampled
+ * each time, and the tree is keyed by actions rather than states (open loop).
+ * Root parallelism: each worker grows its own tree for the time budget and the root
+ * visit counts are summed. All search runs on the bot's own executor; callers on the
+ * Swing EDT should use chooseActionAsync and apply the result with SwingUtilities.invokeLater
+ *
+ * Usage: java Engine.MctsPlayer [games] [budgetMs] [threads] [seed]
+ */
+public class MctsPlayer {
+    private static final double EXPLORATION = 1.4;
+    private static final int ROLLOUT_STEPS = 300;
+    private static final int MAX_GAME_STEPS = 5_000;
+
+    private final long timeBudgetMillis;
+    private final int threads;
+    private final ExecutorService executor;
+    private final SplittableRandom seeds;
+
+    /**
+     * Constructor
+     *
+     * @param timeBudgetMillis Thinking time per decision
+     * @param threads          Number of independent search trees (root parallelism)
+     * @param seed             Seed for the search and rollout random streams
+     */
+    public MctsPlayer(long timeBudgetMillis, int threads, long seed) {
+        if (timeBudgetMillis <= 0 || threads < 1) {
+            throw new IllegalArgumentException("Time budget and thread count must be positive");
+        }
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.threads = threads;
+        this.seeds = new SplittableRandom(seed);
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mcts-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Choose an action without blocking the calling thread
+     * The game is copied on the calling thread, so the caller may keep using it meanwhile
+     *
+     * @param engine Game to decide for
+     * @return Future completed on a worker thread with the chosen action, or null if the game is over
+     */
+    public CompletableFuture<GameAction> chooseActionAsync(GameEngine engine) {
+        GameEngine snapshot = engine.copy(nextRandom());
+        List<GameAction> rootActions = GameAction.legalActions(snapshot);
+        if (rootActions.size() <= 1) {
+            return CompletableFuture.completedFuture(rootActions.isEmpty() ? null : rootActions.get(0));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        List<CompletableFuture<Map<GameAction, Integer>>> searches = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            SplittableRandom random = nextRandom();
+            searches.add(CompletableFuture.supplyAsync(() -> search(snapshot, deadline, random), executor));
+        }
+        return CompletableFuture.allOf(searches.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            Map<GameAction, Integer> visits = new HashMap<>();
+            for (CompletableFuture<Map<GameAction, Integer>> search : searches) {
+                search.join().forEach((action, count) -> visits.merge(action, count, Integer::sum));
+            }
+            GameAction best = rootActions.get(0);
+            int bestVisits = -1;
+            for (GameAction action : rootActions) {
+                int count = visits.getOrDefault(action, 0);
+                if (count > bestVisits) {
+                    bestVisits = count;
+                    best = action;
+                }
+            }
+            return best;
+        });
+    }
+
+    /**
+     * Choose an action, blocking until the time budget is spent
+     * Never call this from the Swing EDT
+     *
+     * @param engine Game to decide for
+     * @return Chosen action, or null if the game is over
+     */
+    public GameAction chooseAction(GameEngine engine) {
+        return chooseActionAsync(engine).join();
+    }
+
+    /**
+     * Stop the worker threads
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private synchronized SplittableRandom nextRandom() {
+        return seeds.split();
+    }
+
+    // =============== Search ===============
+
+    /**
+     * Tree node; children are keyed by action because chance events make states differ
+     */
+    private static final class Node {
+        private final Map<GameAction, Node> children = new HashMap<>();
+        private int visits;
+        private double totalReward;
+    }
+
+    private static Map<GameAction, Integer> search(GameEngine root, long deadline, SplittableRandom random) {
+        Node rootNode = new Node();
+        PlayoutPolicy policy = new PlayoutPolicy(random);
+        do {
+            GameEngine game = root.copy(random.split());
+            List<Node> path = new ArrayList<>();
+            path.add(rootNode);
+            Node node = rootNode;
+
+            // Selection and expansion
+            while (!game.isGameOver()) {
+                List<GameAction> actions = GameAction.legalActions(game);
+                GameAction action = select(node, actions, random);
+                Node child = node.children.get(action);
+                boolean expanded = child == null;
+                if (expanded) {
+                    child = new Node();
+                    node.children.put(action, child);
+                }
+                action.apply(game);
+                path.add(child);
+                node = child;
+                if (expanded) {
+                    break;
+                }
+            }
+
+            // Rollout and backpropagation
+            int startTurn = game.getTurnCount();
+            policy.playToEnd(game, ROLLOUT_STEPS);
+            double reward = evaluate(game, startTurn);
+            for (Node visited : path) {
+                visited.visits++;
+                visited.totalReward += reward;
+            }
+        } while (System.nanoTime() < deadline);
+
+        Map<GameAction, Integer> visits = new HashMap<>();
+        rootNode.children.forEach((action, child) -> visits.put(action, child.visits));
+        return visits;
+    }
+
+    // UCB1 over the actions legal in this sample; untried actions first
+    private static GameAction select(Node node, List<GameAction> actions, SplittableRandom random) {
+        List<GameAction> untried = new ArrayList<>();
+        for (GameAction action : actions) {
+            if (!node.children.containsKey(action)) {
+                untried.add(action);
+            }
+        }
+        if (!untried.isEmpty()) {
+            return untried.get(random.nextInt(untried.size()));
+        }
+        GameAction best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        double logVisits = Math.log(Math.max(1, node.visits));
+        for (GameAction action : actions) {
+            Node child = node.children.get(action);
+            double score = child.totalReward / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+            if (score > bestScore) {
+                bestScore = score;
+                best = action;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Reward in [0, 1]: 1 for a win, otherwise partial credit for treasures and survival
+     */
+    private static double evaluate(GameEngine game, int startTurn) {
+        if (game.isWon()) {
+            return 1.0;
+        }
+        int collected = game.getBoard().getCollectedTreasureCount();
+        int survivedTurns = game.getTurnCount() - startTurn;
+        double survival = game.isGameOver() ? survivedTurns / (survivedTurns + 10.0) : 1.0;
+        return 0.15 * collected + 0.3 * survival;
+    }
+
+    // =============== Bot Session ===============
+
+    /**
+     * Play a whole game with every decision made by this bot
+     *
+     * @param engine Game to play
+     * @return Number of decisions taken
+     */
+    public int playToEnd(GameEngine engine) {
+        int steps = 0;
+        while (!engine.isGameOver() && steps < MAX_GAME_STEPS) {
+            GameAction action = chooseAction(engine);
+            ActionResult result = action == null ? ActionResult.WRONG_PHASE : engine.execute(action);
+            if (!result.isSuccess()) {
+                throw new IllegalStateException("Bot chose an illegal action: " + action + " (" + result + ")");
+            }
+            steps++;
+        }
+        return steps;
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        long budget = args.length > 1 ? Long.parseLong(args[1]) : 200;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        SplittableRandom root = new SplittableRandom(seed);
+        MctsPlayer bot = new MctsPlayer(budget, threads, root.nextLong());
+        int wins = 0;
+        try {
+            for (int i = 0; i < games; i++) {
+                GameEngine engine = new GameEngine(4, MapLayout.CLASSIC, 2, root.split());
+                int steps = bot.playToEnd(engine);
+                if (engine.isWon()) {
+                    wins++;
+                }
+                System.out.printf("Game %d: %s after %d turns (%d decisions)%n", i + 1,
+                        engine.isWon() ? "WON" : engine.getLossCause(), engine.getTurnCount(), steps);
+            }
+        } finally {
+            bot.shutdown();
+        }
+        System.out.printf("MCTS bot won %d of %d games (%d ms/decision, %d threads)%n", wins, games, budget, threads);
+    }
+}
@@ -0,0 +1,257 @@
+package Engine;
+
+import Model.Enumeration.MapLayout;
+import Model.Player;
+import Model.Role.Diver;
+import Model.Role.Explorer;
+import Model.Role.Pilot;
+import Model.Role.Role;
+import Model.Tile;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Move Generator Class
+ * Single source of movement rules for the UI, the click validator and bots
+ *
+ * Built once per board: the land mask and each cell's land neighbours (orthogonal
+ * and all eight directions) are precomputed for the layout, and the flooded and sunk
+ * masks are read from the game's BoardState. A move query is then a few mask
+ * operations, and Diver reachability is a shift-and-mask flood fill
+ *
+ * Cells are numbered row-major (cell = row * 6 + col), one bit per cell in a 36-bit mask
+ */
+public final class MoveGenerator {
+    public static final int MAP_SIZE = MapLayout.MAP_SIZE;
+    public static final int CELL_COUNT = MAP_SIZE * MAP_SIZE;
+    public static final long ALL_CELLS = (1L << CELL_COUNT) - 1;
+
+    // =============== Static Cell Masks ===============
+    private static final long[] ORTHOGONAL = new long[CELL_COUNT];
+    private static final long[] DIAGONAL = new long[CELL_COUNT];
+
+    // Cells outside the first / last column, so row-wise shifts do not wrap
+    private static final long NOT_FIRST_COLUMN;
+    private static final long NOT_LAST_COLUMN;
+
+    static {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int row = cell / MAP_SIZE;
+            int col = cell % MAP_SIZE;
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    int r = row + dr;
+                    int c = col + dc;
+                    if ((dr == 0 && dc == 0) || r < 0 || r >= MAP_SIZE || c < 0 || c >= MAP_SIZE) {
+                        continue;
+                    }
+                    if (dr == 0 || dc == 0) {
+                        ORTHOGONAL[cell] |= bit(cellOf(r, c));
+                    } else {
+                        DIAGONAL[cell] |= bit(cellOf(r, c));
+                    }
+                }
+            }
+        }
+
+        long firstColumn = 0;
+        for (int row = 0; row < MAP_SIZE; row++) {
+            firstColumn |= bit(cellOf(row, 0));
+        }
+        NOT_FIRST_COLUMN = ALL_CELLS & ~firstColumn;
+        NOT_LAST_COLUMN = ALL_CELLS & ~(firstColumn << (MAP_SIZE - 1));
+    }
+
+    private final Tile[] tiles = new Tile[CELL_COUNT];
+    private final long land;
+    private final long[] orthogonal = new long[CELL_COUNT];  // Land cells next to each cell
+    private final long[] surrounding = new long[CELL_COUNT]; // Land cells in all eight directions
+    private final BoardState board;
+
+    /**
+     * Constructor
+     *
+     * @param boardTiles All tiles of one board
+     * @param board      Board state tracking those tiles
+     */
+    public MoveGenerator(Collection<Tile> boardTiles, BoardState board) {
+        for (Tile tile : boardTiles) {
+            tiles[cellOf(tile)] = tile;
+        }
+        this.board = board;
+        this.land = board.getLandMask();
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            orthogonal[cell] = orthogonalMask(cell) & land;
+            surrounding[cell] = (orthogonalMask(cell) | diagonalMask(cell)) & land;
+        }
+    }
+
+    // =============== Cell Helpers ===============
+    public static int cellOf(Tile tile) {
+        return cellOf(tile.getRow(), tile.getCol());
+    }
+
+    public static int cellOf(int row, int col) {
+        return row * MAP_SIZE + col;
+    }
+
+    public static long bit(int cell) {
+        return 1L << cell;
+    }
+
+    /**
+     * Get the cells orthogonally adjacent to a cell, land or not
+     */
+    public static long orthogonalMask(int cell) {
+        return ORTHOGONAL[cell];
+    }
+
+    /**
+     * Get the cells diagonally adjacent to a cell, land or not
+     */
+    public static long diagonalMask(int cell) {
+        return DIAGONAL[cell];
+    }
+
+    // =============== Move Queries ===============
+
+    /**
+     * Get every tile a player may reach with one regular move
+     *
+     * @param player          Player to move
+     * @param pilotCanFly     Whether a Pilot may still fly to any tile this turn
+     * @return Bitmask of destination cells, never including the current cell
+     */
+    public long getMoves(Player player, boolean pilotCanFly) {
+        Tile current = player.getCurrentTile();
+        if (current == null) {
+            return 0;
+        }
+        return getMoves(player.getRole(), cellOf(current), pilotCanFly);
+    }
+
+    /**
+     * Get every cell a role may reach with one regular move from a cell
+     *
+     * @param role        Moving role, or null for the basic adjacent move
+     * @param cell        Start cell
+     * @param pilotCanFly Whether a Pilot may still fly to any tile this turn
+     * @return Bitmask of destination cells
+     */
+    public long getMoves(Role role, int cell, boolean pilotCanFly) {
+        long standable = board.getStandableMask();
+        long moves;
+        if (role instanceof Diver) {
+            moves = getDiverMoves(cell);
+        } else if (role instanceof Explorer) {
+            moves = surrounding[cell] & standable;
+        } else if (role instanceof Pilot && pilotCanFly) {
+            moves = standable;
+        } else {
+            moves = orthogonal[cell] & standable;
+        }
+        return moves & ~bit(cell);
+    }
+
+    /**
+     * Check if a move is legal
+     *
+     * @return Returns true if the target cell is in getMoves
+     */
+    public boolean canMove(Player player, Tile target, boolean pilotCanFly) {
+        return target != null && (getMoves(player, pilotCanFly) & bit(cellOf(target))) != 0;
+    }
+
+    /**
+     * Get the cells a player on a sunk tile may swim to
+     *
+     * @param player Stranded player
+     * @return Bitmask of unsunk neighbouring cells (diagonals included for the Explorer)
+     */
+    public long getEmergencyMoves(Player player) {
+        Tile current = player.getCurrentTile();
+        if (current == null) {
+            return 0;
+        }
+        int cell = cellOf(current);
+        long neighbours = player.getRole() instanceof Explorer ? surrounding[cell] : orthogonal[cell];
+        return neighbours & ~board.getSunkMask();
+    }
+
+    /**
+     * Get the cells a Diver can reach: swim through any chain of flooded or sunk tiles
+     * and stop on the first tile that is not sunk
+     *
+     * The swimmable region grows from the start cell by shifting the whole mask one
+     * step in all four directions until it stops changing, so the cost is one short
+     * loop per path length with no queue, visited set or allocation
+     *
+     * @param cell Start cell
+     * @return Bitmask of unsunk destination cells
+     */
+    public long getDiverMoves(int cell) {
+        long water = board.getFloodedMask() | board.getSunkMask();
+        long region = bit(cell);
+        long grown = region | (spread(region) & water);
+        while (grown != region) {
+            region = grown;
+            grown = region | (spread(region) & water);
+        }
+        return spread(region) & board.getStandableMask() & ~bit(cell);
+    }
+
+    /**
+     * Move every cell in a mask one step up, down, left and right at once
+     * Column masks stop left/right shifts from wrapping onto the next row
+     */
+    static long spread(long cells) {
+        return ((cells << 1) & NOT_FIRST_COLUMN)
+                | ((cells >>> 1) & NOT_LAST_COLUMN)
+                | ((cells << MAP_SIZE) & ALL_CELLS)
+                | (cells >>> MAP_SIZE);
+    }
+
+    /**
+     * Check if a Diver can reach a tile
+     */
+    public boolean isDiverReachable(Tile start, Tile target) {
+        return start != null && target != null
+                && (getDiverMoves(cellOf(start)) & bit(cellOf(target))) != 0;
+    }
+
+    // =============== Board Masks ===============
+
+    public long getLandMask() {
+        return land;
+    }
+
+    public long getFloodedMask() {
+        return board.getFloodedMask();
+    }
+
+    public long getSunkMask() {
+        return board.getSunkMask();
+    }
+
+    /**
+     * Get the tile on a cell
+     *
+     * @return Tile, or null for water
+     */
+    public Tile getTile(int cell) {
+        return tiles[cell];
+    }
+
+    /**
+     * Get the tiles of every cell in a mask, in cell order
+     */
+    public List<Tile> tilesOf(long cells) {
+        List<Tile> result = new ArrayList<>(Long.bitCount(cells));
+        for (long rest = cells & land; rest != 0; rest &= rest - 1) {
+            result.add(tiles[Long.numberOfTrailingZeros(rest)]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,452 @@
+package Engine;
+
+import Model.Cards.Card;
+import Model.Cards.HelicopterCard;
+import Model.Cards.SandbagCard;
+import Model.Cards.TreasureCard;
+import Model.Enumeration.CardType;
+import Model.Enumeration.TileState;
+import Model.Enumeration.TreasureType;
+import Model.Player;
+import Model.Role.Engineer;
+import Model.Role.Messenger;
+import Model.Tile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Playout Policy Class
+ * Cheap randomised heuristic player used to finish games in simulations
+ * Takes exactly one decision per call, whatever phase the engine is in
+ * Each instance owns its random stream, so one instance must stay on one thread
+ */
+public class PlayoutPolicy {
+    private static final double SHORE_UP_CHANCE = 0.9;
+    private static final int KEY_TILE_VALUE = 10;      // Tile of an uncollected treasure
+    private static final int CRITICAL_TILE_VALUE = 100; // Sinking it loses the game
+    private static final int UNREACHABLE = Integer.MAX_VALUE / 4;
+
+    private final SplittableRandom random;
+
+    /**
+     * Constructor
+     *
+     * @param random Random stream owned by this policy
+     */
+    public PlayoutPolicy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Play the game until it is won or lost
+     *
+     * @param engine   Game to play
+     * @param maxSteps Safety limit on decisions
+     */
+    public void playToEnd(GameEngine engine, int maxSteps) {
+        for (int i = 0; i < maxSteps && !engine.isGameOver(); i++) {
+            step(engine);
+        }
+    }
+
+    /**
+     * Take one decision for whichever player the engine is waiting on
+     *
+     * @param engine Game to play
+     */
+    public void step(GameEngine engine) {
+        switch (engine.getPhase()) {
+            case DISCARD:
+                stepDiscard(engine, engine.getPendingDiscardPlayerIndex());
+                break;
+            case EMERGENCY_MOVE:
+                stepEmergencyMove(engine, engine.getPendingEmergencyPlayerIndex());
+                break;
+            case ACTION:
+                stepAction(engine, engine.getCurrentPlayerIndex());
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void stepDiscard(GameEngine engine, int playerIndex) {
+        Player player = engine.getPlayers().get(playerIndex);
+        Tile flooded = mostValuableFloodedTile(engine);
+        if (flooded != null && player.hasCardType(SandbagCard.class)
+                && submit(engine, GameAction.sandbag(playerIndex, flooded))) {
+            return;
+        }
+        submit(engine, GameAction.discard(playerIndex, leastUsefulCard(engine, player)));
+    }
+
+    private void stepEmergencyMove(GameEngine engine, int playerIndex) {
+        // Swim towards the team's goal, preferring dry land
+        List<Tile> options = engine.getEmergencyMoveTiles(playerIndex);
+        int[] distances = distancesTo(engine, goalTile(engine, engine.getPlayers().get(playerIndex)));
+        Tile best = null;
+        int bestScore = Integer.MAX_VALUE;
+        for (Tile tile : options) {
+            int score = distances[MoveGenerator.cellOf(tile)] * 2 + (tile.getState() == TileState.FLOODED ? 1 : 0);
+            if (score < bestScore) {
+                bestScore = score;
+                best = tile;
+            }
+        }
+        submit(engine, GameAction.emergencyMove(playerIndex, best != null ? best : pick(options)));
+    }
+
+    private void stepAction(GameEngine engine, int playerIndex) {
+        Player player = engine.getPlayers().get(playerIndex);
+
+        // 1. Escape as soon as possible
+        if (engine.canEscape()) {
+            for (int i = 0; i < engine.getPlayers().size(); i++) {
+                if (engine.getPlayers().get(i).hasCardType(HelicopterCard.class)
+                        && submit(engine, GameAction.escape(i))) {
+                    return;
+                }
+            }
+        }
+
+        // 2. Capture treasure
+        if (submit(engine, GameAction.captureTreasure(playerIndex))) {
+            return;
+        }
+
+        // 3. Sandbags are free and anyone may play them: save any tile whose sinking loses the game
+        if (sandbagCriticalTile(engine)) {
+            return;
+        }
+
+        // 4. Fly a spare helicopter to a flooded Fool's Landing out of reach
+        if (liftToFloodedFoolsLanding(engine, playerIndex)) {
+            return;
+        }
+
+        // 5. With every treasure in hand, lift the player and whoever shares the tile to Fool's Landing
+        if (engine.getTreasureDeck().allTreasuresCollected() && liftToFoolsLanding(engine, playerIndex)) {
+            return;
+        }
+
+        // 6. Shore up a key tile within reach; on the way to a capture only a tile that would lose the game
+        List<Tile> shoreable = engine.getShoreableTiles(playerIndex);
+        Tile urgent = bestShoreUp(engine, shoreable);
+        int threshold = captureTile(engine, player) != null ? CRITICAL_TILE_VALUE : KEY_TILE_VALUE;
+        if (urgent != null && tileValue(engine, urgent) >= threshold && shoreUp(engine, playerIndex, urgent, shoreable)) {
+            return;
+        }
+
+        // 7. Hand treasure cards to the teammate collecting that type
+        if (tryGiveCard(engine, playerIndex)) {
+            return;
+        }
+
+        // 8. Move towards a goal
+        Tile goal = goalTile(engine, player);
+        if (goal != null && !goal.equals(player.getCurrentTile()) && moveTowards(engine, playerIndex, goal)) {
+            return;
+        }
+
+        // 9. Shore up anything else nearby, usually
+        if (urgent != null && random.nextDouble() < SHORE_UP_CHANCE && shoreUp(engine, playerIndex, urgent, shoreable)) {
+            return;
+        }
+
+        submit(engine, GameAction.skip(playerIndex));
+    }
+
+    // =============== Shoring Up ===============
+
+    private boolean sandbagCriticalTile(GameEngine engine) {
+        for (Tile tile : engine.getAllTiles()) {
+            if (tile.getState() != TileState.FLOODED || tileValue(engine, tile) < CRITICAL_TILE_VALUE) {
+                continue;
+            }
+            for (int i = 0; i < engine.getPlayers().size(); i++) {
+                if (engine.getPlayers().get(i).hasCardType(SandbagCard.class)
+                        && submit(engine, GameAction.sandbag(i, tile))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean shoreUp(GameEngine engine, int playerIndex, Tile first, List<Tile> shoreable) {
+        Tile second = null;
+        if (engine.getPlayers().get(playerIndex).getRole() instanceof Engineer) {
+            List<Tile> rest = new ArrayList<>(shoreable);
+            rest.remove(first);
+            second = bestShoreUp(engine, rest);
+        }
+        return (second != null && submit(engine, GameAction.shoreUp(playerIndex, first, second)))
+                || submit(engine, GameAction.shoreUp(playerIndex, first, null));
+    }
+
+    private Tile bestShoreUp(GameEngine engine, List<Tile> candidates) {
+        Tile best = null;
+        int bestValue = -1;
+        for (Tile tile : candidates) {
+            int value = tileValue(engine, tile) * 4 + random.nextInt(4);
+            if (value > bestValue) {
+                bestValue = value;
+                best = tile;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * How much the team loses if a tile sinks
+     * Fool's Landing and the last tile of an uncollected treasure lose the game outright
+     */
+    private int tileValue(GameEngine engine, Tile tile) {
+        if (tile.equals(engine.getFoolsLanding())) {
+            return CRITICAL_TILE_VALUE;
+        }
+        TreasureType type = TreasureType.forTile(tile.getName());
+        if (type == null || engine.getTreasureDeck().isTreasureCollected(type)) {
+            return isOccupied(engine, tile) ? KEY_TILE_VALUE : 1; // Sinking it under a player may drown them
+        }
+        for (Tile other : engine.getTileIndex().getTreasureTiles(type)) {
+            if (!other.equals(tile) && other.getState() != TileState.NORMAL) {
+                return CRITICAL_TILE_VALUE; // Partner gone or one flood away
+            }
+        }
+        return KEY_TILE_VALUE;
+    }
+
+    // =============== Cards ===============
+
+    private boolean tryGiveCard(GameEngine engine, int playerIndex) {
+        List<Player> players = engine.getPlayers();
+        Player giver = players.get(playerIndex);
+        for (Card card : giver.getHandCard().getCards()) {
+            if (!(card instanceof TreasureCard)) {
+                continue;
+            }
+            TreasureType type = ((TreasureCard) card).getTreasureType();
+            if (engine.getTreasureDeck().isTreasureCollected(type)) {
+                continue;
+            }
+            // A full receiver discards afterwards, and leastUsefulCard never picks the type it collects
+            int collector = collectorOf(engine, type);
+            if (collector != playerIndex && submit(engine, GameAction.giveCard(playerIndex, collector, card))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The player gathering a treasure type: most cards of it, lowest index on ties
+     */
+    private int collectorOf(GameEngine engine, TreasureType type) {
+        List<Player> players = engine.getPlayers();
+        int collector = 0;
+        int most = -1;
+        for (int i = 0; i < players.size(); i++) {
+            int count = countTreasure(players.get(i), type);
+            if (count > most) {
+                most = count;
+                collector = i;
+            }
+        }
+        return collector;
+    }
+
+    private Card leastUsefulCard(GameEngine engine, Player player) {
+        int playerIndex = engine.getPlayers().indexOf(player);
+        int helicopters = teamCount(engine, CardType.HELICOPTER);
+        Card worst = null;
+        int worstScore = Integer.MAX_VALUE;
+        for (Card card : player.getHandCard().getCards()) {
+            int score;
+            if (card instanceof TreasureCard) {
+                TreasureType type = ((TreasureCard) card).getTreasureType();
+                if (engine.getTreasureDeck().isTreasureCollected(type)) {
+                    score = 0;
+                } else if (collectorOf(engine, type) == playerIndex) {
+                    score = 20 + countTreasure(player, type); // Keep what this player is gathering
+                } else {
+                    score = countTreasure(player, type);
+                }
+            } else if (card instanceof HelicopterCard) {
+                score = helicopters > 1 ? 15 : 40; // The last one is the way off the island
+            } else {
+                score = 30; // Sandbags are played as soon as a tile floods
+            }
+            if (score < worstScore) {
+                worstScore = score;
+                worst = card;
+            }
+        }
+        return worst;
+    }
+
+    // =============== Movement ===============
+
+    private boolean liftToFloodedFoolsLanding(GameEngine engine, int playerIndex) {
+        Player player = engine.getPlayers().get(playerIndex);
+        if (!player.hasCardType(HelicopterCard.class) || teamCount(engine, CardType.HELICOPTER) < 2) {
+            return false;
+        }
+        Tile foolsLanding = engine.getFoolsLanding();
+        return foolsLanding.getState() == TileState.FLOODED
+                && !engine.getShoreableTiles(playerIndex).contains(foolsLanding)
+                && submit(engine, GameAction.helicopter(playerIndex, foolsLanding));
+    }
+
+    private boolean liftToFoolsLanding(GameEngine engine, int playerIndex) {
+        Tile foolsLanding = engine.getFoolsLanding();
+        // Keep one helicopter card for the escape itself
+        Player player = engine.getPlayers().get(playerIndex);
+        return teamCount(engine, CardType.HELICOPTER) > 1 && !player.getCurrentTile().equals(foolsLanding)
+                && player.hasCardType(HelicopterCard.class)
+                && submit(engine, GameAction.helicopter(playerIndex, foolsLanding));
+    }
+
+    /**
+     * Where a player should head next: a treasure they can capture, Fool's Landing at the end,
+     * the teammate collecting their cards, or the most threatened flooded tile
+     */
+    private Tile goalTile(GameEngine engine, Player player) {
+        if (engine.getTreasureDeck().allTreasuresCollected()) {
+            return engine.getFoolsLanding();
+        }
+        Tile capture = captureTile(engine, player);
+        if (capture != null) {
+            return capture;
+        }
+        Tile threatened = mostValuableFloodedTile(engine);
+        if (threatened != null && tileValue(engine, threatened) >= KEY_TILE_VALUE) {
+            return threatened;
+        }
+        int playerIndex = engine.getPlayers().indexOf(player);
+        for (Card card : player.getHandCard().getCards()) {
+            if (card instanceof TreasureCard
+                    && !engine.getTreasureDeck().isTreasureCollected(((TreasureCard) card).getTreasureType())) {
+                int collector = collectorOf(engine, ((TreasureCard) card).getTreasureType());
+                if (collector != playerIndex && !(player.getRole() instanceof Messenger)) {
+                    return engine.getPlayers().get(collector).getCurrentTile();
+                }
+            }
+        }
+        // Nothing to carry: wait by Fool's Landing, ready to shore it up
+        return threatened != null ? threatened : engine.getFoolsLanding();
+    }
+
+    /**
+     * A tile where the player could capture a treasure with the cards in hand
+     */
+    private Tile captureTile(GameEngine engine, Player player) {
+        for (TreasureType type : TreasureType.values()) {
+            if (!engine.getTreasureDeck().isTreasureCollected(type) && countTreasure(player, type) >= 4) {
+                for (Tile tile : engine.getTileIndex().getTreasureTiles(type)) {
+                    if (tile.getState() != TileState.SUNK) {
+                        return tile;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean moveTowards(GameEngine engine, int playerIndex, Tile goal) {
+        Player player = engine.getPlayers().get(playerIndex);
+        int[] distances = distancesTo(engine, goal);
+        if (engine.canFly(playerIndex, goal) && distances[MoveGenerator.cellOf(player.getCurrentTile())] > 2
+                && submit(engine, GameAction.fly(playerIndex, goal))) {
+            return true;
+        }
+        Tile best = null;
+        int bestDistance = distances[MoveGenerator.cellOf(player.getCurrentTile())];
+        for (Tile tile : engine.getMovableTiles(playerIndex)) {
+            int d = distances[MoveGenerator.cellOf(tile)];
+            if (d < bestDistance || (d == bestDistance && best != null && random.nextBoolean())) {
+                bestDistance = d;
+                best = tile;
+            }
+        }
+        return best != null && submit(engine, GameAction.move(playerIndex, best));
+    }
+
+    /**
+     * Walking distance from every cell to a goal over unsunk tiles, orthogonal steps only
+     *
+     * @return Distance per cell, UNREACHABLE where the goal cannot be walked to
+     */
+    private int[] distancesTo(GameEngine engine, Tile goal) {
+        int[] distances = new int[MoveGenerator.CELL_COUNT];
+        Arrays.fill(distances, UNREACHABLE);
+        if (goal == null) {
+            return distances;
+        }
+        long open = engine.getBoard().getStandableMask();
+        long frontier = MoveGenerator.bit(MoveGenerator.cellOf(goal));
+        long seen = frontier;
+        for (int d = 0; frontier != 0; d++) {
+            long next = 0;
+            for (long rest = frontier; rest != 0; rest &= rest - 1) {
+                int cell = Long.numberOfTrailingZeros(rest);
+                distances[cell] = d;
+                next |= MoveGenerator.orthogonalMask(cell);
+            }
+            frontier = next & open & ~seen;
+            seen |= frontier;
+        }
+        return distances;
+    }
+
+    // =============== Helpers ===============
+
+    private Tile mostValuableFloodedTile(GameEngine engine) {
+        List<Tile> flooded = new ArrayList<>();
+        for (Tile tile : engine.getAllTiles()) {
+            if (tile.getState() == TileState.FLOODED) {
+                flooded.add(tile);
+            }
+        }
+        return flooded.isEmpty() ? null : bestShoreUp(engine, flooded);
+    }
+
+    private boolean isOccupied(GameEngine engine, Tile tile) {
+        for (Player player : engine.getPlayers()) {
+            if (tile.equals(player.getCurrentTile())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int teamCount(GameEngine engine, CardType type) {
+        int count = 0;
+        for (Player player : engine.getPlayers()) {
+            count += player.getHandCard().getCardTypeCount(type);
+        }
+        return count;
+    }
+
+    private int countTreasure(Player player, TreasureType type) {
+        int count = 0;
+        for (Card card : player.getHandCard().getCards()) {
+            if (card instanceof TreasureCard && ((TreasureCard) card).getTreasureType() == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Decisions go through execute, so recorded games capture them
+    private boolean submit(GameEngine engine, GameAction action) {
+        return engine.execute(action).isSuccess();
+    }
+
+    private Tile pick(List<Tile> tiles) {
+        return tiles.get(random.nextInt(tiles.size()));
+    }
+}
@@ -0,0 +1,114 @@
+package Engine;
+
+import Model.Enumeration.LossCause;
+import Model.Role.Role;
+import Model.Role.RoleFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Replay Analytics Class
+ * Aggregates over a replay archive straight from the encoded records, in parallel,
+ * without rebuilding any game
+ *
+ * Usage: java Engine.ReplayAnalytics file
+ */
+public final class ReplayAnalytics {
+
+    private ReplayAnalytics() {}
+
+    /**
+     * Count how games ended
+     *
+     * @param archive Games to count
+     * @return Games per loss cause; won and unfinished games are not counted
+     */
+    public static Map<LossCause, Long> lossCauses(ReplayArchive archive) {
+        long[] counts = archive.parallelStream().collect(
+                () -> new long[LossCause.values().length],
+                (sums, record) -> {
+                    LossCause cause = record.getLossCause();
+                    if (cause != null) {
+                        sums[cause.ordinal()]++;
+                    }
+                },
+                ReplayAnalytics::addAll);
+        Map<LossCause, Long> result = new EnumMap<>(LossCause.class);
+        for (LossCause cause : LossCause.values()) {
+            if (counts[cause.ordinal()] > 0) {
+                result.put(cause, counts[cause.ordinal()]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Measure when each role captures treasures
+     *
+     * @param archive Games to scan
+     * @return Per role id (RoleFactory.getRoleTypes order): { captures, sum of the
+     *         action numbers at which they happened }
+     */
+    public static long[][] treasureTimingByRole(ReplayArchive archive) {
+        int roles = RoleFactory.getRoleTypes().size();
+        long[] sums = archive.parallelStream().collect(
+                () -> new long[roles * 2],
+                (acc, record) -> record.forEachAction(new ObjIntConsumer<GameAction.Kind>() {
+                    private int step;
+
+                    @Override
+                    public void accept(GameAction.Kind kind, int playerIndex) {
+                        if (kind == GameAction.Kind.CAPTURE_TREASURE) {
+                            int role = record.getRoleId(playerIndex);
+                            acc[role * 2]++;
+                            acc[role * 2 + 1] += step;
+                        }
+                        step++;
+                    }
+                }),
+                ReplayAnalytics::addAll);
+        long[][] result = new long[roles][];
+        for (int role = 0; role < roles; role++) {
+            result[role] = new long[] { sums[role * 2], sums[role * 2 + 1] };
+        }
+        return result;
+    }
+
+    private static void addAll(long[] into, long[] from) {
+        for (int i = 0; i < into.length; i++) {
+            into[i] += from[i];
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: java Engine.ReplayAnalytics file");
+            return;
+        }
+        try (ReplayArchive archive = new ReplayArchive(Paths.get(args[0]))) {
+            long start = System.nanoTime();
+            Map<LossCause, Long> losses = lossCauses(archive);
+            long[][] timing = treasureTimingByRole(archive);
+            long elapsed = System.nanoTime() - start;
+
+            System.out.println("========== Replay Analytics (" + archive.size() + " games) ==========");
+            long won = archive.parallelStream().filter(ReplayRecord::isWon).count();
+            System.out.println("Won: " + won);
+            losses.forEach((cause, count) -> System.out.println(cause + ": " + count));
+
+            System.out.println("---------- Treasure captures by role ----------");
+            List<Class<? extends Role>> roleTypes = RoleFactory.getRoleTypes();
+            for (int role = 0; role < roleTypes.size(); role++) {
+                long captures = timing[role][0];
+                System.out.printf("%-10s captures=%-7d mean action=%.1f%n", roleTypes.get(role).getSimpleName(),
+                        captures, captures == 0 ? 0.0 : (double) timing[role][1] / captures);
+            }
+            System.out.printf("Scanned in %.2f s%n", elapsed / 1e9);
+        }
+    }
+}
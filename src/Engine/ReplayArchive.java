@@ -0,0 +1,234 @@
+package Engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Replay Archive Class
+ * Read-only, memory-mapped view of a replay file for bulk analysis
+ *
+ * Opening the archive maps the file and walks the length prefixes once to build an
+ * offset index, so game N is found directly. Records are read in place: a
+ * ReplayRecord holds the setup and outcome fields plus a slice of the mapped action
+ * stream, and no game is rebuilt unless Replayer is asked to. Files over 2 GB are
+ * mapped in several segments, each starting on a record boundary
+ *
+ * stream() and parallelStream() split the index range, so analytics run across all
+ * cores. The archive is safe to read from many threads; each reader works on its
+ * own view of the mapped segments
+ */
+public final class ReplayArchive implements Closeable {
+    private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final List<Long> segmentStarts = new ArrayList<>();
+    private long[] offsets = new long[1024]; // Position of each record's length prefix in the file
+    private int[] segmentOf = new int[1024];
+    private int size;
+
+    /**
+     * Open an archive
+     *
+     * @param file Replay file
+     * @throws IOException If the file cannot be mapped or is not a replay file
+     */
+    public ReplayArchive(Path file) throws IOException {
+        this(file, MAX_SEGMENT_SIZE);
+    }
+
+    ReplayArchive(Path file, long maxSegmentSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            index(channel.size(), maxSegmentSize);
+        } catch (IllegalArgumentException e) {
+            channel.close();
+            throw new IOException(file + ": " + e.getMessage(), e);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void index(long fileSize, long maxSegmentSize) throws IOException {
+        long segmentStart = 0;
+        long position = ReplayFormat.HEADER_SIZE;
+        MappedByteBuffer segment = map(segmentStart, fileSize, maxSegmentSize);
+        ReplayFormat.readHeader(segment.duplicate());
+
+        while (position < fileSize) {
+            ByteBuffer view = segment.duplicate();
+            view.position((int) (position - segmentStart));
+            int length;
+            int end;
+            try {
+                length = ReplayFormat.readVarint(view);
+                end = Math.addExact(view.position(), length);
+            } catch (RuntimeException e) {
+                length = -1;
+                end = Integer.MAX_VALUE;
+            }
+            if (end > view.limit()) {
+                // Record runs past this segment: start a new segment at the record
+                if (segmentStart + view.limit() >= fileSize || position == segmentStart) {
+                    throw new IllegalArgumentException("Replay record at " + position + " is truncated");
+                }
+                segmentStart = position;
+                segment = map(segmentStart, fileSize, maxSegmentSize);
+                continue;
+            }
+            add(position);
+            position = segmentStart + end;
+        }
+    }
+
+    private MappedByteBuffer map(long start, long fileSize, long maxSegmentSize) throws IOException {
+        MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                Math.min(fileSize - start, maxSegmentSize));
+        segments.add(segment);
+        segmentStarts.add(start);
+        return segment;
+    }
+
+    private void add(long position) {
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+            segmentOf = Arrays.copyOf(segmentOf, size * 2);
+        }
+        offsets[size] = position;
+        segmentOf[size] = segments.size() - 1;
+        size++;
+    }
+
+    // =============== Record Access ===============
+
+    /**
+     * Get the number of games in the archive
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Read game N
+     *
+     * @param index Game index in file order
+     * @return Record backed by the mapped file
+     */
+    public ReplayRecord get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Game " + index + " of " + size);
+        }
+        return read(segments.get(segmentOf[index]).duplicate(), index);
+    }
+
+    private ReplayRecord read(ByteBuffer segment, int index) {
+        segment.position((int) (offsets[index] - segmentStarts.get(segmentOf[index])));
+        return ReplayRecord.read(segment);
+    }
+
+    /**
+     * Get the file position of game N, for tools that keep their own index
+     */
+    public long getOffset(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Game " + index + " of " + size);
+        }
+        return offsets[index];
+    }
+
+    /**
+     * Stream every game in file order on the calling thread
+     */
+    public Stream<ReplayRecord> stream() {
+        return StreamSupport.stream(new RecordSpliterator(0, size), false);
+    }
+
+    /**
+     * Stream every game, split across the common fork-join pool
+     */
+    public Stream<ReplayRecord> parallelStream() {
+        return StreamSupport.stream(new RecordSpliterator(0, size), true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // =============== Spliterator ===============
+
+    /**
+     * Walks a range of the offset index
+     * Splits in half by index, so every part knows its exact size
+     */
+    private final class RecordSpliterator implements Spliterator<ReplayRecord> {
+        private int index;
+        private final int end;
+        private ByteBuffer view; // This spliterator's own view of the current segment
+        private int viewSegment = -1;
+
+        RecordSpliterator(int index, int end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ReplayRecord> action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super ReplayRecord> action) {
+            while (index < end) {
+                action.accept(next());
+            }
+        }
+
+        private ReplayRecord next() {
+            int segment = segmentOf[index];
+            if (segment != viewSegment) {
+                view = segments.get(segment).duplicate();
+                viewSegment = segment;
+            }
+            return read(view, index++);
+        }
+
+        @Override
+        public Spliterator<ReplayRecord> trySplit() {
+            int mid = (index + end) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            RecordSpliterator prefix = new RecordSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package Engine;
+
+import Model.Cards.Card;
+import Model.Player;
+import Model.Tile;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Replay Format Class
+ * Binary encoding shared by ReplayRecorder, ReplayWriter and Replayer
+ *
+ * A replay file starts with the magic bytes "FIRP" and a version byte, followed by
+ * game records appended one after another, each prefixed with its length:
+ *
+ *   varint length
+ *   varint playerCount, varint layout ordinal, varint start water level
+ *   8 bytes seed
+ *   varint role id per player (RoleFactory.getRoleTypes order)
+ *   varint outcome (0 unfinished, 1 won, 2 + LossCause ordinal)
+ *   varint turn count
+ *   8 bytes Zobrist hash of the final state
+ *   varint action count
+ *   actions
+ *
+ * An action is a varint head (kind ordinal * 4 + player index) followed by its
+ * operands: tiles as board cells, optional second tiles as cell + 1 (0 for none),
+ * players as indexes, cards as ids and helicopter passengers as a player bit mask + 1
+ * (0 for everyone on the holder's tile). Most actions take two bytes. Random draws are
+ * not stored: every shuffle comes from the seeded streams, and the final hash shows
+ * whether a replay took the same course
+ */
+public final class ReplayFormat {
+    public static final byte[] MAGIC = { 'F', 'I', 'R', 'P' };
+    public static final int VERSION = 6; // 6: final hash keys undrawn cards from the bottom of their pile
+    public static final int HEADER_SIZE = MAGIC.length + 1;
+
+    static final int OUTCOME_UNFINISHED = 0;
+    static final int OUTCOME_WON = 1;
+    static final int OUTCOME_LOSS_BASE = 2;
+
+    private static final int MAX_PLAYERS = 4;
+    private static final GameAction.Kind[] KINDS = GameAction.Kind.values();
+
+    private ReplayFormat() {}
+
+    // =============== Varints ===============
+
+    /**
+     * Write a non-negative int in 7-bit groups, low group first
+     */
+    static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    static int readVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at " + (in.position() - 1));
+    }
+
+    // =============== Header ===============
+
+    /**
+     * Check the file header and move past it
+     *
+     * @param in Buffer positioned at the start of a replay file
+     */
+    static void readHeader(ByteBuffer in) {
+        try {
+            for (byte expected : MAGIC) {
+                if (in.get() != expected) {
+                    throw new IllegalArgumentException("Not a replay file");
+                }
+            }
+            int version = in.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported replay version " + version);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Replay file is truncated", e);
+        }
+    }
+
+    // =============== Actions ===============
+
+    /**
+     * Append one action
+     *
+     * @param out    Action stream of a game record
+     * @param action Action performed
+     */
+    static void writeAction(ByteArrayOutputStream out, GameAction action) {
+        writeVarint(out, action.getKind().ordinal() * MAX_PLAYERS + action.getPlayerIndex());
+        switch (action.getKind()) {
+            case MOVE:
+            case FLY:
+            case SANDBAG:
+            case EMERGENCY_MOVE:
+                writeVarint(out, action.getCell());
+                break;
+            case HELICOPTER:
+                writeVarint(out, action.getCell());
+                writeVarint(out, action.getPassengerMask() + 1);
+                break;
+            case SHORE_UP:
+                writeVarint(out, action.getCell());
+                writeVarint(out, action.getSecondCell() + 1);
+                break;
+            case NAVIGATE:
+                writeVarint(out, action.getTargetPlayerIndex());
+                writeVarint(out, action.getCell());
+                writeVarint(out, action.getSecondCell() + 1);
+                break;
+            case GIVE_CARD:
+                writeVarint(out, action.getTargetPlayerIndex());
+                writeVarint(out, action.getCard().getId());
+                break;
+            case DISCARD:
+                writeVarint(out, action.getCard().getId());
+                break;
+            default:
+                break; // CAPTURE_TREASURE, ESCAPE and SKIP have no operands
+        }
+    }
+
+    /**
+     * Read the next action against the game it was recorded on
+     * Cards are looked up by id in the acting player's hand
+     *
+     * @param in     Action stream positioned at an action
+     * @param engine Game in the state the action was recorded in
+     * @return Decoded action
+     */
+    static GameAction readAction(ByteBuffer in, GameEngine engine) {
+        int head = readVarint(in);
+        int p = head % MAX_PLAYERS;
+        switch (kindOf(head)) {
+            case MOVE:
+                return GameAction.move(p, tile(engine, readVarint(in)));
+            case FLY:
+                return GameAction.fly(p, tile(engine, readVarint(in)));
+            case SANDBAG:
+                return GameAction.sandbag(p, tile(engine, readVarint(in)));
+            case HELICOPTER:
+                Tile landing = tile(engine, readVarint(in));
+                int mask = readVarint(in) - 1;
+                return mask < 0 ? GameAction.helicopter(p, landing)
+                        : GameAction.helicopter(p, passengers(mask), landing);
+            case EMERGENCY_MOVE:
+                return GameAction.emergencyMove(p, tile(engine, readVarint(in)));
+            case SHORE_UP:
+                Tile first = tile(engine, readVarint(in));
+                return GameAction.shoreUp(p, first, tile(engine, readVarint(in) - 1));
+            case NAVIGATE:
+                int target = readVarint(in);
+                Tile step = tile(engine, readVarint(in));
+                return GameAction.navigate(p, target, step, tile(engine, readVarint(in) - 1));
+            case GIVE_CARD:
+                int receiver = readVarint(in);
+                return GameAction.giveCard(p, receiver, card(engine, p, readVarint(in)));
+            case DISCARD:
+                return GameAction.discard(p, card(engine, p, readVarint(in)));
+            case CAPTURE_TREASURE:
+                return GameAction.captureTreasure(p);
+            case ESCAPE:
+                return GameAction.escape(p);
+            default:
+                return GameAction.skip(p);
+        }
+    }
+
+    /**
+     * Walk an action stream without a game, reporting only who did what
+     *
+     * @param in      Action stream positioned at the first action
+     * @param count   Number of actions in the stream
+     * @param visitor Called with each action's kind and player index
+     */
+    static void visitActions(ByteBuffer in, int count, ObjIntConsumer<GameAction.Kind> visitor) {
+        for (int i = 0; i < count; i++) {
+            int head = readVarint(in);
+            GameAction.Kind kind = kindOf(head);
+            for (int operand = operandCount(kind); operand > 0; operand--) {
+                readVarint(in);
+            }
+            visitor.accept(kind, head % MAX_PLAYERS);
+        }
+    }
+
+    private static GameAction.Kind kindOf(int head) {
+        int kind = head / MAX_PLAYERS;
+        if (kind >= KINDS.length) {
+            throw new IllegalArgumentException("Unknown action kind " + kind);
+        }
+        return KINDS[kind];
+    }
+
+    private static int operandCount(GameAction.Kind kind) {
+        switch (kind) {
+            case NAVIGATE:
+                return 3;
+            case SHORE_UP:
+            case GIVE_CARD:
+            case HELICOPTER:
+                return 2;
+            case CAPTURE_TREASURE:
+            case ESCAPE:
+            case SKIP:
+                return 0;
+            default:
+                return 1;
+        }
+    }
+
+    private static List<Integer> passengers(int mask) {
+        List<Integer> passengers = new ArrayList<>();
+        for (int i = 0; i < MAX_PLAYERS; i++) {
+            if ((mask & (1 << i)) != 0) {
+                passengers.add(i);
+            }
+        }
+        return passengers;
+    }
+
+    private static Tile tile(GameEngine engine, int cell) {
+        if (cell < 0 || cell >= MoveGenerator.CELL_COUNT) {
+            return null;
+        }
+        return engine.getTile(cell / MoveGenerator.MAP_SIZE, cell % MoveGenerator.MAP_SIZE);
+    }
+
+    // Null if the player does not hold the card, so the engine refuses the action
+    private static Card card(GameEngine engine, int playerIndex, int id) {
+        if (playerIndex >= engine.getPlayers().size()) {
+            return null;
+        }
+        Player player = engine.getPlayers().get(playerIndex);
+        for (Card card : player.getHandCard().getCards()) {
+            if (card.getId() == id) {
+                return card;
+            }
+        }
+        return null;
+    }
+}
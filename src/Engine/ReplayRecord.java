@@ -0,0 +1,171 @@
+package Engine;
+
+import Model.Enumeration.LossCause;
+import Model.Enumeration.MapLayout;
+import Model.Role.Role;
+import Model.Role.RoleFactory;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Replay Record Class
+ * One game read back from a replay file: its setup, recorded outcome and the still
+ * encoded action stream, which Replayer decodes against the rebuilt game
+ */
+public final class ReplayRecord {
+    private static final MapLayout[] LAYOUTS = MapLayout.values();
+    private static final LossCause[] LOSS_CAUSES = LossCause.values();
+
+    private final int playerCount;
+    private final MapLayout layout;
+    private final int startLevel;
+    private final long seed;
+    private final int roleIds; // 4 bits per player
+    private final int outcome;
+    private final int turnCount;
+    private final long finalHash;
+    private final int actionCount;
+    private final ByteBuffer actions;
+
+    private ReplayRecord(ByteBuffer body) {
+        this.playerCount = ReplayFormat.readVarint(body);
+        int layoutIndex = ReplayFormat.readVarint(body);
+        if (layoutIndex >= LAYOUTS.length) {
+            throw new IllegalArgumentException("Unknown map layout " + layoutIndex);
+        }
+        this.layout = LAYOUTS[layoutIndex];
+        this.startLevel = ReplayFormat.readVarint(body);
+        this.seed = body.getLong();
+        int ids = 0;
+        for (int i = 0; i < playerCount; i++) {
+            ids |= ReplayFormat.readVarint(body) << (i * 4);
+        }
+        this.roleIds = ids;
+        this.outcome = ReplayFormat.readVarint(body);
+        this.turnCount = ReplayFormat.readVarint(body);
+        this.finalHash = body.getLong();
+        this.actionCount = ReplayFormat.readVarint(body);
+        this.actions = body.slice();
+    }
+
+    /**
+     * Read the record at the buffer's position and move past it
+     * The action stream shares the buffer's content, nothing is copied
+     *
+     * @param in Buffer positioned at a length prefix
+     * @return Record
+     */
+    public static ReplayRecord read(ByteBuffer in) {
+        try {
+            int length = ReplayFormat.readVarint(in);
+            ByteBuffer body = in.slice();
+            body.limit(length);
+            in.position(in.position() + length);
+            return new ReplayRecord(body);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Replay record is truncated", e);
+        }
+    }
+
+    /**
+     * Get the encoded actions
+     *
+     * @return New read-only view positioned at the first action
+     */
+    ByteBuffer getActions() {
+        return actions.asReadOnlyBuffer();
+    }
+
+    /**
+     * Walk the recorded actions without rebuilding the game
+     *
+     * @param visitor Called in order with each action's kind and player index
+     */
+    public void forEachAction(ObjIntConsumer<GameAction.Kind> visitor) {
+        ReplayFormat.visitActions(getActions(), actionCount, visitor);
+    }
+
+    // =============== Accessors ===============
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public MapLayout getLayout() {
+        return layout;
+    }
+
+    public int getStartLevel() {
+        return startLevel;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Get the role a player was dealt
+     *
+     * @param playerIndex Player index
+     * @return Role type, as listed by RoleFactory.getRoleTypes
+     */
+    public Class<? extends Role> getRole(int playerIndex) {
+        return RoleFactory.getRoleTypes().get(getRoleId(playerIndex));
+    }
+
+    /**
+     * Get the stable id of the role a player was dealt
+     *
+     * @param playerIndex Player index
+     * @return Role id, see RoleFactory.idOf
+     */
+    public int getRoleId(int playerIndex) {
+        if (playerIndex < 0 || playerIndex >= playerCount) {
+            throw new IndexOutOfBoundsException("Player " + playerIndex + " of " + playerCount);
+        }
+        return (roleIds >>> (playerIndex * 4)) & 0xF;
+    }
+
+    public int getOutcome() {
+        return outcome;
+    }
+
+    public boolean isFinished() {
+        return outcome != ReplayFormat.OUTCOME_UNFINISHED;
+    }
+
+    public boolean isWon() {
+        return outcome == ReplayFormat.OUTCOME_WON;
+    }
+
+    /**
+     * Get the recorded loss
+     *
+     * @return Loss cause, or null if the game was won or unfinished
+     */
+    public LossCause getLossCause() {
+        int index = outcome - ReplayFormat.OUTCOME_LOSS_BASE;
+        return index >= 0 && index < LOSS_CAUSES.length ? LOSS_CAUSES[index] : null;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    public long getFinalHash() {
+        return finalHash;
+    }
+
+    public int getActionCount() {
+        return actionCount;
+    }
+
+    @Override
+    public String toString() {
+        String result = isWon() ? "WON" : isFinished() ? String.valueOf(getLossCause()) : "UNFINISHED";
+        return String.format("%dP %s L%d seed=%d %s after %d turns (%d actions)",
+                playerCount, layout, startLevel, seed, result, turnCount, actionCount);
+    }
+}
@@ -0,0 +1,105 @@
+package Engine;
+
+import Model.Enumeration.MapLayout;
+import Model.Player;
+import Model.Role.RoleFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.util.SplittableRandom;
+
+/**
+ * Replay Recorder Class
+ * Builds one game from a seed and encodes every action performed on it through
+ * GameEngine.execute, ready to be appended to a replay file by ReplayWriter
+ *
+ * Actions applied with GameAction.apply or the engine's action methods directly are
+ * not recorded, so a recorded game must be played through execute only
+ */
+public final class ReplayRecorder {
+    private final int playerCount;
+    private final MapLayout layout;
+    private final int startLevel;
+    private final long seed;
+    private final GameEngine engine;
+    private final ByteArrayOutputStream actions = new ByteArrayOutputStream(256);
+    private int actionCount;
+
+    /**
+     * Constructor
+     * Creates the game the way Replayer will rebuild it
+     *
+     * @param playerCount Number of players (2-4)
+     * @param layout      Map layout
+     * @param startLevel  Starting water level
+     * @param seed        Seed of the game's random stream
+     */
+    public ReplayRecorder(int playerCount, MapLayout layout, int startLevel, long seed) {
+        this.playerCount = playerCount;
+        this.layout = layout;
+        this.startLevel = startLevel;
+        this.seed = seed;
+        this.engine = newGame(playerCount, layout, startLevel, seed);
+        engine.addOnActionListener(this::record);
+    }
+
+    /**
+     * Create the game a record describes, before any action
+     */
+    static GameEngine newGame(int playerCount, MapLayout layout, int startLevel, long seed) {
+        return new GameEngine(playerCount, layout, startLevel, new SplittableRandom(seed));
+    }
+
+    private void record(GameAction action) {
+        ReplayFormat.writeAction(actions, action);
+        actionCount++;
+    }
+
+    /**
+     * Encode the game as it stands, without the length prefix
+     *
+     * @return Record body in ReplayFormat
+     */
+    public byte[] toRecord() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(actions.size() + 32);
+        ReplayFormat.writeVarint(out, playerCount);
+        ReplayFormat.writeVarint(out, layout.ordinal());
+        ReplayFormat.writeVarint(out, startLevel);
+        ReplayFormat.writeLong(out, seed);
+        for (Player player : engine.getPlayers()) {
+            ReplayFormat.writeVarint(out, RoleFactory.idOf(player.getRole()));
+        }
+        ReplayFormat.writeVarint(out, outcomeOf(engine));
+        ReplayFormat.writeVarint(out, engine.getTurnCount());
+        ReplayFormat.writeLong(out, engine.getHash());
+        ReplayFormat.writeVarint(out, actionCount);
+        out.writeBytes(actions.toByteArray());
+        return out.toByteArray();
+    }
+
+    static int outcomeOf(GameEngine engine) {
+        if (!engine.isGameOver()) {
+            return ReplayFormat.OUTCOME_UNFINISHED;
+        }
+        if (engine.isWon()) {
+            return ReplayFormat.OUTCOME_WON;
+        }
+        return ReplayFormat.OUTCOME_LOSS_BASE + engine.getLossCause().ordinal();
+    }
+
+    // =============== State Access ===============
+
+    /**
+     * Get the recorded game; submit its actions with GameEngine.execute
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getActionCount() {
+        return actionCount;
+    }
+}
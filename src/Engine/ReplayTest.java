@@ -0,0 +1,142 @@
+package Engine;
+
+import Model.Enumeration.MapLayout;
+import Model.Tile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Replay test class
+ * Records policy games through ReplayRecorder, writes them with ReplayWriter and
+ * checks that every game read back from the ReplayArchive replays to the same end
+ */
+public class ReplayTest {
+    private static final int GAMES_PER_CONFIG = 100;
+    private static final int MAX_STEPS_PER_GAME = 10_000;
+    private static final List<String> testResults = new ArrayList<>();
+
+    public static void main(String[] args) {
+        System.out.println("Starting replay tests...\n");
+
+        // Record, write, read back and replay whole games
+        testRecordAndReplay(new SplittableRandom(5));
+
+        // Encode and decode helicopter lifts with chosen passengers
+        testHelicopterEncoding();
+
+        // Print test results
+        System.out.println("\nTest Results Summary:");
+        for (String result : testResults) {
+            System.out.println(result);
+        }
+    }
+
+    private static void testRecordAndReplay(SplittableRandom random) {
+        System.out.println("=== Testing record and replay ===");
+        Path file = null;
+        try {
+            file = Files.createTempFile("replay-test", ".firp");
+            Files.delete(file);
+
+            List<Long> seeds = new ArrayList<>();
+            List<Long> hashes = new ArrayList<>();
+            try (ReplayWriter writer = new ReplayWriter(file)) {
+                for (int playerCount = 2; playerCount <= 4; playerCount++) {
+                    for (MapLayout layout : MapLayout.values()) {
+                        for (int level = 1; level <= 4; level++) {
+                            PlayoutPolicy policy = new PlayoutPolicy(random.split());
+                            for (int i = 0; i < GAMES_PER_CONFIG; i++) {
+                                ReplayRecorder game = new ReplayRecorder(playerCount, layout, level, random.nextLong());
+                                policy.playToEnd(game.getEngine(), MAX_STEPS_PER_GAME);
+                                writer.append(game);
+                                seeds.add(game.getSeed());
+                                hashes.add(ZobristHash.hashOf(game.getEngine()));
+                            }
+                        }
+                    }
+                }
+            }
+
+            long actions = 0;
+            try (ReplayArchive archive = new ReplayArchive(file)) {
+                if (archive.size() != seeds.size()) {
+                    addTestResult("✗ Archive holds " + archive.size() + " games, " + seeds.size() + " were written");
+                    return;
+                }
+                for (int i = 0; i < archive.size(); i++) {
+                    ReplayRecord record = archive.get(i);
+                    if (record.getSeed() != seeds.get(i)) {
+                        addTestResult("✗ Game " + i + " was read back out of order");
+                        return;
+                    }
+                    GameEngine replayed;
+                    try {
+                        replayed = Replayer.replay(record);
+                    } catch (IllegalStateException e) {
+                        addTestResult("✗ Game " + i + ": " + e.getMessage());
+                        return;
+                    }
+                    if (ZobristHash.hashOf(replayed) != hashes.get(i)) {
+                        addTestResult("✗ Game " + i + " replayed to a different game than was played");
+                        return;
+                    }
+                    actions += record.getActionCount();
+                }
+            }
+            addTestResult("✓ Replayed " + seeds.size() + " games (" + actions + " actions) to the recorded end");
+        } catch (IOException e) {
+            addTestResult("✗ Replay file failed: " + e.getMessage());
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    System.err.println("Could not delete " + file + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void testHelicopterEncoding() {
+        System.out.println("=== Testing helicopter encoding ===");
+        GameEngine engine = new GameEngine(4, MapLayout.CLASSIC, 1, new SplittableRandom(1));
+        Tile target = engine.getAllTiles().get(engine.getAllTiles().size() - 1);
+        List<GameAction> lifts = Arrays.asList(
+                GameAction.helicopter(0, target),
+                GameAction.helicopter(0, Collections.<Integer>emptyList(), target),
+                GameAction.helicopter(1, Collections.singletonList(3), target),
+                GameAction.helicopter(2, Arrays.asList(0, 1, 3), target));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (GameAction lift : lifts) {
+            ReplayFormat.writeAction(out, lift);
+        }
+        ByteBuffer in = ByteBuffer.wrap(out.toByteArray());
+        for (GameAction lift : lifts) {
+            GameAction decoded = ReplayFormat.readAction(in, engine);
+            if (!lift.equals(decoded)) {
+                addTestResult("✗ " + lift + " decoded as " + decoded);
+                return;
+            }
+        }
+        if (in.hasRemaining()) {
+            addTestResult("✗ " + in.remaining() + " bytes left after decoding");
+            return;
+        }
+        addTestResult("✓ Helicopter lifts keep their passengers through the replay format");
+    }
+
+    private static void addTestResult(String result) {
+        testResults.add(result);
+        System.out.println(result);
+    }
+}
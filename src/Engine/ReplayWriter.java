@@ -0,0 +1,86 @@
+package Engine;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Replay Writer Class
+ * Appends finished games to a replay file
+ *
+ * The file is only ever appended to, so an archive can grow across sessions; a new
+ * file gets the ReplayFormat header first. Appending is synchronized, so simulation
+ * threads can share one writer and each record lands whole
+ */
+public final class ReplayWriter implements Closeable {
+    private final OutputStream out;
+    private long gameCount;
+
+    /**
+     * Constructor
+     * Opens the file for appending, creating it if needed
+     *
+     * @param file Replay file
+     * @throws IOException If the file cannot be opened or is not a replay file
+     */
+    public ReplayWriter(Path file) throws IOException {
+        boolean isNew = !Files.exists(file) || Files.size(file) == 0;
+        if (!isNew) {
+            checkHeader(file);
+        }
+        this.out = new BufferedOutputStream(new FileOutputStream(file.toFile(), true), 1 << 16);
+        if (isNew) {
+            out.write(ReplayFormat.MAGIC);
+            out.write(ReplayFormat.VERSION);
+        }
+    }
+
+    private static void checkHeader(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            ReplayFormat.readHeader(ByteBuffer.wrap(in.readNBytes(ReplayFormat.HEADER_SIZE)));
+        } catch (IllegalArgumentException e) {
+            throw new IOException(file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Append one game
+     *
+     * @param game Recorder of the game, usually finished
+     */
+    public void append(ReplayRecorder game) throws IOException {
+        append(game.toRecord());
+    }
+
+    /**
+     * Append one encoded game record
+     *
+     * @param record Record body from ReplayRecorder.toRecord
+     */
+    public synchronized void append(byte[] record) throws IOException {
+        ByteArrayOutputStream prefix = new ByteArrayOutputStream(5);
+        ReplayFormat.writeVarint(prefix, record.length);
+        prefix.writeTo(out);
+        out.write(record);
+        gameCount++;
+    }
+
+    /**
+     * Get the number of games appended by this writer
+     */
+    public synchronized long getGameCount() {
+        return gameCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
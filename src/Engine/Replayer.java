@@ -0,0 +1,97 @@
+package Engine;
+
+import Model.Enumeration.ActionResult;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Replayer Class
+ * Rebuilds recorded games from their seed and re-submits every action through
+ * GameEngine.execute, so a replay obeys exactly the rules the recording did
+ *
+ * Usage: java Engine.Replayer file [gameIndex]
+ * Without an index every game is replayed and checked in parallel; with one, that
+ * game's actions are printed as they are applied
+ */
+public final class Replayer {
+
+    private Replayer() {}
+
+    /**
+     * Replay a game and check it ends where the recording did
+     *
+     * @param record Game to replay
+     * @return Game after the last action
+     * @throws IllegalStateException If an action is refused or the final state differs
+     */
+    public static GameEngine replay(ReplayRecord record) {
+        return replay(record, null);
+    }
+
+    /**
+     * Replay a game and check it ends where the recording did
+     *
+     * @param record   Game to replay
+     * @param onAction Called after each action is applied, may be null
+     * @return Game after the last action
+     * @throws IllegalStateException If an action is refused or the final state differs
+     */
+    public static GameEngine replay(ReplayRecord record, Consumer<GameAction> onAction) {
+        GameEngine engine = ReplayRecorder.newGame(record.getPlayerCount(), record.getLayout(),
+                record.getStartLevel(), record.getSeed());
+        if (onAction != null) {
+            engine.addOnActionListener(onAction);
+        }
+        ByteBuffer actions = record.getActions();
+        for (int i = 0; i < record.getActionCount(); i++) {
+            GameAction action = ReplayFormat.readAction(actions, engine);
+            ActionResult result = engine.execute(action);
+            if (!result.isSuccess()) {
+                throw new IllegalStateException("Action " + i + " (" + action + ") refused: " + result
+                        + " [" + record + "]");
+            }
+        }
+        if (ReplayRecorder.outcomeOf(engine) != record.getOutcome()
+                || engine.getTurnCount() != record.getTurnCount()
+                || ZobristHash.hashOf(engine) != record.getFinalHash()) {
+            throw new IllegalStateException("Replay diverged from the recording [" + record + "]");
+        }
+        return engine;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: java Engine.Replayer file [gameIndex]");
+            return;
+        }
+        try (ReplayArchive archive = new ReplayArchive(Paths.get(args[0]))) {
+            if (args.length > 1) {
+                ReplayRecord record = archive.get(Integer.parseInt(args[1]));
+                System.out.println(record);
+                replay(record, System.out::println);
+                System.out.println("Replay matches the recording");
+                return;
+            }
+
+            long start = System.nanoTime();
+            AtomicLong actions = new AtomicLong();
+            long failed = archive.parallelStream().filter(record -> {
+                actions.addAndGet(record.getActionCount());
+                try {
+                    replay(record);
+                    return false;
+                } catch (IllegalStateException e) {
+                    System.out.println(e.getMessage());
+                    return true;
+                }
+            }).count();
+            long elapsed = System.nanoTime() - start;
+            System.out.printf("Replayed %d games (%d actions) in %.1f s, %d diverged%n",
+                    archive.size(), actions.get(), elapsed / 1e9, failed);
+        }
+    }
+}
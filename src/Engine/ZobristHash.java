@@ -0,0 +1,358 @@
+package Engine;
+
+import Model.Cards.Card;
+import Model.Cards.FloodCard;
+import Model.Cards.TreasureCard;
+import Model.Deck.FloodDeck;
+import Model.Deck.TreasureDeck;
+import Model.Enumeration.CardType;
+import Model.Enumeration.GamePhase;
+import Model.Enumeration.TileName;
+import Model.Enumeration.TileState;
+import Model.Enumeration.TreasureType;
+import Model.Player;
+import Model.Tile;
+import Model.WaterLevel;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist Hash Class
+ * 64-bit identity of a GameEngine state for replay verification and dedup
+ *
+ * Covers the board, player tiles and hands, the order of the undrawn treasure and
+ * flood cards, the treasure discard pile, collected treasures, water level and the
+ * turn state: current player, actions left, phase, Pilot flight, the player who must
+ * discard and the emergency move queue. Cards are keyed by kind rather than id, so
+ * two states that differ only in which copy of an identical card sits where hash equally
+ *
+ * An instance follows one engine: tiles, player positions, hands, decks, water level
+ * and collected treasures XOR their keys in and out from the model listeners, so a
+ * move, draw or discard costs one or two table lookups. Undrawn cards are keyed by
+ * distance from the bottom of the pile, or from the end of the active flood cards,
+ * so drawing the next card leaves the keys of the others alone; only shuffles and
+ * refills rehash a deck. The turn state is a handful of engine fields and is folded
+ * in when the hash is read. hashOf computes the same value from scratch and is the
+ * check for the incremental updates
+ *
+ * The key tables use a fixed seed, so equal states hash equally across games and runs
+ */
+public final class ZobristHash {
+    private static final long KEY_SEED = 0x5EED_F0B1_DDE2_15L;
+    private static final int CELL_COUNT = MoveGenerator.CELL_COUNT;
+    private static final int MAX_PLAYERS = 4;
+    private static final int NO_TILE = CELL_COUNT; // Extra slot for a player without a tile
+    private static final int MAX_CARDS_PER_KIND = 8;
+    private static final int MAX_DECK_SIZE = TreasureDeck.CARD_COUNT;
+    private static final int MAX_ACTIVE_FLOOD_CARDS = 6;
+
+    // Cards are counted per CardType, with treasure cards split by TreasureType
+    private static final int TREASURE_KINDS = TreasureType.values().length;
+    private static final int CARD_KINDS = TREASURE_KINDS + CardType.values().length;
+
+    // =============== Key Tables ===============
+    private static final long[][] TILE_NAME = new long[CELL_COUNT][TileName.values().length];
+    private static final long[][] TILE_STATE = new long[CELL_COUNT][TileState.values().length];
+    private static final long[][] PLAYER_TILE = new long[MAX_PLAYERS][CELL_COUNT + 1];
+    private static final long[][][] HAND = new long[MAX_PLAYERS][CARD_KINDS][MAX_CARDS_PER_KIND + 1];
+    private static final long[] WATER_LEVEL = new long[WaterLevel.MAX_LEVEL + 1];
+    private static final long[][] TREASURE_DRAW = new long[MAX_DECK_SIZE][CARD_KINDS];       // Position from the bottom
+    private static final long[][] TREASURE_DISCARD = new long[CARD_KINDS][MAX_CARDS_PER_KIND + 1];
+    private static final long[][] FLOOD_NEXT = new long[MAX_ACTIVE_FLOOD_CARDS][CELL_COUNT];  // Undrawn, from the end
+    private static final long[] COLLECTED = new long[TREASURE_KINDS];
+    private static final long[] CURRENT_PLAYER = new long[MAX_PLAYERS];
+    private static final long[] ACTIONS = new long[GameEngine.MAX_ACTIONS_PER_TURN + 1];
+    private static final long[] PHASE = new long[GamePhase.values().length];
+    private static final long PILOT_FLIGHT_USED;
+    private static final long NEXT_TURN_AFTER_DISCARD;
+    private static final long[] DISCARD_PLAYER = new long[MAX_PLAYERS];
+    private static final long[][] EMERGENCY_QUEUE = new long[MAX_PLAYERS][MAX_PLAYERS];      // Queue position, player
+    private static final long[] PENDING_FLOOD_DRAWS = new long[WaterLevel.MAX_DRAW_COUNT + 1];
+
+    static {
+        SplittableRandom random = new SplittableRandom(KEY_SEED);
+        fill(TILE_NAME, random);
+        fill(TILE_STATE, random);
+        fill(PLAYER_TILE, random);
+        for (long[][] playerKeys : HAND) {
+            fill(playerKeys, random);
+        }
+        fill(WATER_LEVEL, random);
+        fill(TREASURE_DRAW, random);
+        fill(TREASURE_DISCARD, random);
+        fill(FLOOD_NEXT, random);
+        fill(COLLECTED, random);
+        fill(CURRENT_PLAYER, random);
+        fill(ACTIONS, random);
+        fill(PHASE, random);
+        PILOT_FLIGHT_USED = random.nextLong();
+        NEXT_TURN_AFTER_DISCARD = random.nextLong();
+        fill(DISCARD_PLAYER, random);
+        fill(EMERGENCY_QUEUE, random);
+        fill(PENDING_FLOOD_DRAWS, random);
+    }
+
+    private static void fill(long[][] table, SplittableRandom random) {
+        for (long[] row : table) {
+            fill(row, random);
+        }
+    }
+
+    private static void fill(long[] table, SplittableRandom random) {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = random.nextLong();
+        }
+    }
+
+    private final GameEngine engine;
+    private long hash; // Everything but the turn state
+
+    // Last seen values, needed to XOR the old key out
+    private final TileState[] tileStates = new TileState[CELL_COUNT];
+    private final int[] playerCells = new int[MAX_PLAYERS];
+    private final int[][] handCounts = new int[MAX_PLAYERS][CARD_KINDS];
+    private final int[] discardCounts = new int[CARD_KINDS];
+    private long treasureDeckHash;
+    private long floodDeckHash;
+    private int waterLevel;
+    private int collected; // Bit per TreasureType ordinal
+
+    /**
+     * Constructor
+     * Hashes the engine once and subscribes to its tiles, players, hands, decks and water level
+     *
+     * @param engine Game to follow
+     */
+    ZobristHash(GameEngine engine) {
+        this.engine = engine;
+        for (Tile tile : engine.getAllTiles()) {
+            int cell = MoveGenerator.cellOf(tile);
+            tileStates[cell] = tile.getState();
+            hash ^= TILE_NAME[cell][tile.getName().ordinal()] ^ TILE_STATE[cell][tileStates[cell].ordinal()];
+            tile.addOnStateChangeListener(this::onTileStateChanged);
+        }
+
+        List<Player> players = engine.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            int playerIndex = i;
+            Player player = players.get(i);
+            Tile tile = player.getCurrentTile();
+            playerCells[i] = tile == null ? NO_TILE : MoveGenerator.cellOf(tile);
+            hash ^= PLAYER_TILE[i][playerCells[i]];
+            for (Card card : player.getHandCard().getCards()) {
+                handCounts[i][kindOf(card)]++;
+            }
+            hash ^= countKeys(HAND[i], handCounts[i]);
+            player.addOnPositionChangeListener(p -> onPlayerMoved(playerIndex, p.getCurrentTile()));
+            player.getHandCard().addOnCardAddedListener(card -> onHandChanged(playerIndex, card, 1));
+            player.getHandCard().addOnCardRemovedListener(card -> onHandChanged(playerIndex, card, -1));
+        }
+
+        TreasureDeck treasureDeck = engine.getTreasureDeck();
+        FloodDeck floodDeck = engine.getFloodDeck();
+        onTreasurePilesChanged(treasureDeck);
+        onFloodPilesChanged(floodDeck);
+        treasureDeck.addOnCardDrawnListener(this::onTreasureCardDrawn);
+        treasureDeck.addOnCardDiscardedListener(this::onTreasureCardDiscarded);
+        treasureDeck.addOnPilesChangedListener(deck -> onTreasurePilesChanged(treasureDeck));
+        floodDeck.addOnCardDrawnListener(this::onFloodCardDrawn);
+        floodDeck.addOnPilesChangedListener(deck -> onFloodPilesChanged(floodDeck));
+
+        waterLevel = engine.getWaterLevel().getCurrentLevel();
+        hash ^= WATER_LEVEL[waterLevel];
+        engine.getWaterLevel().addOnLevelChangeListener(this::onWaterLevelChanged);
+        for (TreasureType type : TreasureType.values()) {
+            if (treasureDeck.isTreasureCollected(type)) {
+                onTreasureCollected(type);
+            }
+        }
+        treasureDeck.addOnTreasureCollectedListener(this::onTreasureCollected);
+    }
+
+    /**
+     * Get the hash of the followed engine's current state
+     *
+     * @return 64-bit Zobrist hash, equal to hashOf for the same engine
+     */
+    public long getHash() {
+        return hash ^ hashTurnState(engine);
+    }
+
+    /**
+     * Hash the current state of a game from scratch
+     * Touches every tile, card and player, so prefer GameEngine.getHash when hashing
+     * the same game repeatedly
+     *
+     * @param engine Game to hash
+     * @return 64-bit Zobrist hash of the current state
+     */
+    public static long hashOf(GameEngine engine) {
+        long h = 0;
+        for (Tile tile : engine.getAllTiles()) {
+            int cell = MoveGenerator.cellOf(tile);
+            h ^= TILE_NAME[cell][tile.getName().ordinal()];
+            h ^= TILE_STATE[cell][tile.getState().ordinal()];
+        }
+
+        List<Player> players = engine.getPlayers();
+        int[] counts = new int[CARD_KINDS];
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            Tile tile = player.getCurrentTile();
+            h ^= PLAYER_TILE[i][tile == null ? NO_TILE : MoveGenerator.cellOf(tile)];
+            h ^= countKeys(HAND[i], countKinds(player.getHandCard().getCards(), counts));
+        }
+
+        h ^= hashTreasureDeck(engine.getTreasureDeck(), counts);
+        h ^= hashFloodDeck(engine.getFloodDeck());
+        h ^= WATER_LEVEL[engine.getWaterLevel().getCurrentLevel()];
+        for (TreasureType type : TreasureType.values()) {
+            if (engine.getTreasureDeck().isTreasureCollected(type)) {
+                h ^= COLLECTED[type.ordinal()];
+            }
+        }
+        return h ^ hashTurnState(engine);
+    }
+
+    // =============== Incremental Updates ===============
+
+    private void onTileStateChanged(Tile tile) {
+        int cell = MoveGenerator.cellOf(tile);
+        hash ^= TILE_STATE[cell][tileStates[cell].ordinal()];
+        tileStates[cell] = tile.getState();
+        hash ^= TILE_STATE[cell][tileStates[cell].ordinal()];
+    }
+
+    private void onPlayerMoved(int playerIndex, Tile tile) {
+        hash ^= PLAYER_TILE[playerIndex][playerCells[playerIndex]];
+        playerCells[playerIndex] = tile == null ? NO_TILE : MoveGenerator.cellOf(tile);
+        hash ^= PLAYER_TILE[playerIndex][playerCells[playerIndex]];
+    }
+
+    private void onHandChanged(int playerIndex, Card card, int delta) {
+        hash ^= changeCount(HAND[playerIndex], handCounts[playerIndex], kindOf(card), delta);
+    }
+
+    // The card left the top of the pile, so its position is the new pile size
+    private void onTreasureCardDrawn(Card card) {
+        long key = TREASURE_DRAW[engine.getTreasureDeck().getDrawPileSize()][kindOf(card)];
+        treasureDeckHash ^= key;
+        hash ^= key;
+    }
+
+    private void onTreasureCardDiscarded(Card card) {
+        long change = changeCount(TREASURE_DISCARD, discardCounts, kindOf(card), 1);
+        treasureDeckHash ^= change;
+        hash ^= change;
+    }
+
+    private void onTreasurePilesChanged(TreasureDeck treasureDeck) {
+        hash ^= treasureDeckHash;
+        treasureDeckHash = hashTreasureDeck(treasureDeck, discardCounts);
+        hash ^= treasureDeckHash;
+    }
+
+    // The card was the first undrawn one, so its distance from the end is the remaining count
+    private void onFloodCardDrawn(FloodCard card) {
+        long key = FLOOD_NEXT[engine.getFloodDeck().getActiveDeckRemainingCount()]
+                [MoveGenerator.cellOf(card.getTargetTile())];
+        floodDeckHash ^= key;
+        hash ^= key;
+    }
+
+    private void onFloodPilesChanged(FloodDeck floodDeck) {
+        hash ^= floodDeckHash;
+        floodDeckHash = hashFloodDeck(floodDeck);
+        hash ^= floodDeckHash;
+    }
+
+    private void onWaterLevelChanged(WaterLevel level) {
+        hash ^= WATER_LEVEL[waterLevel];
+        waterLevel = level.getCurrentLevel();
+        hash ^= WATER_LEVEL[waterLevel];
+    }
+
+    private void onTreasureCollected(TreasureType type) {
+        int bit = 1 << type.ordinal();
+        if ((collected & bit) == 0) {
+            collected |= bit;
+            hash ^= COLLECTED[type.ordinal()];
+        }
+    }
+
+    // =============== Parts ===============
+
+    private static int[] countKinds(List<? extends Card> cards, int[] counts) {
+        Arrays.fill(counts, 0);
+        for (Card card : cards) {
+            counts[kindOf(card)]++;
+        }
+        return counts;
+    }
+
+    private static long countKeys(long[][] keys, int[] counts) {
+        long h = 0;
+        for (int kind = 0; kind < CARD_KINDS; kind++) {
+            h ^= keys[kind][Math.min(counts[kind], MAX_CARDS_PER_KIND)];
+        }
+        return h;
+    }
+
+    // Update one kind's count and return the change to the hash
+    private static long changeCount(long[][] keys, int[] counts, int kind, int delta) {
+        long change = keys[kind][Math.min(counts[kind], MAX_CARDS_PER_KIND)];
+        counts[kind] += delta;
+        return change ^ keys[kind][Math.min(counts[kind], MAX_CARDS_PER_KIND)];
+    }
+
+    // Fills counts with the discard pile's kind counts
+    private static long hashTreasureDeck(TreasureDeck treasureDeck, int[] counts) {
+        long h = 0;
+        // The view lists the pile bottom first
+        List<Card> drawPile = treasureDeck.getDrawPileView();
+        for (int i = 0; i < drawPile.size(); i++) {
+            h ^= TREASURE_DRAW[i][kindOf(drawPile.get(i))];
+        }
+        return h ^ countKeys(TREASURE_DISCARD, countKinds(treasureDeck.getDiscardPileView(), counts));
+    }
+
+    // Cards of the active flood deck not drawn yet, keyed by distance from the last one
+    private static long hashFloodDeck(FloodDeck floodDeck) {
+        long h = 0;
+        List<FloodCard> active = floodDeck.getActiveDeckView();
+        for (int i = floodDeck.getCurrentIndex(); i < active.size(); i++) {
+            h ^= FLOOD_NEXT[active.size() - 1 - i][MoveGenerator.cellOf(active.get(i).getTargetTile())];
+        }
+        return h;
+    }
+
+    private static long hashTurnState(GameEngine engine) {
+        long h = CURRENT_PLAYER[engine.getCurrentPlayerIndex()];
+        h ^= ACTIONS[Math.max(0, Math.min(engine.getRemainingActions(), GameEngine.MAX_ACTIONS_PER_TURN))];
+        h ^= PHASE[engine.getPhase().ordinal()];
+        if (engine.isPilotFlightUsed()) {
+            h ^= PILOT_FLIGHT_USED;
+        }
+        int discardPlayer = engine.getPendingDiscardPlayerIndex();
+        if (discardPlayer >= 0) {
+            h ^= DISCARD_PLAYER[discardPlayer];
+            if (engine.isNextTurnAfterDiscard()) {
+                h ^= NEXT_TURN_AFTER_DISCARD;
+            }
+        }
+        List<Integer> queue = engine.getEmergencyMoveQueue();
+        for (int i = 0; i < queue.size() && i < MAX_PLAYERS; i++) {
+            h ^= EMERGENCY_QUEUE[i][queue.get(i)];
+        }
+        return h ^ PENDING_FLOOD_DRAWS[engine.getPendingFloodDraws()];
+    }
+
+    private static int kindOf(Card card) {
+        if (card instanceof TreasureCard) {
+            return ((TreasureCard) card).getTreasureType().ordinal();
+        }
+        return TREASURE_KINDS + card.getType().ordinal();
+    }
+}
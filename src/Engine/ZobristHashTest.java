@@ -0,0 +1,70 @@
+package Engine;
+
+import Model.Enumeration.MapLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist hash test class
+ * Plays policy games and checks after every step that the hash each engine keeps up
+ * to date from its listeners equals the hash computed from scratch, for the played
+ * game and for copies that are hashed for the first time mid-game
+ */
+public class ZobristHashTest {
+    private static final int GAMES = 300;
+    private static final List<String> testResults = new ArrayList<>();
+
+    public static void main(String[] args) {
+        System.out.println("Starting Zobrist hash tests...\n");
+
+        // Follow whole games step by step
+        testIncrementalMatchesFull(new SplittableRandom(5));
+
+        // Print test results
+        System.out.println("\nTest Results Summary:");
+        for (String result : testResults) {
+            System.out.println(result);
+        }
+    }
+
+    private static void testIncrementalMatchesFull(SplittableRandom random) {
+        System.out.println("=== Testing incremental hash against hashOf ===");
+        long steps = 0;
+        for (int game = 0; game < GAMES; game++) {
+            GameEngine engine = new GameEngine(2 + game % 3, MapLayout.values()[game % 3], 1 + game % 4, random.split());
+            GameEngine copy = null;
+            PlayoutPolicy policy = new PlayoutPolicy(random.split());
+            while (true) {
+                if (engine.getHash() != ZobristHash.hashOf(engine)) {
+                    addTestResult("✗ Game " + game + " turn " + engine.getTurnCount() + ": hash drifted in phase "
+                            + engine.getPhase());
+                    return;
+                }
+                if (copy != null && copy.getHash() != ZobristHash.hashOf(copy)) {
+                    addTestResult("✗ Game " + game + " turn " + engine.getTurnCount() + ": copy hash drifted");
+                    return;
+                }
+                steps++;
+                if (engine.isGameOver()) {
+                    break;
+                }
+                // Start following a fresh copy now and then and play it alongside
+                if (copy == null || copy.isGameOver() || steps % 50 == 0) {
+                    copy = engine.copy(random.split());
+                }
+                policy.step(engine);
+                if (!copy.isGameOver()) {
+                    policy.step(copy);
+                }
+            }
+        }
+        addTestResult("✓ Incremental hash matches hashOf after " + steps + " steps (" + GAMES + " games)");
+    }
+
+    private static void addTestResult(String result) {
+        testResults.add(result);
+        System.out.println(result);
+    }
+}
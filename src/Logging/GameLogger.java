@@ -0,0 +1,155 @@
+package Logging;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Supplier;
+
+/**
+ * Game Logger Class
+ * Level-gated logger that writes to a file through an asynchronous ring buffer
+ *
+ * The level check is a single volatile read, and messages can be passed as suppliers
+ * so disabled records never build their strings. The log file and writer thread are
+ * only created when the first enabled record arrives, so with logging switched off
+ * nothing is allocated or written at all
+ *
+ * Configured with system properties:
+ *   forbiddenisland.log.level  DEBUG, INFO, WARN, ERROR or OFF (default INFO)
+ *   forbiddenisland.log.file   Log file path (default logs/forbidden-island.log)
+ */
+public final class GameLogger {
+    private static final String DEFAULT_FILE = "logs/forbidden-island.log";
+    private static final int BUFFER_CAPACITY = 8192;
+
+    private static volatile int threshold =
+            LogLevel.parse(System.getProperty("forbiddenisland.log.level"), LogLevel.INFO).ordinal();
+    private static volatile RingBufferAppender appender;
+
+    private final String name;
+
+    private GameLogger(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get a logger named after a class
+     *
+     * @param owner Class doing the logging
+     * @return Logger
+     */
+    public static GameLogger getLogger(Class<?> owner) {
+        return new GameLogger(owner.getSimpleName());
+    }
+
+    /**
+     * Set the minimum level that is written; applies to every logger
+     *
+     * @param level Minimum level, or OFF
+     */
+    public static void setLevel(LogLevel level) {
+        threshold = level.ordinal();
+    }
+
+    public static LogLevel getLevel() {
+        return LogLevel.values()[threshold];
+    }
+
+    /**
+     * Wait until every record logged so far is in the file
+     */
+    public static void flush() {
+        RingBufferAppender current = appender;
+        if (current != null) {
+            current.flush();
+        }
+    }
+
+    // =============== Level Checks ===============
+
+    public boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= threshold;
+    }
+
+    public boolean isDebugEnabled() {
+        return LogLevel.DEBUG.ordinal() >= threshold;
+    }
+
+    // =============== Logging ===============
+
+    public void debug(String message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    public void debug(Supplier<String> message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    public void info(String message) {
+        log(LogLevel.INFO, message);
+    }
+
+    public void info(Supplier<String> message) {
+        log(LogLevel.INFO, message);
+    }
+
+    public void warn(String message) {
+        log(LogLevel.WARN, message);
+    }
+
+    public void warn(Supplier<String> message) {
+        log(LogLevel.WARN, message);
+    }
+
+    public void error(String message) {
+        log(LogLevel.ERROR, message);
+    }
+
+    public void error(Supplier<String> message) {
+        log(LogLevel.ERROR, message);
+    }
+
+    public void log(LogLevel level, String message) {
+        if (level.ordinal() >= threshold && level != LogLevel.OFF) {
+            write(level, message);
+        }
+    }
+
+    /**
+     * Log a message built only if the level is enabled
+     *
+     * @param level   Record level
+     * @param message Supplier of the message text
+     */
+    public void log(LogLevel level, Supplier<String> message) {
+        if (level.ordinal() >= threshold && level != LogLevel.OFF) {
+            write(level, message.get());
+        }
+    }
+
+    private void write(LogLevel level, String message) {
+        RingBufferAppender target = appender;
+        if (target == null) {
+            target = openAppender();
+            if (target == null) {
+                return;
+            }
+        }
+        target.append(level, name, message);
+    }
+
+    private static synchronized RingBufferAppender openAppender() {
+        if (appender == null && threshold < LogLevel.OFF.ordinal()) {
+            Path file = Paths.get(System.getProperty("forbiddenisland.log.file", DEFAULT_FILE));
+            try {
+                RingBufferAppender created = new RingBufferAppender(file, BUFFER_CAPACITY);
+                Runtime.getRuntime().addShutdownHook(new Thread(created::close, "log-shutdown"));
+                appender = created;
+            } catch (IOException e) {
+                System.err.println("Cannot open log file " + file + ", logging disabled: " + e.getMessage());
+                threshold = LogLevel.OFF.ordinal();
+            }
+        }
+        return appender;
+    }
+}
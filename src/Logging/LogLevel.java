@@ -0,0 +1,30 @@
+package Logging;
+
+/**
+ * Log Level Enumeration
+ * Severity of a log record, from most to least verbose
+ */
+public enum LogLevel {
+    DEBUG, // Step-by-step tracing of clicks, draws and state changes
+    INFO,  // Game events worth keeping: turns, treasures, game over
+    WARN,  // Unexpected but recoverable situations
+    ERROR, // Failures
+    OFF;   // Disables logging entirely
+
+    /**
+     * Parse a level name, ignoring case
+     * @param name Level name
+     * @param fallback Level returned when the name is null or unknown
+     * @return Parsed level
+     */
+    public static LogLevel parse(String name, LogLevel fallback) {
+        if (name != null) {
+            for (LogLevel level : values()) {
+                if (level.name().equalsIgnoreCase(name.trim())) {
+                    return level;
+                }
+            }
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,199 @@
+package Logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring Buffer Appender Class
+ * Hands log records to a background writer thread through a fixed array of
+ * preallocated slots, so logging threads never do file I/O or wait on a lock
+ *
+ * Producers claim a sequence number with a CAS and publish the slot by writing its
+ * sequence last; the writer drains slots in order. When the buffer is full the
+ * record is dropped and counted instead of blocking the game
+ *
+ * An idle writer parks until a producer publishes a record and unparks it,
+ * so a quiet game costs no wake-ups
+ *
+ * Each line holds tab-separated fields: time, level, thread, logger, message
+ */
+class RingBufferAppender {
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1); // Backstop only, producers unpark the writer
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    /**
+     * Preallocated record slot, reused for the life of the appender
+     */
+    private static final class Slot {
+        private volatile long sequence = -1; // Sequence of the record held, written last
+        private long timeMillis;
+        private LogLevel level;
+        private String thread;
+        private String logger;
+        private String message;
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();  // Next sequence to hand out
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long consumed;                       // Next sequence the writer reads
+    private final BufferedWriter out;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private volatile boolean writerIdle;                  // Writer is parked or about to park
+
+    /**
+     * Constructor
+     *
+     * @param file     Log file, appended to and created with its directory if missing
+     * @param capacity Number of slots, rounded up to a power of two
+     * @throws IOException if the file cannot be opened
+     */
+    RingBufferAppender(Path file, int capacity) throws IOException {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        mask = size - 1;
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        writerThread = new Thread(this::drainLoop, "log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queue a record; never blocks
+     *
+     * @return false if the buffer was full and the record was dropped
+     */
+    boolean append(LogLevel level, String logger, String message) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.timeMillis = System.currentTimeMillis();
+        slot.level = level;
+        slot.thread = Thread.currentThread().getName();
+        slot.logger = logger;
+        slot.message = message;
+        slot.sequence = sequence; // Publish
+        if (writerIdle) {
+            LockSupport.unpark(writerThread);
+        }
+        return true;
+    }
+
+    /**
+     * Wait until every record queued so far is written to the file
+     */
+    void flush() {
+        long target = claimed.get();
+        while (consumed < target && writerThread.isAlive()) {
+            LockSupport.unpark(writerThread);
+            Thread.onSpinWait();
+        }
+        synchronized (out) {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                System.err.println("Error flushing log file: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Write the remaining records and close the file
+     */
+    void close() {
+        flush();
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // =============== Writer Thread ===============
+
+    private void drainLoop() {
+        long reportedDrops = 0;
+        StringBuilder line = new StringBuilder(256);
+        try {
+            while (running) {
+                long next = consumed;
+                Slot slot = slots[(int) (next & mask)];
+                if (slot.sequence != next) {
+                    // Nothing published yet: note any dropped records, push what we have to disk and wait
+                    long droppedNow = dropped.get();
+                    synchronized (out) {
+                        if (droppedNow != reportedDrops) {
+                            out.append(TIME_FORMAT.format(Instant.now())).append('\t').append(String.valueOf(LogLevel.WARN))
+                                    .append("\tlog-writer\tRingBufferAppender\t")
+                                    .append(String.valueOf(droppedNow - reportedDrops))
+                                    .append(" records dropped, log buffer was full").append(System.lineSeparator());
+                            reportedDrops = droppedNow;
+                        }
+                        out.flush();
+                    }
+                    // Announce before the re-check: a producer publishing after it sees the flag and unparks us
+                    writerIdle = true;
+                    if (slot.sequence != next && running) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    writerIdle = false;
+                    continue;
+                }
+                line.setLength(0);
+                line.append(TIME_FORMAT.format(Instant.ofEpochMilli(slot.timeMillis))).append('\t')
+                        .append(slot.level).append('\t')
+                        .append(slot.thread).append('\t')
+                        .append(slot.logger).append('\t')
+                        .append(slot.message).append(System.lineSeparator());
+                slot.thread = null;
+                slot.message = null;
+                consumed = next + 1; // Slot may now be reused
+                synchronized (out) {
+                    out.append(line);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing log file: " + e.getMessage());
+        } finally {
+            synchronized (out) {
+                try {
+                    out.close();
+                } catch (IOException ignored) {
+                    // Nothing more can be written anyway
+                }
+            }
+        }
+    }
+}
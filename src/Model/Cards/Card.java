@@ -3,7 +3,6 @@ package Model.Cards;
 
 import Model.Enumeration.CardType;
 import java.io.Serializable;
-import java.util.UUID;
 
 /**
  * Card Class
@@ -13,7 +12,7 @@ import java.util.UUID;
 public abstract class Card implements Serializable, Cloneable {
     private static final long serialVersionUID = 1L;
     
-    private final String id;           // Unique identifier for the card
+    private final int id;              // Identifier, unique within the card's deck
     private final CardType type;       // Card type
     private final String name;         // Card name
     private final String description;  // Card description
@@ -21,12 +20,13 @@ public abstract class Card implements Serializable, Cloneable {
 
     /**
      * Constructor
+     * @param id Identifier from the owning deck's counter, see Deck.nextCardId
      * @param type Card type
      * @param name Card name
      * @param description Card description
      */
-    public Card(CardType type, String name, String description) {
-        this.id = UUID.randomUUID().toString();
+    public Card(int id, CardType type, String name, String description) {
+        this.id = id;
         this.type = type;
         this.name = name;
         this.description = description;
@@ -57,9 +57,9 @@ public abstract class Card implements Serializable, Cloneable {
 
     /**
      * Get card ID
-     * @return Card's unique identifier
+     * @return Card's identifier, unique within its deck
      */
-    public String getId() {
+    public int getId() {
         return id;
     }
 
@@ -102,14 +102,15 @@ public abstract class Card implements Serializable, Cloneable {
 
     /**
      * Override equals method
-     * Two cards are equal if they have the same ID
+     * Two cards are equal if they are of the same class and have the same ID;
+     * cards of different decks are not meant to be compared
      */
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Card card = (Card) obj;
-        return id.equals(card.id);
+        return id == card.id;
     }
 
     /**
@@ -118,7 +119,7 @@ public abstract class Card implements Serializable, Cloneable {
      */
     @Override
     public int hashCode() {
-        return id.hashCode();
+        return id;
     }
 
     /**
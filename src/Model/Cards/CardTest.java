@@ -39,7 +39,7 @@ public class CardTest {
         
         // Test all types of treasure cards
         for (TreasureType type : TreasureType.values()) {
-            TreasureCard card = new TreasureCard(type);
+            TreasureCard card = new TreasureCard(type.ordinal(), type);
             
             // Test basic info
             testBasicCardInfo(card, "Treasure Card");
@@ -71,11 +71,11 @@ public class CardTest {
         
         // Test helicopter card
         Tile helicopterTile = new Tile(TileName.FOOLS_LANDING, 2, 2);
-        HelicopterCard helicopterCard = new HelicopterCard(helicopterTile);
+        HelicopterCard helicopterCard = new HelicopterCard(0, helicopterTile);
         testBasicCardInfo(helicopterCard, "Helicopter Rescue Card");
         
         // Test sandbag card
-        SandbagCard sandbagCard = new SandbagCard();
+        SandbagCard sandbagCard = new SandbagCard(1);
         testBasicCardInfo(sandbagCard, "Sandbag Card");
         
         // Test sandbag card usage
@@ -98,7 +98,7 @@ public class CardTest {
         }
         
         // Test water rise card
-        WaterRiseCard waterRiseCard = new WaterRiseCard();
+        WaterRiseCard waterRiseCard = new WaterRiseCard(2);
         testBasicCardInfo(waterRiseCard, "Water Rise Card");
     }
     
@@ -107,7 +107,7 @@ public class CardTest {
         
         // Test flood card
         Tile targetTile = new Tile(TileName.CORAL_PALACE, 1, 1);
-        FloodCard floodCard = new FloodCard(targetTile);
+        FloodCard floodCard = new FloodCard(0, targetTile);
         testBasicCardInfo(floodCard, "Flood Card");
         
         // Test flood card usage
@@ -1,6 +1,7 @@
 // Model/Cards/FloodCard.java
 package Model.Cards;
 
+import Logging.GameLogger;
 import Model.Enumeration.CardType;
 import Model.Enumeration.TileType;
 import Model.Tile;
@@ -12,15 +13,18 @@ import Model.Enumeration.TileState;
  * When a tile is already flooded, it will sink
  */
 public class FloodCard extends Card {
+    private static final GameLogger LOG = GameLogger.getLogger(FloodCard.class);
+
     private final Tile targetTile; // Target tile
 
     /**
      * Create a flood card
      * 
+     * @param id Card identifier from the owning deck
      * @param targetTile Target tile
      */
-    public FloodCard(Tile targetTile) {
-        super(CardType.FLOOD, "Flood", "Flood the specified tile, if the tile is already flooded it will sink");
+    public FloodCard(int id, Tile targetTile) {
+        super(id, CardType.FLOOD, "Flood", "Flood the specified tile, if the tile is already flooded it will sink");
         this.targetTile = targetTile;
     }
 
@@ -62,12 +66,14 @@ public class FloodCard extends Card {
         TileState before = tile.getState();
         if (before == TileState.NORMAL) {
             tile.setState(TileState.FLOODED);
-            System.out.println(
-                    "[Debug] Flood card applied to " + tile.getName() + " [" + tile.getRow() + "," + tile.getCol() + "], State: Normal -> Flooded");
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Flood card applied to " + tile.getName() + " [" + tile.getRow() + "," + tile.getCol() + "], State: Normal -> Flooded");
+            }
         } else if (before == TileState.FLOODED) {
             tile.setState(TileState.SUNK);
-            System.out.println(
-                    "[Debug] Flood card applied to " + tile.getName() + " [" + tile.getRow() + "," + tile.getCol() + "], State: Flooded -> Sunk");
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Flood card applied to " + tile.getName() + " [" + tile.getRow() + "," + tile.getCol() + "], State: Flooded -> Sunk");
+            }
             if (floodDeck != null) {
                 floodDeck.removeCardForSunkTile(tile);
             }
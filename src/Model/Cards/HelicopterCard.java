@@ -21,10 +21,11 @@ public class HelicopterCard extends Card {
 
     /**
      * Create a helicopter rescue card
+     * @param id Card identifier from the owning deck
      * @param targetTile Target location (Helipad)
      */
-    public HelicopterCard(Tile targetTile) {
-        super(CardType.HELICOPTER, "Helicopter", "Rescue all players from the island or move to any tile");
+    public HelicopterCard(int id, Tile targetTile) {
+        super(id, CardType.HELICOPTER, "Helicopter", "Rescue all players from the island or move to any tile");
         this.targetTile = targetTile;
     }
 
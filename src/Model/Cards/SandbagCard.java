@@ -14,9 +14,10 @@ public class SandbagCard extends Card {
 
     /**
      * Create a sandbag card
+     * @param id Card identifier from the owning deck
      */
-    public SandbagCard() {
-        super(CardType.SAND_BAG, "SandBag", "Reinforce a flooded island tile");
+    public SandbagCard(int id) {
+        super(id, CardType.SAND_BAG, "SandBag", "Reinforce a flooded island tile");
     }
 
     /**
@@ -18,12 +18,13 @@ public class TreasureCard extends Card {
 
     /**
      * Create a treasure card
+     * @param id Card identifier from the owning deck
      * @param treasureType Treasure type
      */
-    public TreasureCard(TreasureType treasureType) {
-        super(CardType.TREASURE, 
-              String.format("%s", treasureType.getDisplayName()),
-              String.format("Used to collect %s", treasureType.getDisplayName()));
+    public TreasureCard(int id, TreasureType treasureType) {
+        super(id, CardType.TREASURE, 
+              treasureType.getDisplayName(),
+              "Used to collect " + treasureType.getDisplayName());
         this.treasureType = treasureType;
     }
 
@@ -14,9 +14,10 @@ public class WaterRiseCard extends Card {
 
     /**
      * Create a water rise card
+     * @param id Card identifier from the owning deck
      */
-    public WaterRiseCard() {
-        super(CardType.WATER_RISE, "WaterRise", "Increase water level, increasing game difficulty");
+    public WaterRiseCard(int id) {
+        super(id, CardType.WATER_RISE, "WaterRise", "Increase water level, increasing game difficulty");
     }
 
     /**
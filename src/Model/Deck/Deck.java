@@ -2,10 +2,13 @@
 package Model.Deck;
 
 import Model.Cards.Card;
+import Model.GameRandom;
 import java.util.Collections;
+import java.util.SplittableRandom;
 import java.util.Stack;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.function.Consumer;
 
 /**
  * Deck Abstract Base Class
@@ -18,14 +21,43 @@ public abstract class Deck<T extends Card> {
     protected final Stack<T> drawPile;
     /** Discard pile */
     protected final Stack<T> discardPile;
+    /** Stream every shuffle of this deck draws from */
+    protected final SplittableRandom random;
+    /** Id for the next card this deck creates */
+    private int nextCardId;
+
+    // Event listeners
+    private final List<Consumer<T>> onCardDrawnListeners = new ArrayList<>();
+    private final List<Consumer<T>> onCardDiscardedListeners = new ArrayList<>();
+    private final List<Consumer<Deck<T>>> onPilesChangedListeners = new ArrayList<>();
 
     /**
      * Constructor
-     * Initializes draw pile and discard pile
+     * Initializes draw pile and discard pile with an unseeded stream
      */
     protected Deck() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param random Stream for shuffles, taken from the game's GameRandom
+     */
+    protected Deck(SplittableRandom random) {
         this.drawPile = new Stack<>();
         this.discardPile = new Stack<>();
+        this.random = random;
+    }
+
+    /**
+     * Get an id for a new card of this deck
+     * Ids count up from 0, so they are compact and unique within the deck
+     * 
+     * @return Card id
+     */
+    protected int nextCardId() {
+        return nextCardId++;
     }
 
     /**
@@ -33,7 +65,8 @@ public abstract class Deck<T extends Card> {
      * Randomly shuffles the cards in the draw pile
      */
     public void shuffle() {
-        Collections.shuffle(drawPile);
+        GameRandom.shuffle(drawPile, random);
+        notifyPilesChanged();
     }
 
     /**
@@ -47,7 +80,18 @@ public abstract class Deck<T extends Card> {
         if (drawPile.isEmpty()) {
             reshuffleDiscardPile();
         }
-        return drawPile.isEmpty() ? null : drawPile.pop();
+        return drawPile.isEmpty() ? null : popDrawPile();
+    }
+
+    /**
+     * Take the top card of the draw pile and report it to the draw listeners
+     * 
+     * @return The drawn card; the draw pile must not be empty
+     */
+    protected T popDrawPile() {
+        T card = drawPile.pop();
+        notifyCardDrawn(card);
+        return card;
     }
 
     /**
@@ -59,6 +103,7 @@ public abstract class Deck<T extends Card> {
     public void discard(T card) {
         if (card != null) {
             discardPile.push(card);
+            onCardDiscardedListeners.forEach(listener -> listener.accept(card));
         }
     }
 
@@ -128,6 +173,20 @@ public abstract class Deck<T extends Card> {
         return Collections.unmodifiableList(new ArrayList<>(discardPile));
     }
 
+    /**
+     * Restore both piles from a saved game
+     * Lists are in the order of getDrawPileView and getDiscardPileView, bottom card first
+     * 
+     * @param drawCards    Cards of the draw pile
+     * @param discardCards Cards of the discard pile
+     */
+    public void restore(List<T> drawCards, List<T> discardCards) {
+        clear();
+        drawPile.addAll(drawCards);
+        discardPile.addAll(discardCards);
+        notifyPilesChanged();
+    }
+
     /**
      * Clear the deck
      * Empties both draw pile and discard pile
@@ -135,6 +194,45 @@ public abstract class Deck<T extends Card> {
     public void clear() {
         drawPile.clear();
         discardPile.clear();
+        notifyPilesChanged();
+    }
+
+    // =============== Event Listener Management ===============
+
+    /**
+     * Add card drawn listener, called after a card has left the draw pile
+     * 
+     * @param listener Listener, called with the drawn card
+     */
+    public void addOnCardDrawnListener(Consumer<T> listener) {
+        onCardDrawnListeners.add(listener);
+    }
+
+    /**
+     * Add card discarded listener, called after a card has been put on the discard pile
+     * 
+     * @param listener Listener, called with the discarded card
+     */
+    public void addOnCardDiscardedListener(Consumer<T> listener) {
+        onCardDiscardedListeners.add(listener);
+    }
+
+    /**
+     * Add piles changed listener, called after any change other than a single draw or
+     * discard: shuffles, reshuffles, restores and clears
+     * 
+     * @param listener Listener, called with this deck
+     */
+    public void addOnPilesChangedListener(Consumer<Deck<T>> listener) {
+        onPilesChangedListeners.add(listener);
+    }
+
+    protected void notifyCardDrawn(T card) {
+        onCardDrawnListeners.forEach(listener -> listener.accept(card));
+    }
+
+    protected void notifyPilesChanged() {
+        onPilesChangedListeners.forEach(listener -> listener.accept(this));
     }
 
     /**
@@ -1,12 +1,15 @@
 // Model/Deck/FloodDeck.java
 package Model.Deck;
 
+import Logging.GameLogger;
 import Model.Cards.FloodCard;
+import Model.GameRandom;
 import Model.Tile;
 import Model.Enumeration.TileState;
+import java.util.Collections;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -16,6 +19,8 @@ import java.util.stream.Stream;
  * New mechanism: Draw 6 cards from all locations as current FloodDeck, refill with 6 new cards when empty
  */
 public class FloodDeck extends Deck<FloodCard> {
+    private static final GameLogger LOG = GameLogger.getLogger(FloodDeck.class);
+
     /** Master deck - contains all available flood cards */
     private final List<FloodCard> masterDeck;
     /** Current active 6 cards */
@@ -30,13 +35,23 @@ public class FloodDeck extends Deck<FloodCard> {
      * @param initialTiles Initial tile list, each tile corresponds to a flood card
      */
     public FloodDeck(List<Tile> initialTiles) {
-        super();
+        this(initialTiles, new SplittableRandom());
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param initialTiles Initial tile list, each tile corresponds to a flood card
+     * @param random       Stream for refills, taken from the game's GameRandom
+     */
+    public FloodDeck(List<Tile> initialTiles, SplittableRandom random) {
+        super(random);
         this.masterDeck = new ArrayList<>();
         this.activeDeck = new ArrayList<>();
         this.currentIndex = 0;
         
         if (initialTiles != null) {
-            initialTiles.forEach(tile -> masterDeck.add(new FloodCard(tile)));
+            initialTiles.forEach(tile -> masterDeck.add(new FloodCard(nextCardId(), tile)));
             refillActiveDeck();
         }
     }
@@ -55,19 +70,21 @@ public class FloodDeck extends Deck<FloodCard> {
                 .collect(Collectors.toList());
         
         if (availableCards.isEmpty()) {
-            System.out.println("[Warning] No available flood cards!");
+            LOG.warn("No available flood cards!");
+            notifyPilesChanged();
             return;
         }
         
         // Randomly select up to 6 cards
-        Collections.shuffle(availableCards);
+        GameRandom.shuffle(availableCards, random);
         int cardCount = Math.min(6, availableCards.size());
         
         for (int i = 0; i < cardCount; i++) {
             activeDeck.add(availableCards.get(i));
         }
+        notifyPilesChanged();
         
-        System.out.println("[Log] Refilled FloodDeck, current active cards: " + activeDeck.size());
+        LOG.debug(() -> "Refilled FloodDeck, current active cards: " + activeDeck.size());
     }
     
     /**
@@ -89,9 +106,11 @@ public class FloodDeck extends Deck<FloodCard> {
         
         FloodCard card = activeDeck.get(currentIndex);
         currentIndex++;
+        notifyCardDrawn(card);
         
-        System.out.println("[Log] Drew card from FloodDeck: " + card.getTargetTile().getName() + 
-                          " (Remaining: " + (activeDeck.size() - currentIndex) + "/" + activeDeck.size() + ")");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Drew card from FloodDeck: " + card.getTargetTile().getName() + " (Remaining: " + (activeDeck.size() - currentIndex) + "/" + activeDeck.size() + ")");
+        }
         
         return card;
     }
@@ -174,6 +193,7 @@ public class FloodDeck extends Deck<FloodCard> {
         if (currentIndex > activeDeck.size()) {
             currentIndex = activeDeck.size();
         }
+        notifyPilesChanged();
     }
     
     /**
@@ -185,6 +205,52 @@ public class FloodDeck extends Deck<FloodCard> {
         return Math.max(0, activeDeck.size() - currentIndex);
     }
     
+    /**
+     * Get the flood cards of all unsunk tiles
+     * 
+     * @return Read-only copy of the master deck
+     */
+    public List<FloodCard> getMasterDeckView() {
+        return Collections.unmodifiableList(new ArrayList<>(masterDeck));
+    }
+    
+    /**
+     * Get the current active cards, drawn and undrawn
+     * 
+     * @return Read-only copy of the active deck, in draw order
+     */
+    public List<FloodCard> getActiveDeckView() {
+        return Collections.unmodifiableList(new ArrayList<>(activeDeck));
+    }
+    
+    /**
+     * Get the position of the next card to draw in the active deck
+     * 
+     * @return Number of active cards already drawn
+     */
+    public int getCurrentIndex() {
+        return currentIndex;
+    }
+    
+    /**
+     * Restore the deck from a saved game
+     * 
+     * @param master       Cards of all unsunk tiles
+     * @param active       Active cards in draw order
+     * @param currentIndex Number of active cards already drawn
+     */
+    public void restore(List<FloodCard> master, List<FloodCard> active, int currentIndex) {
+        if (currentIndex < 0 || currentIndex > active.size()) {
+            throw new IllegalArgumentException("Active deck index out of range: " + currentIndex);
+        }
+        masterDeck.clear();
+        masterDeck.addAll(master);
+        activeDeck.clear();
+        activeDeck.addAll(active);
+        this.currentIndex = currentIndex;
+        notifyPilesChanged();
+    }
+    
     /**
      * Get total number of cards in master deck
      * 
@@ -225,6 +291,7 @@ public class FloodDeck extends Deck<FloodCard> {
     @Override
     public void shuffle() {
         // In new mechanism, shuffling happens automatically during refillActiveDeck
-        Collections.shuffle(masterDeck);
+        GameRandom.shuffle(masterDeck, random);
+        notifyPilesChanged();
     }
 }
\ No newline at end of file
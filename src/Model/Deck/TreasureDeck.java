@@ -5,6 +5,7 @@ import Model.Cards.*;
 import Model.Enumeration.TreasureType;
 import Model.Tile;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -14,9 +15,15 @@ import java.util.stream.Stream;
  * Includes: Treasure Cards, Helicopter Rescue Cards, Sandbag Cards, Water Rise Cards
  */
 public class TreasureDeck extends Deck<Card> {
+    public static final int CARDS_PER_TREASURE = 5;
+    public static final int CARDS_PER_SPECIAL = 3;
+    /** Cards in the whole deck: treasure cards plus helicopter, water rise and sandbag cards */
+    public static final int CARD_COUNT = CARDS_PER_TREASURE * TreasureType.values().length + 3 * CARDS_PER_SPECIAL;
+
     private boolean isFirstDraw; // Whether in initial draw phase
     private final Tile helicopterTile; // Helipad location
     private final Map<TreasureType, Integer> collectedTreasures; // Number of collected treasures
+    private final List<Consumer<TreasureType>> onTreasureCollectedListeners = new ArrayList<>();
 
     /**
      * Constructor
@@ -24,7 +31,17 @@ public class TreasureDeck extends Deck<Card> {
      * @param helicopterTile Helipad location, used for creating helicopter rescue cards
      */
     public TreasureDeck(Tile helicopterTile) {
-        super();
+        this(helicopterTile, new SplittableRandom());
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param helicopterTile Helipad location, used for creating helicopter rescue cards
+     * @param random         Stream for shuffles, taken from the game's GameRandom
+     */
+    public TreasureDeck(Tile helicopterTile, SplittableRandom random) {
+        super(random);
         this.helicopterTile = helicopterTile;
         this.isFirstDraw = true;
         this.collectedTreasures = new EnumMap<>(TreasureType.class);
@@ -39,16 +56,16 @@ public class TreasureDeck extends Deck<Card> {
     private void initializeCards() {
         // Add treasure cards (5 of each type)
         Arrays.stream(TreasureType.values()).forEach(type -> {
-            for (int i = 0; i < 5; i++) {
-                drawPile.push(new TreasureCard(type));
+            for (int i = 0; i < CARDS_PER_TREASURE; i++) {
+                drawPile.push(new TreasureCard(nextCardId(), type));
             }
         });
 
         // Add special cards
-        for (int i = 0; i < 3; i++) {
-            drawPile.push(new HelicopterCard(helicopterTile));
-            drawPile.push(new WaterRiseCard());
-            drawPile.push(new SandbagCard());
+        for (int i = 0; i < CARDS_PER_SPECIAL; i++) {
+            drawPile.push(new HelicopterCard(nextCardId(), helicopterTile));
+            drawPile.push(new WaterRiseCard(nextCardId()));
+            drawPile.push(new SandbagCard(nextCardId()));
         }
     }
 
@@ -63,7 +80,7 @@ public class TreasureDeck extends Deck<Card> {
         if (drawPile.isEmpty()) {
             reshuffleDiscardPile();
         }
-        return drawPile.isEmpty() ? null : drawPile.pop();
+        return drawPile.isEmpty() ? null : popDrawPile();
     }
 
     /**
@@ -85,7 +102,7 @@ public class TreasureDeck extends Deck<Card> {
             moveCardToBottom(topCard);
             return drawInitialCard();
         }
-        return drawPile.pop();
+        return popDrawPile();
     }
 
     /**
@@ -103,6 +120,7 @@ public class TreasureDeck extends Deck<Card> {
         while (!tempStack.isEmpty()) {
             drawPile.push(tempStack.pop());
         }
+        notifyPilesChanged();
     }
 
     /**
@@ -119,6 +137,16 @@ public class TreasureDeck extends Deck<Card> {
      */
     public void recordTreasureCollection(TreasureType type) {
         collectedTreasures.merge(type, 1, Integer::sum);
+        onTreasureCollectedListeners.forEach(listener -> listener.accept(type));
+    }
+
+    /**
+     * Add treasure collection listener
+     *
+     * @param listener Listener, called with the collected treasure type
+     */
+    public void addOnTreasureCollectedListener(Consumer<TreasureType> listener) {
+        onTreasureCollectedListeners.add(listener);
     }
 
     /**
@@ -0,0 +1,38 @@
+package Model.Enumeration;
+
+/**
+ * Action Result Enumeration
+ * Defines the outcome of validating or executing an action, so callers without a
+ * UI learn why an action was refused instead of getting a dialog
+ */
+public enum ActionResult {
+    OK("Action performed"),
+    GAME_OVER("The game is over"),
+    WRONG_PHASE("The game is not waiting for this kind of action"),
+    NOT_YOUR_TURN("It is not this player's turn"),
+    NO_ACTIONS_LEFT("No action points left"),
+    INVALID_PLAYER("No such player"),
+    WRONG_ROLE("This role has no such ability"),
+    ABILITY_USED("The ability has already been used this turn"),
+    MISSING_CARD("The player does not hold the required card"),
+    INVALID_TARGET("The target cannot be reached or used"),
+    CONDITIONS_NOT_MET("The rules for this action are not met");
+
+    private final String description;
+
+    ActionResult(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Get the message shown to players for this result
+     * @return Result description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isSuccess() {
+        return this == OK;
+    }
+}
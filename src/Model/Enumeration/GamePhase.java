@@ -0,0 +1,12 @@
+package Model.Enumeration;
+
+/**
+ * Game Phase Enumeration
+ * Defines which kind of input the game is currently waiting for
+ */
+public enum GamePhase {
+    ACTION,         // Current player spends action points
+    DISCARD,        // A player holds more than 5 cards and must discard or play cards
+    EMERGENCY_MOVE, // A player's tile has sunk and they must swim to another tile
+    GAME_OVER       // Game has been won or lost
+}
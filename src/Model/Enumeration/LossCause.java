@@ -0,0 +1,47 @@
+package Model.Enumeration;
+
+/**
+ * Loss Cause Enumeration
+ * Defines the conditions that end the game in a loss
+ */
+public enum LossCause {
+    FOOLS_LANDING_SUNK("Fool's Landing has sunk, game over!"),
+    TEMPLES_SUNK("All temples have sunk and Earth treasure not collected, game over!"),
+    CAVES_SUNK("All caves have sunk and Fire treasure not collected, game over!"),
+    GARDENS_SUNK("All gardens have sunk and Wind treasure not collected, game over!"),
+    PALACES_SUNK("All palaces have sunk and Water treasure not collected, game over!"),
+    PLAYER_DROWNED("Player's tile has sunk and no adjacent tiles to move to, game over!"),
+    WATER_LEVEL_MAX("Water level has reached 10, game over!");
+
+    private final String description;
+
+    LossCause(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Get the message shown to players for this loss
+     * @return Loss description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Get the loss caused by both tiles of an uncollected treasure sinking
+     * @param type Treasure type
+     * @return Matching loss cause
+     */
+    public static LossCause forTreasure(TreasureType type) {
+        switch (type) {
+            case EARTH:
+                return TEMPLES_SUNK;
+            case FIRE:
+                return CAVES_SUNK;
+            case WIND:
+                return GARDENS_SUNK;
+            default:
+                return PALACES_SUNK;
+        }
+    }
+}
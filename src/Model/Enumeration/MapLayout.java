@@ -0,0 +1,100 @@
+package Model.Enumeration;
+
+/**
+ * Map Layout Enumeration
+ * Defines which cells of the 6x6 board hold island tiles for each map type
+ * Cells are listed in row-major order, the same order tile names are dealt in
+ */
+public enum MapLayout {
+    /** Classic map configuration - cross-shaped layout */
+    CLASSIC(new int[][] {
+            { 0, 2 }, { 0, 3 },
+            { 1, 1 }, { 1, 2 }, { 1, 3 }, { 1, 4 },
+            { 2, 0 }, { 2, 1 }, { 2, 2 }, { 2, 3 }, { 2, 4 }, { 2, 5 },
+            { 3, 0 }, { 3, 1 }, { 3, 2 }, { 3, 3 }, { 3, 4 }, { 3, 5 },
+            { 4, 1 }, { 4, 2 }, { 4, 3 }, { 4, 4 },
+            { 5, 2 }, { 5, 3 } }),
+
+    /** Advanced map configuration - rectangular layout */
+    ADVANCED(new int[][] {
+            { 1, 0 }, { 1, 1 }, { 1, 2 }, { 1, 3 }, { 1, 4 }, { 1, 5 },
+            { 2, 0 }, { 2, 1 }, { 2, 2 }, { 2, 3 }, { 2, 4 }, { 2, 5 },
+            { 3, 0 }, { 3, 1 }, { 3, 2 }, { 3, 3 }, { 3, 4 }, { 3, 5 },
+            { 4, 0 }, { 4, 1 }, { 4, 2 }, { 4, 3 }, { 4, 4 }, { 4, 5 } }),
+
+    /** Expert map configuration - irregular layout with gaps */
+    EXPERT(new int[][] {
+            { 0, 0 }, { 0, 1 }, { 0, 2 }, { 0, 3 }, { 0, 4 }, { 0, 5 },
+            { 1, 0 }, { 1, 2 }, { 1, 3 }, { 1, 5 },
+            { 2, 0 }, { 2, 1 }, { 2, 2 }, { 2, 3 }, { 2, 4 }, { 2, 5 },
+            { 3, 1 }, { 3, 2 }, { 3, 3 }, { 3, 4 },
+            { 4, 1 }, { 4, 2 }, { 4, 3 }, { 4, 4 } });
+
+    /** Size of the board grid (6x6) */
+    public static final int MAP_SIZE = 6;
+
+    private final int[][] cells;
+    private final boolean[][] land;
+
+    MapLayout(int[][] cells) {
+        this.cells = cells;
+        this.land = new boolean[MAP_SIZE][MAP_SIZE];
+        for (int[] cell : cells) {
+            land[cell[0]][cell[1]] = true;
+        }
+    }
+
+    /**
+     * Check if the specified cell holds an island tile
+     * @param row Row index
+     * @param col Column index
+     * @return Returns true if the cell is part of the island
+     */
+    public boolean contains(int row, int col) {
+        return row >= 0 && row < MAP_SIZE && col >= 0 && col < MAP_SIZE && land[row][col];
+    }
+
+    /**
+     * Get number of island tiles in this layout
+     * @return Tile count
+     */
+    public int getTileCount() {
+        return cells.length;
+    }
+
+    /**
+     * Get row of the n-th island cell (row-major order)
+     * @param index Cell index
+     * @return Row index
+     */
+    public int getRow(int index) {
+        return cells[index][0];
+    }
+
+    /**
+     * Get column of the n-th island cell (row-major order)
+     * @param index Cell index
+     * @return Column index
+     */
+    public int getCol(int index) {
+        return cells[index][1];
+    }
+
+    /**
+     * Resolve a layout from the map type names used by SetupView
+     * Unknown names fall back to the classic layout
+     *
+     * @param name Map type name ("CLASSIC", "ADVANCED" or "EXPERT")
+     * @return Matching layout
+     */
+    public static MapLayout fromName(String name) {
+        if (name != null) {
+            for (MapLayout layout : values()) {
+                if (layout.name().equals(name)) {
+                    return layout;
+                }
+            }
+        }
+        return CLASSIC;
+    }
+}
@@ -0,0 +1,27 @@
+package Model.Enumeration;
+
+/**
+ * Sound Effect Enumeration
+ * Defines the short game sounds and the audio file each one is decoded from
+ */
+public enum SoundEffect {
+    FLOOD("Flood"),           // A tile becomes flooded
+    SINK("Sink"),             // A tile sinks into the sea
+    TREASURE("Treasure"),     // A treasure is captured
+    HELICOPTER("Helicopter"), // A helicopter lift card is used
+    CARD_DRAW("CardDraw");    // A treasure card is drawn
+
+    private final String fileName;
+
+    SoundEffect(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Get the path of the audio file for this effect
+     * @return Path relative to the working directory
+     */
+    public String getFilePath() {
+        return "src/resources/Audio/" + fileName + ".wav";
+    }
+}
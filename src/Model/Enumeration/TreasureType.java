@@ -23,4 +23,28 @@ public enum TreasureType {
     public String getDisplayName() {
         return displayName;
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the treasure that can be captured on a tile
+     * @param tileName Tile name
+     * @return Matching treasure type, or null if the tile holds no treasure
+     */
+    public static TreasureType forTile(TileName tileName) {
+        switch (tileName) {
+            case TEMPLE_OF_THE_MOON:
+            case TEMPLE_OF_THE_SUN:
+                return EARTH; // Earth treasure - temples
+            case WHISPERING_GARDEN:
+            case HOWLING_GARDEN:
+                return WIND; // Wind treasure - gardens
+            case CAVE_OF_SHADOWS:
+            case CAVE_OF_EMBERS:
+                return FIRE; // Fire treasure - caves
+            case CORAL_PALACE:
+            case TIDAL_PALACE:
+                return WATER; // Water treasure - palaces
+            default:
+                return null; // Not a treasure location
+        }
+    }
+}
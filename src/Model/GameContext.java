@@ -0,0 +1,56 @@
+// Model/GameContext.java
+package Model;
+
+/**
+ * Game Context Class
+ * Holds the state that belongs to one game session rather than to the JVM
+ * Controllers and views of a game share one context; separate games get separate contexts,
+ * so several games can run side by side without touching each other's state
+ */
+public class GameContext {
+    private final WaterLevel waterLevel;       // Water level of this game
+    private final GameRandom random;           // Seeded source of every shuffle in this game
+
+    /**
+     * Constructor
+     * @param initialWaterLevel Starting water level chosen on the setup screen
+     */
+    public GameContext(int initialWaterLevel) {
+        this(initialWaterLevel, GameRandom.defaultSeed());
+    }
+
+    /**
+     * Constructor for a reproducible game
+     * @param initialWaterLevel Starting water level chosen on the setup screen
+     * @param seed Seed the whole game is drawn from
+     */
+    public GameContext(int initialWaterLevel, long seed) {
+        this.waterLevel = new WaterLevel(initialWaterLevel);
+        this.random = new GameRandom(seed);
+    }
+
+    /**
+     * Constructor for a game that already exists, e.g. one loaded from a save
+     * @param waterLevel The game's own water level; shared, not copied
+     */
+    public GameContext(WaterLevel waterLevel) {
+        this.waterLevel = waterLevel;
+        this.random = new GameRandom(GameRandom.defaultSeed());
+    }
+
+    /**
+     * Get this game's water level
+     * @return Water level
+     */
+    public WaterLevel getWaterLevel() {
+        return waterLevel;
+    }
+
+    /**
+     * Get this game's random source
+     * @return Random source
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+}
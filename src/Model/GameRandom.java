@@ -0,0 +1,68 @@
+package Model;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Game Random Class
+ * Seeded source of every random choice in one game: map layout, roles, start
+ * positions and deck order
+ *
+ * Each component takes its own stream from split(), so a game is reproduced exactly
+ * from its seed as long as components are created in the same order, and streams
+ * handed to different threads never contend on a shared generator
+ *
+ * The seed can be fixed with the system property forbiddenisland.seed
+ */
+public final class GameRandom {
+    public static final String SEED_PROPERTY = "forbiddenisland.seed";
+
+    private final long seed;
+    private final SplittableRandom root;
+
+    /**
+     * Constructor
+     *
+     * @param seed Game seed
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.root = new SplittableRandom(seed);
+    }
+
+    /**
+     * Get the seed for a new game
+     *
+     * @return Value of forbiddenisland.seed if set, otherwise a fresh seed
+     */
+    public static long defaultSeed() {
+        Long fixed = Long.getLong(SEED_PROPERTY);
+        return fixed != null ? fixed : new SplittableRandom().nextLong();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Get an independent stream for one component of the game
+     *
+     * @return New generator, owned by the caller
+     */
+    public synchronized SplittableRandom split() {
+        return root.split();
+    }
+
+    /**
+     * Shuffle a list in place, Fisher-Yates like Collections.shuffle
+     *
+     * @param list   List to shuffle
+     * @param random Stream to draw from
+     */
+    public static <T> void shuffle(List<T> list, SplittableRandom random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(j, list.set(i, list.get(j)));
+        }
+    }
+}
@@ -23,10 +23,13 @@ public class Player {
     private Role role;                         // Role
     private PlayerState state;                 // Player state
     private boolean isRescued;                 // Whether rescued
+    private int actionPoints;                  // Actions left this turn
 
     // Event listeners (for state change notifications)
     private final List<Consumer<Player>> onStateChangeListeners;    // State change listeners
     private final List<Consumer<Player>> onCardChangeListeners;     // Card change listeners
+    private final List<Consumer<Player>> onPositionChangeListeners; // Position change listeners
+    private final List<Consumer<Player>> onActionPointsChangeListeners; // Action points change listeners
 
     /**
      * Constructor
@@ -37,6 +40,8 @@ public class Player {
         this.state = PlayerState.NORMAL;
         this.onStateChangeListeners = new ArrayList<>();
         this.onCardChangeListeners = new ArrayList<>();
+        this.onPositionChangeListeners = new ArrayList<>();
+        this.onActionPointsChangeListeners = new ArrayList<>();
     }
 
     // =============== Basic Attribute Access ===============
@@ -54,7 +59,10 @@ public class Player {
      * @param tile Target position
      */
     public void setCurrentTile(Tile tile) {
-        this.currentTile = tile;
+        if (this.currentTile != tile) {
+            this.currentTile = tile;
+            notifyPositionChangeListeners();
+        }
     }
 
     /**
@@ -108,6 +116,49 @@ public class Player {
         return isRescued;
     }
 
+    // =============== Action Points ===============
+
+    /**
+     * Get actions left this turn
+     * @return Action points
+     */
+    public int getActionPoints() {
+        return actionPoints;
+    }
+
+    /**
+     * Set actions left this turn, e.g. at the start of a turn
+     * @param points Action points, never negative
+     */
+    public void setActionPoints(int points) {
+        if (points < 0) {
+            throw new IllegalArgumentException("Action points cannot be negative: " + points);
+        }
+        if (this.actionPoints != points) {
+            this.actionPoints = points;
+            notifyActionPointsChangeListeners();
+        }
+    }
+
+    /**
+     * Spend one action; does nothing if none are left
+     * @return Action points after the change
+     */
+    public int decrementActionPoints() {
+        if (actionPoints > 0) {
+            setActionPoints(actionPoints - 1);
+        }
+        return actionPoints;
+    }
+
+    /**
+     * Check if the player can still act this turn
+     * @return Returns true if at least one action point is left
+     */
+    public boolean hasActionPoints() {
+        return actionPoints > 0;
+    }
+
     // =============== Hand Card Management ===============
 
     /**
@@ -165,6 +216,22 @@ public class Player {
         onCardChangeListeners.add(listener);
     }
 
+    /**
+     * Add position change listener
+     * @param listener Listener
+     */
+    public void addOnPositionChangeListener(Consumer<Player> listener) {
+        onPositionChangeListeners.add(listener);
+    }
+
+    /**
+     * Add action points change listener
+     * @param listener Listener
+     */
+    public void addOnActionPointsChangeListener(Consumer<Player> listener) {
+        onActionPointsChangeListeners.add(listener);
+    }
+
     private void notifyStateChangeListeners() {
         onStateChangeListeners.forEach(listener -> listener.accept(this));
     }
@@ -173,6 +240,14 @@ public class Player {
         onCardChangeListeners.forEach(listener -> listener.accept(this));
     }
 
+    private void notifyPositionChangeListeners() {
+        onPositionChangeListeners.forEach(listener -> listener.accept(this));
+    }
+
+    private void notifyActionPointsChangeListeners() {
+        onActionPointsChangeListeners.forEach(listener -> listener.accept(this));
+    }
+
     // =============== Data Validation ===============
 
     /**
@@ -1,10 +1,7 @@
 package Model.Role;
 
-import Model.Player;
 import Model.Tile;
 import Model.Enumeration.TileState;
-import java.util.ArrayList;
-import java.util.List;
 
 public class Messenger extends Role {
     public Messenger() {
@@ -21,35 +18,6 @@ public class Messenger extends Role {
         // Messenger's ability is passive, no active use required
     }
 
-    @Override
-    public List<Tile> getMovableTiles() {
-        List<Tile> movableTiles = new ArrayList<>();
-        Player player = getPlayer();
-        if (player == null)
-            return movableTiles;
-
-        Tile currentTile = player.getCurrentTile();
-        if (currentTile == null)
-            return movableTiles;
-
-        // Get all adjacent tiles
-        List<Tile> adjacentTiles = currentTile.getAdjacentTiles();
-
-        // Messenger can only move to unflooded adjacent tiles
-        for (Tile tile : adjacentTiles) {
-            if (tile.getState() == TileState.NORMAL) {
-                movableTiles.add(tile);
-            }
-        }
-
-        return movableTiles;
-    }
-
-    @Override
-    public boolean canMoveTo(Tile tile) {
-        return isTileMovable(tile); // Can move to any non-sunken tile
-    }
-
     @Override
     public boolean canShoreUp(Tile tile) {
         return tile != null && tile.getState() == TileState.FLOODED;
@@ -0,0 +1,100 @@
+package Model.Role;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Role Factory Class
+ * Builds new Role instances, so every game and every player owns its roles
+ *
+ * Roles hold mutable state (the bound player, the Pilot's ability flag), so an
+ * instance must never be shared between games, engine copies or threads
+ */
+public final class RoleFactory {
+    // One constructor per role, in the order roles have always been dealt from
+    private static final Map<Class<? extends Role>, Supplier<Role>> ROLES = new LinkedHashMap<>();
+
+    static {
+        ROLES.put(Diver.class, Diver::new); // Can move between missing or flooded tiles, can swim to nearest tile
+        ROLES.put(Engineer.class, Engineer::new); // Use 1 action to repair 2 tiles or own tile
+        ROLES.put(Pilot.class, Pilot::new); // Use 1 action to fly to any tile
+        ROLES.put(Messenger.class, Messenger::new); // Give cards without being on same tile
+        ROLES.put(Explorer.class, Explorer::new); // Can move and repair tiles diagonally
+        ROLES.put(Navigator.class, Navigator::new); // Use 1 action to move other players to 2 adjacent tiles
+    }
+
+    private static final List<Class<? extends Role>> ROLE_TYPES =
+            Collections.unmodifiableList(new ArrayList<>(ROLES.keySet()));
+
+    private RoleFactory() {}
+
+    /**
+     * Create a new instance of every role
+     *
+     * @return New list of unbound roles
+     */
+    public static List<Role> createAllRoles() {
+        List<Role> roles = new ArrayList<>(ROLES.size());
+        for (Supplier<Role> role : ROLES.values()) {
+            roles.add(role.get());
+        }
+        return roles;
+    }
+
+    /**
+     * Get every role type in dealing order
+     *
+     * @return Unmodifiable list; a role's position is its stable id
+     */
+    public static List<Class<? extends Role>> getRoleTypes() {
+        return ROLE_TYPES;
+    }
+
+    /**
+     * Get the stable id of a role
+     *
+     * @param role Role
+     * @return Position of the role's type in getRoleTypes
+     */
+    public static int idOf(Role role) {
+        int id = ROLE_TYPES.indexOf(role.getClass());
+        if (id < 0) {
+            throw new IllegalArgumentException("Unknown role: " + role.getClass().getSimpleName());
+        }
+        return id;
+    }
+
+    /**
+     * Create a new instance of a role by id
+     *
+     * @param id Role id, see idOf
+     * @return New unbound role
+     */
+    public static Role create(int id) {
+        if (id < 0 || id >= ROLE_TYPES.size()) {
+            throw new IllegalArgumentException("Unknown role id: " + id);
+        }
+        return ROLES.get(ROLE_TYPES.get(id)).get();
+    }
+
+    /**
+     * Create a new instance of the same role carrying the same ability state
+     * The copy is not bound to a player
+     *
+     * @param role Role to copy
+     * @return New role instance
+     */
+    public static Role copyOf(Role role) {
+        Supplier<Role> constructor = ROLES.get(role.getClass());
+        if (constructor == null) {
+            throw new IllegalArgumentException("Unknown role: " + role.getClass().getSimpleName());
+        }
+        Role copy = constructor.get();
+        copy.copyStateFrom(role);
+        return copy;
+    }
+}
@@ -1,6 +1,7 @@
 // Model/Tile/Tile.java
 package Model;
 
+import Logging.GameLogger;
 import Model.Enumeration.TileName;
 import Model.Enumeration.TileState;
 import java.util.ArrayList;
@@ -13,6 +14,8 @@ import java.util.function.Consumer;
  * Including: name, state, position, adjacent relationships, etc.
  */
 public class Tile {
+    private static final GameLogger LOG = GameLogger.getLogger(Tile.class);
+
     // Core attributes
     private final TileName name; // Tile name (e.g., FOOLS_LANDING, TEMPLE_OF_THE_SUN, etc.)
     private TileState state; // Tile state (e.g., normal, flooded, sunk)
@@ -80,8 +83,9 @@ public class Tile {
      */
     public void setState(TileState newState) {
         if (this.state != newState) {
-            System.out
-                    .println("[Debug] Tile " + name + " [" + row + "," + col + "] State: " + this.state + " -> " + newState);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Tile " + name + " [" + row + "," + col + "] State: " + this.state + " -> " + newState);
+            }
             this.state = newState;
             notifyStateChangeListeners();
         }
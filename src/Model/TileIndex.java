@@ -0,0 +1,91 @@
+package Model;
+
+import Model.Enumeration.TileName;
+import Model.Enumeration.TileState;
+import Model.Enumeration.TreasureType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tile Index Class
+ * Looks up the tiles of one board by name and by treasure type
+ *
+ * Built once when the map is laid out, so game-over checks read a tile directly
+ * instead of scanning the board and comparing names
+ */
+public class TileIndex {
+    private final Map<TileName, Tile> tilesByName = new EnumMap<>(TileName.class);
+    private final Map<TreasureType, List<Tile>> treasureTiles = new EnumMap<>(TreasureType.class);
+
+    /**
+     * Constructor
+     *
+     * @param tiles All tiles of one board
+     */
+    public TileIndex(Collection<Tile> tiles) {
+        for (TreasureType type : TreasureType.values()) {
+            treasureTiles.put(type, new ArrayList<>(2));
+        }
+        for (Tile tile : tiles) {
+            tilesByName.put(tile.getName(), tile);
+            TreasureType type = TreasureType.forTile(tile.getName());
+            if (type != null) {
+                treasureTiles.get(type).add(tile);
+            }
+        }
+        for (TreasureType type : TreasureType.values()) {
+            treasureTiles.put(type, Collections.unmodifiableList(treasureTiles.get(type)));
+        }
+    }
+
+    /**
+     * Get tile by name
+     *
+     * @param name Tile name
+     * @return Tile, or null if it is not on this board
+     */
+    public Tile getTile(TileName name) {
+        return tilesByName.get(name);
+    }
+
+    /**
+     * Check if a tile has sunk; a tile missing from the board counts as sunk
+     *
+     * @param name Tile name
+     * @return Returns true if the tile is sunk or absent
+     */
+    public boolean isSunk(TileName name) {
+        Tile tile = tilesByName.get(name);
+        return tile == null || tile.getState() == TileState.SUNK;
+    }
+
+    /**
+     * Get the tiles a treasure can be captured on
+     *
+     * @param type Treasure type
+     * @return Unmodifiable list of the treasure's tiles on this board
+     */
+    public List<Tile> getTreasureTiles(TreasureType type) {
+        return treasureTiles.get(type);
+    }
+
+    /**
+     * Check if every tile of a treasure has sunk, so it can no longer be captured
+     *
+     * @param type Treasure type
+     * @return Returns true if no tile of the treasure is left standing
+     */
+    public boolean areTreasureTilesSunk(TreasureType type) {
+        for (Tile tile : treasureTiles.get(type)) {
+            if (tile.getState() != TileState.SUNK) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,7 +1,6 @@
 // Model/WaterLevel/WaterLevel.java
 package Model;
 
-import View.WaterLevelView;
 import Model.Enumeration.WaterLevelState;
 import java.util.function.Consumer;
 import java.util.List;
@@ -9,18 +8,16 @@ import java.util.ArrayList;
 
 /**
  * Water Level Class
- * Manages the water level system of the game
+ * Manages the water level system of one game
  * Including: water level, card draw count, water level changes, etc.
+ * Each game owns its own instance through GameContext; views follow it with level change listeners
  */
 public class WaterLevel {
     // Water level constants
     public static final int MIN_LEVEL = 1;     // Minimum water level
     public static final int MAX_LEVEL = 10;    // Maximum water level
     public static final int START_LEVEL = 1;   // Initial water level (remains unchanged, overridden by difficulty settings)
-
-    // Singleton instance
-    private static WaterLevel instance;
-    private static WaterLevelView waterLevelView;
+    public static final int MAX_DRAW_COUNT = 5; // Flood cards drawn per turn at the highest levels
 
     // Core attributes
     private int currentLevel;                  // Current water level
@@ -28,32 +25,25 @@ public class WaterLevel {
     private final List<Consumer<WaterLevel>> onLevelChangeListeners;    // Water level change listeners
 
     /**
-     * Private constructor
-     * Initialize water level system
+     * Constructor
+     * Initialize water level system at the starting level
      */
-    private WaterLevel() {
-        this.currentLevel = START_LEVEL;
-        this.state = WaterLevelState.NORMAL;
-        this.onLevelChangeListeners = new ArrayList<>();
+    public WaterLevel() {
+        this(START_LEVEL);
     }
 
     /**
-     * Get WaterLevel singleton instance
-     * @return WaterLevel instance
+     * Constructor
+     * Initialize water level system at the level chosen by difficulty settings
+     * @param initialLevel Starting water level
      */
-    public static WaterLevel getInstance() {
-        if (instance == null) {
-            instance = new WaterLevel();
+    public WaterLevel(int initialLevel) {
+        if (initialLevel < MIN_LEVEL || initialLevel > MAX_LEVEL) {
+            throw new IllegalArgumentException("Water level must be between " + MIN_LEVEL + " and " + MAX_LEVEL);
         }
-        return instance;
-    }
-
-    /**
-     * Set water level view
-     * @param view Water level view
-     */
-    public static void setWaterLevelView(WaterLevelView view) {
-        waterLevelView = view;
+        this.currentLevel = initialLevel;
+        this.onLevelChangeListeners = new ArrayList<>();
+        updateState();
     }
 
     // =============== Water Level Management ===============
@@ -74,6 +64,14 @@ public class WaterLevel {
         return state;
     }
 
+    /**
+     * Check whether the water has reached the skull and the island is lost
+     * @return true if at the maximum level
+     */
+    public boolean isAtMaxLevel() {
+        return currentLevel >= MAX_LEVEL;
+    }
+
     /**
      * Get card draw count for current water level
      * @return Card draw count
@@ -83,7 +81,7 @@ public class WaterLevel {
         if (currentLevel <= 2) return 2;
         if (currentLevel <= 5) return 3;
         if (currentLevel <= 7) return 4;
-        return 5;
+        return MAX_DRAW_COUNT;
     }
 
     /**
@@ -97,9 +95,6 @@ public class WaterLevel {
         currentLevel++;
         updateState();
         notifyLevelChangeListeners();
-        if (waterLevelView != null) {
-            waterLevelView.updateWaterLevel(currentLevel);
-        }
         return true;
     }
 
@@ -114,9 +109,6 @@ public class WaterLevel {
         currentLevel--;
         updateState();
         notifyLevelChangeListeners();
-        if (waterLevelView != null) {
-            waterLevelView.updateWaterLevel(currentLevel);
-        }
         return true;
     }
 
@@ -127,9 +119,6 @@ public class WaterLevel {
         currentLevel = START_LEVEL;
         updateState();
         notifyLevelChangeListeners();
-        if (waterLevelView != null) {
-            waterLevelView.updateWaterLevel(currentLevel);
-        }
     }
 
     // =============== State Management ===============
@@ -189,9 +178,6 @@ public class WaterLevel {
             this.currentLevel = level;
             updateState();
             notifyLevelChangeListeners();
-            if (waterLevelView != null) {
-                waterLevelView.updateWaterLevel(currentLevel);
-            }
         }
     }
 }
\ No newline at end of file
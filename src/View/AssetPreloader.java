@@ -0,0 +1,153 @@
+package View;
+
+import Model.Enumeration.TileName;
+import Model.Role.Role;
+import Model.Role.RoleFactory;
+import Model.WaterLevel;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Asset Preloader Class
+ * Decodes and scales every tile, card, pawn, map preview, treasure and water level
+ * image into ImageCache on a background thread pool while the main menu is shown,
+ * so building SetupView and BoardView does no image I/O on the EDT
+ *
+ * Progress listeners are called on the EDT
+ */
+public class AssetPreloader {
+    private static final String[] CARD_NAMES = {"Earth", "Fire", "Wind", "Water", "Helicopter", "SandBag", "WaterRise"};
+    private static final String[] MAP_NAMES = {"CLASSIC", "ADVANCED", "EXPERT"};
+
+    private static AssetPreloader instance;
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final AtomicInteger loadedCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+    private final List<Consumer<AssetPreloader>> onProgressListeners = new ArrayList<>();
+    private ExecutorService executor;
+
+    private AssetPreloader() {
+        ImageCache cache = ImageCache.getInstance();
+        int tileWidth = MapView.BUTTON_SIZE + 10;
+        int tileHeight = MapView.BUTTON_SIZE + 15;
+
+        // Tiles in normal and flooded state, sunk tiles and the sea around the island
+        for (TileName name : TileName.values()) {
+            String base = "src/resources/Tiles/" + name.getDisplayName();
+            addTask(() -> cache.getIcon(base + ".png", tileWidth, tileHeight));
+            addTask(() -> cache.getIcon(base + "2.png", tileWidth, tileHeight));
+        }
+        addTask(() -> cache.getIcon("src/resources/Tiles/Sea.png", tileWidth, tileHeight));
+        addTask(() -> cache.getIcon("src/resources/Tiles/Sea.png", tileWidth, MapView.BUTTON_SIZE + 10));
+
+        // Pawns on the map and role icons in the player panels
+        for (Class<? extends Role> type : RoleFactory.getRoleTypes()) {
+            String role = type.getSimpleName();
+            addTask(() -> cache.getIcon(MapView.pawnImagePath(role), MapView.BUTTON_SIZE, MapView.BUTTON_SIZE));
+            addTask(() -> cache.getIcon(MapView.roleIconPath(role), 60, 80));
+        }
+
+        // Cards at both hand sizes
+        for (String card : CARD_NAMES) {
+            String path = CardView.CARD_PATH + card + ".png";
+            addTask(() -> cache.getIcon(path, CardView.CARD_WIDTH - 12, CardView.LARGE_CARD_HEIGHT - 35));
+            addTask(() -> cache.getIcon(path, CardView.CARD_WIDTH - 12, CardView.CARD_HEIGHT - 35));
+        }
+
+        // Treasures, found and not found
+        for (String treasure : TreasureView.TREASURE_NAMES) {
+            for (int found = 0; found <= 1; found++) {
+                String path = "/resources/Treasures/" + treasure + "_" + found + ".png";
+                addTask(() -> cache.getIcon(path, TreasureView.BUTTON_SIZE, TreasureView.BUTTON_SIZE));
+            }
+        }
+
+        // Water level meter
+        for (int level = 1; level <= WaterLevel.MAX_LEVEL; level++) {
+            String path = "/resources/WaterLevel/" + level + ".png";
+            addTask(() -> cache.getIcon(path, WaterLevelView.IMAGE_WIDTH, WaterLevelView.IMAGE_HEIGHT));
+        }
+
+        // Map previews on the setup screen
+        for (String map : MAP_NAMES) {
+            addTask(() -> cache.getIcon("src/resources/Map/" + map + ".png",
+                    SetupView.MAP_PREVIEW_SIZE, SetupView.MAP_PREVIEW_SIZE));
+        }
+    }
+
+    public static synchronized AssetPreloader getInstance() {
+        if (instance == null) {
+            instance = new AssetPreloader();
+        }
+        return instance;
+    }
+
+    private void addTask(Runnable load) {
+        tasks.add(() -> {
+            try {
+                load.run();
+            } catch (RuntimeException e) {
+                failedCount.incrementAndGet();
+                System.err.println("Failed to preload image: " + e.getMessage());
+            }
+            loadedCount.incrementAndGet();
+            SwingUtilities.invokeLater(this::notifyProgressListeners);
+        });
+    }
+
+    /**
+     * Start loading on a background pool; later calls do nothing
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-preloader");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1); // Keep the menu responsive
+            return thread;
+        });
+        tasks.forEach(executor::execute);
+        executor.shutdown();
+    }
+
+    public int getLoadedCount() {
+        return loadedCount.get();
+    }
+
+    public int getTotalCount() {
+        return tasks.size();
+    }
+
+    public int getFailedCount() {
+        return failedCount.get();
+    }
+
+    public boolean isDone() {
+        return loadedCount.get() >= tasks.size();
+    }
+
+    // =============== Event Listener Management ===============
+
+    /**
+     * Add progress listener, called on the EDT after every image
+     *
+     * @param listener Listener
+     */
+    public void addOnProgressListener(Consumer<AssetPreloader> listener) {
+        onProgressListeners.add(listener);
+    }
+
+    private void notifyProgressListeners() {
+        onProgressListeners.forEach(listener -> listener.accept(this));
+    }
+}
@@ -3,9 +3,13 @@ package View;
 import javax.swing.*;
 import java.awt.*;
 import Controller.GameController;
-import Model.WaterLevel;
-import Model.Tile;
-import Model.Enumeration.TileName;
+import Engine.GameEngine;
+import Engine.GameSnapshot;
+import Model.GameContext;
+import Model.Enumeration.MapLayout;
+
+import java.io.File;
+import java.io.IOException;
 
 /**
  * BoardView class represents the main game board interface.
@@ -23,7 +27,6 @@ public class BoardView extends JPanel {
     // Game configuration
     private int playerCount; // Number of players in the current game
     private GameController gameController; // Controller managing game logic
-    private int initialWaterLevel; // Initial water level for the game session
     
     /**
      * Constructor for BoardView.
@@ -34,21 +37,42 @@ public class BoardView extends JPanel {
      * @param initialWaterLevel The starting water level for the game
      */
     public BoardView(int playerCount, String mapType, int initialWaterLevel) {
-        this.playerCount = playerCount;
-        this.initialWaterLevel = initialWaterLevel; // Store initial water level for game setup
+        // Initialize WaterLevelView first as it's needed by GameController
+        this.waterLevelView = new WaterLevelView();
         
-        // Create helicopter landing tile (using FOOLS_LANDING as the helicopter landing pad)
-        Tile helicopterTile = new Tile(TileName.FOOLS_LANDING, 2, 2);
+        // One context per game: its seed reproduces the layout, roles, positions and decks
+        GameContext context = new GameContext(initialWaterLevel);
         
-        // Initialize WaterLevelView first as it's needed by GameController
+        // Initialize GameController, which sets up the game's engine
+        initializeGame(new GameController(playerCount, MapLayout.fromName(mapType), waterLevelView, context));
+    }
+
+    /**
+     * Constructor for BoardView continuing a saved game.
+     * 
+     * @param snapshot The saved game to continue
+     */
+    public BoardView(GameSnapshot snapshot) {
         this.waterLevelView = new WaterLevelView();
         
-        // Create and configure MapView with the specified map type
-        this.mapView = new MapView();
-        this.mapView.setMapType(mapType);
+        // The restored game keeps its own state; the context shares its water level
+        GameEngine engine = snapshot.restore();
+        GameContext context = new GameContext(engine.getWaterLevel());
+        initializeGame(new GameController(engine, waterLevelView, context));
+    }
+
+    /**
+     * Builds the board around a game controller and shows the game's current turn.
+     * 
+     * @param controller The controller of the game to show
+     */
+    private void initializeGame(GameController controller) {
+        this.gameController = controller;
+        GameEngine engine = gameController.getEngine();
+        this.playerCount = gameController.getPlayerCount();
         
-        // Initialize GameController with game parameters
-        gameController = new GameController(playerCount, helicopterTile, waterLevelView, initialWaterLevel);
+        // Create MapView over the engine's island
+        this.mapView = new MapView(engine.getLayout(), engine.getAllTiles());
         
         // Establish bidirectional references between views and controller
         this.gameController.setMapView(mapView);
@@ -61,16 +85,17 @@ public class BoardView extends JPanel {
         }
         
         // Set up the user interface
-        initializeUI(mapType);
+        initializeUI();
+        
+        // Show the first turn once every view exists
+        gameController.start();
     }
 
     /**
      * Initializes the user interface layout and components.
      * Creates a responsive layout that adapts to different screen sizes.
-     * 
-     * @param mapType The type of map being used (affects UI configuration)
      */
-    private void initializeUI(String mapType) {
+    private void initializeUI() {
         // Set main layout manager
         setLayout(new BorderLayout());
         
@@ -108,6 +133,14 @@ public class BoardView extends JPanel {
                 MainView.getInstance().showStartScreen();
             }
         });
+        // Create and configure save button
+        JButton saveButton = new JButton("Save Game");
+        saveButton.setBackground(new Color(40, 167, 69)); // Bootstrap success color
+        saveButton.setForeground(Color.WHITE);
+        saveButton.setFont(new Font("Arial", Font.BOLD, 12));
+        saveButton.setFocusPainted(false);
+        saveButton.addActionListener(e -> saveGame());
+        topControlPanel.add(saveButton);
         topControlPanel.add(exitButton);
         
         // Add exit button panel to the top of the board
@@ -157,11 +190,7 @@ public class BoardView extends JPanel {
         mapCenterPanel.add(mapView);
         contentPanel.add(mapCenterPanel, gbc);
 
-        // Right side: Water level meter
-        // Update water level display with initial value
-        waterLevelView.updateWaterLevel(initialWaterLevel);
-        // Set global reference for water level updates
-        WaterLevel.setWaterLevelView(waterLevelView);
+        // Right side: Water level meter, kept up to date by the game controller
         gbc.gridx = 2;
         gbc.weightx = 0.15; // 15% of horizontal space
         gbc.anchor = GridBagConstraints.CENTER;
@@ -199,6 +228,25 @@ public class BoardView extends JPanel {
         contentPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
     }
 
+    /**
+     * Asks for a file and saves the game to it.
+     * The game can be continued later with LOAD on the main menu.
+     */
+    private void saveGame() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("forbidden-island.save"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        try {
+            gameController.saveGame(chooser.getSelectedFile().toPath());
+            JOptionPane.showMessageDialog(this, "Game saved.", "Save Game", JOptionPane.INFORMATION_MESSAGE);
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "Could not save the game: " + ex.getMessage(),
+                "Save Game", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
     /**
      * Gets the map view component.
      * 
@@ -20,11 +20,13 @@ public class CardView extends JButton {
     private Card card; // The underlying card model this view represents
     
     // Visual configuration constants
-    private static final int CARD_WIDTH = 65; // Fixed width for all cards
+    static final int CARD_WIDTH = 65; // Fixed width for all cards
+    static final int LARGE_CARD_HEIGHT = 130; // Card height in 2-player games
+    static final int CARD_HEIGHT = 110; // Card height in 3-4 player games
     private int cardHeight; // Dynamic height based on player count
     private static final Font CARD_FONT = new Font("Arial", Font.BOLD, 10); // Font for card text
     private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 8); // Font for card title
-    private static final String CARD_PATH = "/resources/Card/"; // Base path for card images
+    static final String CARD_PATH = "/resources/Card/"; // Base path for card images
     
     // Interactive state variables
     private boolean isHovered = false; // Track mouse hover state
@@ -49,7 +51,7 @@ public class CardView extends JButton {
         this.playerCount = playerCount;
         
         // Adjust card height based on player count for optimal screen usage
-        this.cardHeight = (playerCount == 2) ? 130 : 110;  // Larger cards for 2-player games
+        this.cardHeight = (playerCount == 2) ? LARGE_CARD_HEIGHT : CARD_HEIGHT;  // Larger cards for 2-player games
         
         initializeUI();
     }
@@ -158,16 +160,11 @@ public class CardView extends JButton {
         
         try {
             // Load and scale image to fit card dimensions
-            ImageIcon icon = new ImageIcon(getClass().getResource(imagePath));
-            
             // Scale image leaving space for borders and title
-            Image image = icon.getImage().getScaledInstance(
+            setIcon(ImageCache.getInstance().getIcon(imagePath,
                 CARD_WIDTH - 12,  // Leave horizontal margin
-                cardHeight - 35,  // Leave space for title at bottom
-                Image.SCALE_SMOOTH // High-quality scaling
-            );
-            
-            setIcon(new ImageIcon(image));
+                cardHeight - 35   // Leave space for title at bottom
+            ));
             setText(""); // Clear text when image is available
         } catch (Exception e) {
             // Fallback to text display if image loading fails
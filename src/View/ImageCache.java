@@ -0,0 +1,170 @@
+package View;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Image Cache Class
+ * Shared store of decoded and scaled images for all views
+ * Each (path, width, height) is scaled once and the resulting icons are shared
+ * between components, so state changes and repaints never touch the disk again
+ *
+ * Full-size decodes are only softly reachable: they let a second size of the same
+ * image skip the decode, but the collector may drop them once the icons exist
+ *
+ * Paths starting with "/" are classpath resources ("/resources/..."), anything
+ * else is a file path ("src/resources/...")
+ */
+public class ImageCache {
+    private static ImageCache instance;
+
+    private final Map<String, SoftReference<BufferedImage>> originals = new ConcurrentHashMap<>();
+    private final Map<Key, ImageIcon> scaledIcons = new ConcurrentHashMap<>();
+
+    private ImageCache() {}
+
+    public static synchronized ImageCache getInstance() {
+        if (instance == null) {
+            instance = new ImageCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Get an image scaled to the given size
+     * Scaling uses the same smooth filter as getScaledInstance(SCALE_SMOOTH),
+     * but the result is rendered once into a buffered image
+     *
+     * @param path   Image path
+     * @param width  Target width
+     * @param height Target height
+     * @return Shared icon; do not modify
+     * @throws UncheckedIOException if the image cannot be found or decoded
+     */
+    public ImageIcon getIcon(String path, int width, int height) {
+        Key key = new Key(path, width, height);
+        ImageIcon icon = scaledIcons.get(key);
+        if (icon == null) {
+            icon = new ImageIcon(scale(getImage(path), width, height));
+            ImageIcon existing = scaledIcons.putIfAbsent(key, icon);
+            if (existing != null) {
+                icon = existing;
+            }
+        }
+        return icon;
+    }
+
+    /**
+     * Get a decoded image at its original size
+     * Decoded again if the collector has dropped the previous copy
+     *
+     * @param path Image path
+     * @return Shared image; do not modify
+     * @throws UncheckedIOException if the image cannot be found or decoded
+     */
+    public BufferedImage getImage(String path) {
+        SoftReference<BufferedImage> ref = originals.get(path);
+        BufferedImage image = ref == null ? null : ref.get();
+        if (image == null) {
+            image = decode(path);
+            originals.put(path, new SoftReference<>(image));
+        }
+        return image;
+    }
+
+    /**
+     * Check whether an image at this size is already cached
+     */
+    public boolean contains(String path, int width, int height) {
+        return scaledIcons.containsKey(new Key(path, width, height));
+    }
+
+    /**
+     * Drop every cached image
+     */
+    public void clear() {
+        originals.clear();
+        scaledIcons.clear();
+    }
+
+    private static BufferedImage decode(String path) {
+        try {
+            BufferedImage image = null;
+            if (path.startsWith("/")) {
+                URL resource = ImageCache.class.getResource(path);
+                if (resource != null) {
+                    image = ImageIO.read(resource);
+                } else {
+                    // Running from the source tree without resources on the classpath
+                    File file = new File("src" + path);
+                    image = file.isFile() ? ImageIO.read(file) : null;
+                }
+            } else {
+                File file = new File(path);
+                image = file.isFile() ? ImageIO.read(file) : null;
+            }
+            if (image == null) {
+                throw new IOException("Cannot load image: " + path);
+            }
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e.getMessage(), e);
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            // ImageIcon waits until the filtered image is fully produced
+            Image smooth = new ImageIcon(source.getScaledInstance(width, height, Image.SCALE_SMOOTH)).getImage();
+            g.drawImage(smooth, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * Cache key: image path plus target size
+     */
+    private static final class Key {
+        private final String path;
+        private final int width;
+        private final int height;
+
+        private Key(String path, int width, int height) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return width == other.width && height == other.height && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, width, height);
+        }
+    }
+}
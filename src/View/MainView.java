@@ -7,6 +7,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Locale;
 import Controller.AudioManager;
+import Engine.GameSnapshot;
 
 /**
  * MainView class serves as the primary application window and navigation hub.
@@ -22,6 +23,7 @@ public class MainView extends JFrame {
     private JPanel mainPanel; // Main container panel with background
     private SetupView setupView; // Game configuration view
     private BoardView boardView; // Main game board view
+    private JProgressBar loadingBar; // Asset preloading progress
     
     // Visual assets
     private Image backgroundImage; // Background image for main menu
@@ -58,6 +60,7 @@ public class MainView extends JFrame {
         
         // Initialize background music for atmospheric experience
         AudioManager.getInstance().playBackgroundMusic();
+        AudioManager.getInstance().loadSoundEffects();
         
         // Create main panel with custom background painting
         mainPanel = new JPanel() {
@@ -109,11 +112,13 @@ public class MainView extends JFrame {
 
         // Create main menu buttons
         JButton startButton = createButton("START");
+        JButton loadButton = createButton("LOAD");
         JButton rulesButton = createButton("RULES");
         JButton exitButton = createButton("EXIT");
 
         // Configure button event handlers
         startButton.addActionListener(e -> showGameSetup()); // Navigate to game setup
+        loadButton.addActionListener(e -> loadGame()); // Continue a saved game
         rulesButton.addActionListener(e -> showRules()); // Show game rules
         exitButton.addActionListener(e -> {
             // Clean shutdown: stop music and exit application
@@ -123,14 +128,42 @@ public class MainView extends JFrame {
 
         // Add buttons to the button panel
         buttonPanel.add(startButton);
+        buttonPanel.add(loadButton);
         buttonPanel.add(rulesButton);
         buttonPanel.add(exitButton);
 
-        // Position button panel at the bottom of the screen
-        mainPanel.add(buttonPanel, BorderLayout.SOUTH);
+        // Create asset loading progress bar, hidden once every image is ready
+        AssetPreloader preloader = AssetPreloader.getInstance();
+        loadingBar = new JProgressBar(0, preloader.getTotalCount());
+        loadingBar.setStringPainted(true);
+        loadingBar.setString("Loading assets...");
+        loadingBar.setBorder(BorderFactory.createEmptyBorder(10, 300, 0, 300));
+        loadingBar.setOpaque(false);
+        preloader.addOnProgressListener(this::updateLoadingProgress);
+
+        // Position button panel and progress bar at the bottom of the screen
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        bottomPanel.setOpaque(false);
+        bottomPanel.add(buttonPanel, BorderLayout.CENTER);
+        bottomPanel.add(loadingBar, BorderLayout.SOUTH);
+        mainPanel.add(bottomPanel, BorderLayout.SOUTH);
 
         // Set main panel as the window content
         setContentPane(mainPanel);
+
+        // Decode game images in the background while the menu is shown
+        preloader.start();
+        updateLoadingProgress(preloader);
+    }
+
+    /**
+     * Updates the loading bar with the preloader's progress.
+     * 
+     * @param preloader The asset preloader reporting progress
+     */
+    private void updateLoadingProgress(AssetPreloader preloader) {
+        loadingBar.setValue(preloader.getLoadedCount());
+        loadingBar.setVisible(!preloader.isDone());
     }
 
     /**
@@ -197,6 +230,27 @@ public class MainView extends JFrame {
         repaint(); // Refresh display
     }
     
+    /**
+     * Asks for a saved game and continues it on a new game board.
+     */
+    private void loadGame() {
+        JFileChooser chooser = new JFileChooser();
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        try {
+            // Continue the saved game on a fresh board
+            boardView = new BoardView(GameSnapshot.load(chooser.getSelectedFile().toPath()));
+        } catch (IOException | IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, "Could not load the game: " + e.getMessage(),
+                "Load Game", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        setContentPane(boardView);
+        revalidate(); // Refresh layout
+        repaint(); // Refresh display
+    }
+    
     /**
      * Returns to the main start screen and resets game state.
      * Called when exiting from an active game.
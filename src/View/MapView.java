@@ -1,16 +1,15 @@
 package View;
 
+import Logging.GameLogger;
+import Model.Enumeration.MapLayout;
 import Model.Enumeration.TileType;
-import Model.Enumeration.TileName;
 import Model.Tile;
 import Model.TilePosition;
 import Model.Enumeration.TileState;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.Point;
-import java.util.Arrays;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -20,6 +19,7 @@ import java.util.HashMap;
  * This class manages the visual representation of the game map, including tiles,
  * player positions, and various map configurations (Classic, Advanced, Expert).
  * It extends JPanel to provide a custom UI component for the game board.
+ * The tiles belong to the game's GameEngine; this view only draws them.
  * 
  * Features:
  * - Multiple map configurations (Classic, Advanced, Expert)
@@ -32,10 +32,12 @@ import java.util.HashMap;
  * @version 1.0
  */
 public class MapView extends JPanel {
+    private static final GameLogger LOG = GameLogger.getLogger(MapView.class);
+
     /** 2D array of buttons representing map tiles */
     private JButton[][] mapButtons;
     
-    /** 2D array of tile objects containing game logic */
+    /** 2D array of the game's tiles, indexed by position */
     private Tile[][] tiles;
     
     /** Size of the map grid (6x6) */
@@ -45,7 +47,10 @@ public class MapView extends JPanel {
     private static final int GAP_SIZE = 1;
     
     /** Size of each tile button in pixels */
-    private static final int BUTTON_SIZE = 100;
+    static final int BUTTON_SIZE = 100;
+
+    /** Base path for pawn and role icon images, named after the role class */
+    static final String PLAYER_PATH = "src/resources/Player/";
     
     /** Utility class for managing tile positions */
     private TilePosition tilePosition;
@@ -65,41 +70,18 @@ public class MapView extends JPanel {
     /** Flag indicating if helicopter mode is active */
     private boolean isHelicopterMode = false;
     
-    /** Index for assigning tile names during initialization */
-    private int tileNameIndex = 0;
-    
-    /** Classic map configuration - cross-shaped layout */
-    private static final List<Point> CLASSIC_MAP = Arrays.asList(
-            new Point(0, 2), new Point(0, 3),
-            new Point(1, 1), new Point(1, 2), new Point(1, 3), new Point(1, 4),
-            new Point(2, 0), new Point(2, 1), new Point(2, 2), new Point(2, 3), new Point(2, 4), new Point(2, 5),
-            new Point(3, 0), new Point(3, 1), new Point(3, 2), new Point(3, 3), new Point(3, 4), new Point(3, 5),
-            new Point(4, 1), new Point(4, 2), new Point(4, 3), new Point(4, 4),
-            new Point(5, 2), new Point(5, 3));
-
-    /** Advanced map configuration - rectangular layout */
-    private static final List<Point> ADVANCED_MAP = Arrays.asList(
-            new Point(1, 0), new Point(1, 1), new Point(1, 2), new Point(1, 3), new Point(1, 4), new Point(1, 5),
-            new Point(2, 0), new Point(2, 1), new Point(2, 2), new Point(2, 3), new Point(2, 4), new Point(2, 5),
-            new Point(3, 0), new Point(3, 1), new Point(3, 2), new Point(3, 3), new Point(3, 4), new Point(3, 5),
-            new Point(4, 0), new Point(4, 1), new Point(4, 2), new Point(4, 3), new Point(4, 4), new Point(4, 5));
-
-    /** Expert map configuration - irregular layout with gaps */
-    private static final List<Point> EXPERT_MAP = Arrays.asList(
-            new Point(0, 0), new Point(0, 1), new Point(0, 2), new Point(0, 3), new Point(0, 4), new Point(0, 5),
-            new Point(1, 0), new Point(1, 2), new Point(1, 3), new Point(1, 5),
-            new Point(2, 0), new Point(2, 1), new Point(2, 2), new Point(2, 3), new Point(2, 4), new Point(2, 5),
-            new Point(3, 1), new Point(3, 2), new Point(3, 3), new Point(3, 4),
-            new Point(4, 1), new Point(4, 2), new Point(4, 3), new Point(4, 4));
-
     /** Currently active map configuration */
-    private List<Point> currentMapTiles = CLASSIC_MAP;
+    private final MapLayout currentLayout;
 
     /**
-     * Constructor for MapView.
-     * Initializes all necessary components and sets up the UI.
+     * Constructs a new MapView showing a game's island.
+     * 
+     * @param layout Map configuration the tiles are laid out in
+     * @param boardTiles Tiles of the game, already linked to their neighbours
      */
-    public MapView() {
+    public MapView(MapLayout layout, List<Tile> boardTiles) {
+        this.currentLayout = layout;
+
         // Initialize arrays and collections
         this.mapButtons = new JButton[MAP_SIZE][MAP_SIZE];
         this.tiles = new Tile[MAP_SIZE][MAP_SIZE];
@@ -115,6 +97,11 @@ public class MapView extends JPanel {
         setPreferredSize(new Dimension(preferredWidth, preferredHeight));
         setMinimumSize(new Dimension(preferredWidth, preferredHeight));
 
+        // Place the game's tiles by position
+        for (Tile tile : boardTiles) {
+            tiles[tile.getRow()][tile.getCol()] = tile;
+        }
+
         // Initialize the user interface
         initializeUI();
     }
@@ -131,10 +118,8 @@ public class MapView extends JPanel {
         JButton button = mapButtons[row][col];
         try {
             // Load and scale the tile image based on current state
-            ImageIcon icon = new ImageIcon(tile.getImagePath(tile.getState()));
-            Image image = icon.getImage().getScaledInstance(BUTTON_SIZE + 10, BUTTON_SIZE + 15,
-                    Image.SCALE_SMOOTH);
-            button.setIcon(new ImageIcon(image));
+            button.setIcon(ImageCache.getInstance().getIcon(tile.getImagePath(tile.getState()),
+                    BUTTON_SIZE + 10, BUTTON_SIZE + 15));
             button.setText("");
             button.setHorizontalTextPosition(SwingConstants.CENTER);
             button.setVerticalTextPosition(SwingConstants.BOTTOM);
@@ -145,7 +130,7 @@ public class MapView extends JPanel {
 
     /**
      * Initializes the user interface components.
-     * Creates the grid layout, buttons, tiles, and sets up their relationships.
+     * Creates the grid layout and a button for every tile and sea cell.
      */
     private void initializeUI() {
         // Set up grid bag layout for precise positioning
@@ -154,10 +139,6 @@ public class MapView extends JPanel {
         gbc.insets = new Insets(GAP_SIZE, GAP_SIZE, GAP_SIZE, GAP_SIZE);
         gbc.fill = GridBagConstraints.NONE;
 
-        // Randomly assign location names to tiles
-        List<TileName> availableTileNames = new ArrayList<>(Arrays.asList(TileName.values()));
-        Collections.shuffle(availableTileNames);
-        
         // Create grid of tiles and buttons
         for (int i = 0; i < MAP_SIZE; i++) {
             for (int j = 0; j < MAP_SIZE; j++) {
@@ -178,36 +159,29 @@ public class MapView extends JPanel {
                 layeredPanes[i][j].add(mapButtons[i][j], JLayeredPane.DEFAULT_LAYER);
 
                 // Determine if this position should have a tile based on current map
-                Point currentPoint = new Point(i, j);
-                if (currentMapTiles.contains(currentPoint)) {
-                    // Create active tile
+                if (currentLayout.contains(i, j) && tiles[i][j] != null) {
+                    // Show an active tile
                     mapButtons[i][j].setEnabled(true);
-                    tiles[i][j] = new Tile(availableTileNames.get(tileNameIndex), i, j);
                     tiles[i][j].addOnStateChangeListener(this::updateTileImage);
                     tilePosition.addTilePosition(tiles[i][j].getName().name(), i, j);
                     mapButtons[i][j].setText(tiles[i][j].getName().getDisplayName());
 
                     // Load and set tile image
                     try {
-                        ImageIcon icon = new ImageIcon(tiles[i][j].getImagePath(tiles[i][j].getState()));
-                        Image image = icon.getImage().getScaledInstance(BUTTON_SIZE + 10, BUTTON_SIZE + 15,
-                                Image.SCALE_SMOOTH);
-                        mapButtons[i][j].setIcon(new ImageIcon(image));
+                        mapButtons[i][j].setIcon(ImageCache.getInstance().getIcon(
+                                tiles[i][j].getImagePath(tiles[i][j].getState()), BUTTON_SIZE + 10, BUTTON_SIZE + 15));
                         mapButtons[i][j].setText("");
                         mapButtons[i][j].setHorizontalTextPosition(SwingConstants.CENTER);
                         mapButtons[i][j].setVerticalTextPosition(SwingConstants.BOTTOM);
                     } catch (Exception e) {
                         System.err.println("Cannot load image: " + tiles[i][j].getImagePath(tiles[i][j].getState()));
                     }
-                    tileNameIndex++;
                 } else {
                     // Create water/sea tile for positions outside the map
                     mapButtons[i][j].setText(TileType.SUNKEN.name());
                     try {
-                        ImageIcon icon = new ImageIcon("src/resources/Tiles/Sea.png");
-                        Image image = icon.getImage().getScaledInstance(BUTTON_SIZE + 10, BUTTON_SIZE + 10,
-                                Image.SCALE_SMOOTH);
-                        mapButtons[i][j].setIcon(new ImageIcon(image));
+                        mapButtons[i][j].setIcon(ImageCache.getInstance().getIcon("src/resources/Tiles/Sea.png",
+                                BUTTON_SIZE + 10, BUTTON_SIZE + 10));
                         mapButtons[i][j].setText("");
                     } catch (Exception e) {
                         System.err.println("Cannot load image: src/resources/Tiles/Sea.png");
@@ -220,24 +194,6 @@ public class MapView extends JPanel {
                 add(layeredPanes[i][j], gbc);
             }
         }
-
-        // Set up adjacency relationships between tiles (up, down, left, right)
-        for (int i = 0; i < MAP_SIZE; i++) {
-            for (int j = 0; j < MAP_SIZE; j++) {
-                Tile tile = tiles[i][j];
-                if (tile != null) {
-                    // Check all four directions
-                    int[][] dirs = { { -1, 0 }, { 1, 0 }, { 0, -1 }, { 0, 1 } };
-                    for (int[] d : dirs) {
-                        int ni = i + d[0], nj = j + d[1];
-                        // Add adjacent tile if it exists and is within bounds
-                        if (ni >= 0 && ni < MAP_SIZE && nj >= 0 && nj < MAP_SIZE && tiles[ni][nj] != null) {
-                            tile.addAdjacentTile(tiles[ni][nj]);
-                        }
-                    }
-                }
-            }
-        }
     }
 
     /**
@@ -275,52 +231,6 @@ public class MapView extends JPanel {
         return getButton(row, col);
     }
 
-    /**
-     * Sets the map type and reinitializes the UI accordingly.
-     * Supports three map types: CLASSIC, ADVANCED, and EXPERT.
-     * 
-     * @param mapType The type of map to set ("CLASSIC", "ADVANCED", or "EXPERT")
-     */
-    public void setMapType(String mapType) {
-        // Determine which map configuration to use
-        switch (mapType) {
-            case "CLASSIC":
-                currentMapTiles = CLASSIC_MAP;
-                break;
-            case "ADVANCED":
-                currentMapTiles = ADVANCED_MAP;
-                break;
-            case "EXPERT":
-                currentMapTiles = EXPERT_MAP;
-                break;
-            default:
-                currentMapTiles = CLASSIC_MAP;
-        }
-        
-        // Remove all existing UI components
-        removeAll();
-        
-        // Clear tile position information to prevent duplicate additions
-        tilePosition.clear();
-        
-        // Completely clear the tile array to prevent memory leaks
-        for (int i = 0; i < MAP_SIZE; i++) {
-            for (int j = 0; j < MAP_SIZE; j++) {
-                tiles[i][j] = null;
-            }
-        }
-        
-        // Reset tile name index for new map
-        tileNameIndex = 0;
-        
-        // Reinitialize the user interface
-        initializeUI();
-        
-        // Refresh the layout and repaint
-        revalidate();
-        repaint();
-    }
-
     /**
      * Custom layout method to ensure MapView maintains its preferred size.
      */
@@ -433,6 +343,26 @@ public class MapView extends JPanel {
         });
     }
 
+    /**
+     * Get the path of a role's pawn image
+     *
+     * @param roleName Simple class name of the role, e.g. "Diver"
+     * @return Path of the pawn image drawn on the map
+     */
+    public static String pawnImagePath(String roleName) {
+        return PLAYER_PATH + roleName + "2.png";
+    }
+
+    /**
+     * Get the path of a role's icon shown in the player panel
+     *
+     * @param roleName Simple class name of the role, e.g. "Diver"
+     * @return Path of the role icon image
+     */
+    static String roleIconPath(String roleName) {
+        return PLAYER_PATH + roleName + "_Icon.png";
+    }
+
     /**
      * Displays a player's image on the specified tile.
      * 
@@ -443,13 +373,8 @@ public class MapView extends JPanel {
      */
     public void showPlayerImage(int row, int col, String playerImagePath, int playerIndex) {
         try {
-            // Load and scale the player image
-            ImageIcon originalIcon = new ImageIcon(playerImagePath);
-            Image scaledImage = originalIcon.getImage().getScaledInstance(
-                    BUTTON_SIZE, // Reduce image size to fit on tile
-                    BUTTON_SIZE,
-                    Image.SCALE_SMOOTH);
-            ImageIcon scaledIcon = new ImageIcon(scaledImage);
+            // Load the player image, reduced to fit on the tile
+            ImageIcon scaledIcon = ImageCache.getInstance().getIcon(playerImagePath, BUTTON_SIZE, BUTTON_SIZE);
 
             // Get the player's designated position on the tile
             Point position = getPlayerFixedPosition(playerIndex);
@@ -523,31 +448,34 @@ public class MapView extends JPanel {
      * @param enabled True to enable helicopter mode, false to disable
      */
     public void setHelicopterMode(boolean enabled) {
-        System.out.println("\n========== MapView.setHelicopterMode Start ==========");
-        System.out.println("Method called with enabled parameter: " + enabled);
-        System.out.println("Current isHelicopterMode: " + isHelicopterMode);
-        System.out.println("MapView instance: " + this);
-        System.out.println("Number of tiles returned by getAllTiles(): " + getAllTiles().size());
+        LOG.debug("========== MapView.setHelicopterMode Start ==========");
+        LOG.debug(() -> "Method called with enabled parameter: " + enabled);
+        LOG.debug(() -> "Current isHelicopterMode: " + isHelicopterMode);
+        LOG.debug(() -> "MapView instance: " + this);
+        LOG.debug(() -> "Number of tiles returned by getAllTiles(): " + getAllTiles().size());
         
         isHelicopterMode = enabled;
         if (enabled) {
-            System.out.println("Start highlighting non-sunken tiles");
+            LOG.debug("Start highlighting non-sunken tiles");
             int highlightedCount = 0;
             // Highlight all tiles that are not sunken (valid helicopter landing spots)
             for (Tile tile : getAllTiles()) {
                 if (tile.getState() != TileState.SUNK) {
-                    System.out.println("Highlighting tile: " + tile.getName() + " [" + tile.getRow() + "," + tile.getCol() + "]");
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Highlighting tile: " + tile.getName() + " [" + tile.getRow() + "," + tile.getCol() + "]");
+                    }
                     highlightTile(tile.getRow(), tile.getCol());
                     highlightedCount++;
                 }
             }
-            System.out.println("Total highlighted " + highlightedCount + " tiles");
+            int totalHighlighted = highlightedCount;
+            LOG.debug(() -> "Total highlighted " + totalHighlighted + " tiles");
         } else {
-            System.out.println("Clear all highlights");
+            LOG.debug("Clear all highlights");
             // Clear all tile highlights
             clearHighlights();
         }
-        System.out.println("========== MapView.setHelicopterMode End ==========\n");
+        LOG.debug("========== MapView.setHelicopterMode End ==========");
         repaint();
     }
 
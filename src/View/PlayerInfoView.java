@@ -1,7 +1,9 @@
 package View;
 
+import Logging.GameLogger;
 import Model.Cards.Card;
 import Controller.GameController;
+import Engine.GameAction;
 
 import javax.swing.*;
 import java.awt.*;
@@ -12,6 +14,15 @@ import java.awt.*;
  * This panel is part of the game's user interface.
  */
 public class PlayerInfoView extends JPanel {
+    private static final GameLogger LOG = GameLogger.getLogger(PlayerInfoView.class);
+
+    // Action buttons in grid order, with the special button at SPECIAL_BUTTON_INDEX
+    private static final GameAction.Kind[] BUTTON_KINDS = {
+        GameAction.Kind.MOVE, GameAction.Kind.SHORE_UP, GameAction.Kind.GIVE_CARD,
+        GameAction.Kind.CAPTURE_TREASURE, GameAction.Kind.SKIP
+    };
+    private static final int SPECIAL_BUTTON_INDEX = 3;
+
     // UI components for player information display
     private JLabel playerNameLabel;
     private JLabel roleLabel;
@@ -24,6 +35,8 @@ public class PlayerInfoView extends JPanel {
     private JLabel roleIconLabel;
     private int playerCount;
     private JButton[] actionButtons;
+    private JButton specialButton;
+    private GameAction.Kind specialKind; // Action of the role's special button, null if it has none
 
     /**
      * Constructor for PlayerInfoView
@@ -91,12 +104,12 @@ public class PlayerInfoView extends JPanel {
         helicopterButton.setFocusPainted(false);
         helicopterButton.setEnabled(true);
         helicopterButton.addActionListener(e -> {
-            System.out.println("\n========== Helicopter button clicked ==========");
-            System.out.println("Current player index: " + gameController.getPlayerInfoViews().indexOf(this));
-            System.out.println("Helicopter button status: " + (helicopterButton.isEnabled() ? "Enabled" : "Disabled"));
-            System.out.println("Checking helicopter card...");
+            LOG.debug("========== Helicopter button clicked ==========");
+            LOG.debug(() -> "Current player index: " + gameController.getPlayerInfoViews().indexOf(this));
+            LOG.debug(() -> "Helicopter button status: " + (helicopterButton.isEnabled() ? "Enabled" : "Disabled"));
+            LOG.debug("Checking helicopter card...");
             gameController.handleHelicopterCard(gameController.getPlayerInfoViews().indexOf(this));
-            System.out.println("========== Helicopter button click event ended ==========\n");
+            LOG.debug("========== Helicopter button click event ended ==========");
         });
 
         // Create a horizontal layout panel for these two buttons
@@ -112,11 +125,16 @@ public class PlayerInfoView extends JPanel {
         actionButtonsPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
         actionButtonsPanel.setMaximumSize(new Dimension(200, 100));
 
-        // Create and add action buttons
-        String[] actionNames = { "Move", "Shore up", "Give Cards", "Special", "Treasure", "Skip" }; 
-        actionButtons = new JButton[actionNames.length];
-        for (int i = 0; i < actionNames.length; i++) {
-            actionButtons[i] = createActionButton(actionNames[i]);
+        // Create and add action buttons; the special button starts the action set by setSpecialKind
+        specialButton = createActionButton("Special", () -> performAction(specialKind));
+        actionButtons = new JButton[BUTTON_KINDS.length + 1];
+        for (int i = 0, k = 0; i < actionButtons.length; i++) {
+            if (i == SPECIAL_BUTTON_INDEX) {
+                actionButtons[i] = specialButton;
+            } else {
+                GameAction.Kind kind = BUTTON_KINDS[k++];
+                actionButtons[i] = createActionButton(kind.getLabel(), () -> performAction(kind));
+            }
             actionButtonsPanel.add(actionButtons[i]);
         }
 
@@ -234,11 +252,9 @@ public class PlayerInfoView extends JPanel {
     private void updateRoleIcon(String role) {
         if (role != null && !role.equals("Role") && !role.equals("Not Assigned")) {
             try {
-                String iconPath = "src/resources/Player/" + role + "_Icon.png";
-                ImageIcon icon = new ImageIcon(iconPath);
+                String iconPath = MapView.roleIconPath(role);
                 // Scale icon to appropriate size
-                Image scaledImage = icon.getImage().getScaledInstance(60, 80, Image.SCALE_SMOOTH);
-                roleIconLabel.setIcon(new ImageIcon(scaledImage));
+                roleIconLabel.setIcon(ImageCache.getInstance().getIcon(iconPath, 60, 80));
                 roleIconLabel.setText("");
             } catch (Exception e) {
                 System.err.println("Unable to load role icon: " + role);
@@ -290,14 +306,6 @@ public class PlayerInfoView extends JPanel {
         gameController.getCardController().clearCards(this);
     }
 
-    /**
-     * Get the action points label
-     * @return The JLabel displaying action points
-     */
-    public JLabel getActionPointsLabel() {
-        return actionPointsLabel;
-    }
-
     /**
      * Update the panel title with player name and role
      */
@@ -313,11 +321,12 @@ public class PlayerInfoView extends JPanel {
 
     /**
      * Create an action button with specified styling
-     * @param actionName The name/text of the action button
+     * @param label Button text
+     * @param onClick Called when the button is clicked
      * @return The created JButton
      */
-    private JButton createActionButton(String actionName) {
-        JButton button = new JButton(actionName);
+    private JButton createActionButton(String label, Runnable onClick) {
+        JButton button = new JButton(label);
         button.setPreferredSize(new Dimension(90, 30)); 
         button.setFocusPainted(false);
         button.setBackground(new Color(51, 122, 183));
@@ -326,19 +335,32 @@ public class PlayerInfoView extends JPanel {
         button.setBorder(BorderFactory.createCompoundBorder(
                 BorderFactory.createLineBorder(new Color(46, 109, 164), 1),
                 BorderFactory.createEmptyBorder(2, 4, 2, 4))); 
-        button.addActionListener(e -> performAction(actionName));
+        button.addActionListener(e -> onClick.run());
         return button;
     }
 
+    /**
+     * Set the action the special button starts, e.g. the Pilot's flight
+     * @param kind Special action kind, or null to leave the button disabled
+     */
+    public void setSpecialKind(GameAction.Kind kind) {
+        this.specialKind = kind;
+        specialButton.setText(kind == null ? "Special" : kind.getLabel());
+        if (kind == null) {
+            specialButton.setEnabled(false);
+            specialButton.setBackground(new Color(180, 180, 180));
+        }
+    }
+
     /**
      * Perform the specified action when an action button is clicked
-     * @param actionName The name of the action to perform
+     * @param action The action to perform
      */
-    private void performAction(String actionName) {
+    private void performAction(GameAction.Kind action) {
         // Get current player's index
         int currentPlayerIndex = gameController.getPlayerInfoViews().indexOf(this);
         // Call GameController's performAction method
-        gameController.performAction(currentPlayerIndex, actionName);
+        gameController.performAction(currentPlayerIndex, action);
     }
 
     /**
@@ -348,8 +370,9 @@ public class PlayerInfoView extends JPanel {
     public void setButtonsEnabled(boolean enabled) {
         if (actionButtons != null) {
             for (JButton button : actionButtons) {
-                button.setEnabled(enabled);
-                if (enabled) {
+                boolean buttonEnabled = enabled && (button != specialButton || specialKind != null);
+                button.setEnabled(buttonEnabled);
+                if (buttonEnabled) {
                     button.setBackground(new Color(51, 122, 183));
                 } else {
                     button.setBackground(new Color(180, 180, 180));
@@ -5,8 +5,19 @@ import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * RuleView class represents a full-screen window for displaying game rules.
@@ -26,7 +37,9 @@ public class RuleView extends JFrame implements KeyListener {
     private final int totalPagePairs = 4;
     
     // Image resources
-    private Image[] ruleImages;
+    private static final int PAGE_COUNT = 8;
+    private static final int CACHED_PAGES = 6; // Current page pair plus the pairs on either side
+    private final PageCache pageCache = new PageCache(CACHED_PAGES);
     private Image backgroundImage;
     
     // Layout panels
@@ -65,7 +78,8 @@ public class RuleView extends JFrame implements KeyListener {
     }
     
     /**
-     * Load all required images including background and rule pages
+     * Load the background image
+     * Rule pages are decoded on demand by the page cache
      */
     private void loadImages() {
         // Load background image
@@ -75,18 +89,6 @@ public class RuleView extends JFrame implements KeyListener {
             System.err.println("Cannot load background image: background.png");
             e.printStackTrace();
         }
-        
-        // Load rule images (8 pages total)
-        ruleImages = new Image[8];
-        for (int i = 1; i <= 8; i++) {
-            try {
-                String imagePath = "src/resources/Rules/RULES_" + i + ".png";
-                ruleImages[i-1] = ImageIO.read(new File(imagePath));
-            } catch (IOException e) {
-                System.err.println("Cannot load rule image: RULES_" + i + ".png");
-                e.printStackTrace();
-            }
-        }
     }
     
     /**
@@ -230,8 +232,6 @@ public class RuleView extends JFrame implements KeyListener {
      * @param g Graphics context for painting
      */
     private void paintRulePages(Graphics g) {
-        if (ruleImages == null) return;
-        
         Graphics2D g2d = (Graphics2D) g.create();
         g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
         g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
@@ -248,16 +248,22 @@ public class RuleView extends JFrame implements KeyListener {
         int pageHeight = panelHeight;
         
         // Draw left page
-        if (leftPageIndex < ruleImages.length && ruleImages[leftPageIndex] != null) {
-            Image leftImage = ruleImages[leftPageIndex];
+        Image leftImage = pageCache.getPage(leftPageIndex, pageWidth, pageHeight);
+        if (leftImage != null) {
             g2d.drawImage(leftImage, 0, 0, pageWidth, pageHeight, null);
         }
         
         // Draw right page
-        if (rightPageIndex < ruleImages.length && ruleImages[rightPageIndex] != null) {
-            Image rightImage = ruleImages[rightPageIndex];
+        Image rightImage = pageCache.getPage(rightPageIndex, pageWidth, pageHeight);
+        if (rightImage != null) {
             g2d.drawImage(rightImage, pageWidth, 0, pageWidth, pageHeight, null);
         }
+
+        // Decode the neighbouring pairs in the background for quick page turns
+        pageCache.prefetch(leftPageIndex - 2, pageWidth, pageHeight);
+        pageCache.prefetch(leftPageIndex - 1, pageWidth, pageHeight);
+        pageCache.prefetch(rightPageIndex + 1, pageWidth, pageHeight);
+        pageCache.prefetch(rightPageIndex + 2, pageWidth, pageHeight);
         
         // Draw center divider line
         g2d.setColor(new Color(255, 255, 255, 100));
@@ -275,6 +281,12 @@ public class RuleView extends JFrame implements KeyListener {
         nextButton.addActionListener(e -> nextPagePair());
         closeButton.addActionListener(e -> dispose());
     }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        pageCache.clear();
+    }
     
     /**
      * Update the display to show the current page pair
@@ -283,8 +295,8 @@ public class RuleView extends JFrame implements KeyListener {
     private void displayCurrentPagePair() {
         // Update page label and button states
         int startPage = (currentPagePair - 1) * 2 + 1;
-        int endPage = Math.min(startPage + 1, 8);
-        pageLabel.setText(String.format("Pages %d-%d / 8", startPage, endPage));
+        int endPage = Math.min(startPage + 1, PAGE_COUNT);
+        pageLabel.setText(String.format("Pages %d-%d / %d", startPage, endPage, PAGE_COUNT));
         
         prevButton.setEnabled(currentPagePair > 1);
         nextButton.setEnabled(currentPagePair < totalPagePairs);
@@ -356,4 +368,116 @@ public class RuleView extends JFrame implements KeyListener {
      */
     @Override
     public void keyReleased(KeyEvent e) {}
-}
\ No newline at end of file
+
+    /**
+     * Small LRU cache of rule pages decoded at display size
+     * The PNGs are read with source subsampling, so a full-resolution raster
+     * never has to be held in memory
+     */
+    private static class PageCache {
+        private final Map<Integer, BufferedImage> pages;
+        private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+        private final ExecutorService prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rule-page-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        PageCache(int capacity) {
+            this.pages = new LinkedHashMap<Integer, BufferedImage>(capacity, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, BufferedImage> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        /**
+         * Get a page scaled to the given size, decoding it if needed
+         *
+         * @param index  Page index (0-based)
+         * @param width  Display width
+         * @param height Display height
+         * @return Page image, or null if the index is out of range or the page cannot be read
+         */
+        BufferedImage getPage(int index, int width, int height) {
+            if (index < 0 || index >= PAGE_COUNT || width <= 0 || height <= 0) {
+                return null;
+            }
+            synchronized (pages) {
+                BufferedImage page = pages.get(index);
+                if (page != null && page.getWidth() == width && page.getHeight() == height) {
+                    return page;
+                }
+            }
+            BufferedImage page = decode(index, width, height);
+            if (page != null) {
+                synchronized (pages) {
+                    pages.put(index, page);
+                }
+            }
+            return page;
+        }
+
+        /**
+         * Decode a page on the background thread if it is not cached yet
+         */
+        void prefetch(int index, int width, int height) {
+            if (index < 0 || index >= PAGE_COUNT) {
+                return;
+            }
+            synchronized (pages) {
+                BufferedImage page = pages.get(index);
+                if (page != null && page.getWidth() == width && page.getHeight() == height) {
+                    return;
+                }
+            }
+            if (prefetcher.isShutdown() || !pending.add(index)) {
+                return;
+            }
+            prefetcher.execute(() -> {
+                getPage(index, width, height);
+                pending.remove(index);
+            });
+        }
+
+        void clear() {
+            prefetcher.shutdownNow();
+            synchronized (pages) {
+                pages.clear();
+            }
+        }
+
+        private static BufferedImage decode(int index, int width, int height) {
+            String imagePath = "src/resources/Rules/RULES_" + (index + 1) + ".png";
+            try (ImageInputStream input = ImageIO.createImageInputStream(new File(imagePath))) {
+                Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+                if (readers == null || !readers.hasNext()) {
+                    throw new IOException("No image reader for " + imagePath);
+                }
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(input, true, true);
+                    // Skip source pixels down to no less than the display size
+                    int step = Math.max(1, Math.min(reader.getWidth(0) / width, reader.getHeight(0) / height));
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    param.setSourceSubsampling(step, step, 0, 0);
+                    BufferedImage sampled = reader.read(0, param);
+
+                    BufferedImage page = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                    Graphics2D g = page.createGraphics();
+                    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                    g.drawImage(sampled, 0, 0, width, height, null);
+                    g.dispose();
+                    return page;
+                } finally {
+                    reader.dispose();
+                }
+            } catch (IOException e) {
+                System.err.println("Cannot load rule image: RULES_" + (index + 1) + ".png");
+                e.printStackTrace();
+                return null;
+            }
+        }
+    }
+}
@@ -23,12 +23,14 @@ public class SetupView extends JPanel {
     private JComboBox<String> mapSelector;
     private JComboBox<String> difficultySelector;
     private JCheckBox musicCheckBox;
+    private JCheckBox soundEffectsCheckBox;
     
     // Reference to main view and visual resources
     private MainView mainView;
     private Image backgroundImage;
     
     // Map preview components
+    static final int MAP_PREVIEW_SIZE = 180; // Width and height of each map preview
     private JPanel mapPreviewPanel;
     private JLabel[] mapImageLabels;
     private Image[] mapImages;
@@ -57,8 +59,10 @@ public class SetupView extends JPanel {
         
         for (int i = 0; i < mapNames.length; i++) {
             try {
-                mapImages[i] = ImageIO.read(new File("src/resources/Map/" + mapNames[i] + ".png"));
-            } catch (IOException e) {
+                // Usually already decoded and scaled by AssetPreloader
+                mapImages[i] = ImageCache.getInstance().getIcon("src/resources/Map/" + mapNames[i] + ".png",
+                        MAP_PREVIEW_SIZE, MAP_PREVIEW_SIZE).getImage();
+            } catch (RuntimeException e) {
                 System.err.println("Failed to load map image: " + mapNames[i] + ".png");
                 e.printStackTrace();
             }
@@ -197,9 +201,30 @@ public class SetupView extends JPanel {
         });
         centerPanel.add(musicCheckBox, gbc);
 
-        // Button panel
+        // Sound effects toggle
         gbc.gridx = 0;
         gbc.gridy = 5;
+        gbc.anchor = GridBagConstraints.EAST;
+        JLabel soundEffectsLabel = new JLabel("Sound Effects:");
+        soundEffectsLabel.setForeground(Color.WHITE);
+        soundEffectsLabel.setFont(new Font("Arial", Font.BOLD, 16));
+        centerPanel.add(soundEffectsLabel, gbc);
+
+        gbc.gridx = 1;
+        gbc.anchor = GridBagConstraints.WEST;
+        soundEffectsCheckBox = new JCheckBox("Enable Sound Effects");
+        soundEffectsCheckBox.setSelected(AudioManager.getInstance().isSoundEffectsEnabled());
+        soundEffectsCheckBox.setOpaque(false);
+        soundEffectsCheckBox.setForeground(Color.WHITE);
+        soundEffectsCheckBox.setFont(new Font("Arial", Font.BOLD, 14));
+        soundEffectsCheckBox.addActionListener(e -> {
+            AudioManager.getInstance().setSoundEffectsEnabled(soundEffectsCheckBox.isSelected());
+        });
+        centerPanel.add(soundEffectsCheckBox, gbc);
+
+        // Button panel
+        gbc.gridx = 0;
+        gbc.gridy = 6;
         gbc.gridwidth = 2;
         gbc.anchor = GridBagConstraints.CENTER;
         gbc.insets = new Insets(20, 10, 10, 10);
@@ -261,12 +286,10 @@ public class SetupView extends JPanel {
             // Create map image label
             mapImageLabels[i] = new JLabel();
             if (mapImages[i] != null) {
-                // Scale image to appropriate size
-                Image scaledImage = mapImages[i].getScaledInstance(180, 180, Image.SCALE_SMOOTH);
-                mapImageLabels[i].setIcon(new ImageIcon(scaledImage));
+                mapImageLabels[i].setIcon(new ImageIcon(mapImages[i]));
             }
             mapImageLabels[i].setBorder(BorderFactory.createLineBorder(Color.GRAY, 2));
-            mapImageLabels[i].setPreferredSize(new Dimension(180, 180));
+            mapImageLabels[i].setPreferredSize(new Dimension(MAP_PREVIEW_SIZE, MAP_PREVIEW_SIZE));
             
             mapContainer.add(nameLabel, BorderLayout.NORTH);
             mapContainer.add(mapImageLabels[i], BorderLayout.CENTER);
@@ -14,8 +14,8 @@ public class TreasureView extends JPanel {
     
     // Constants for treasure configuration
     private static final int TREASURE_COUNT = 4; // Total number of treasures in the game
-    private static final int BUTTON_SIZE = 120; // Size of each treasure button in pixels
-    private static final String[] TREASURE_NAMES = {"Earth", "Fire", "Wind", "Water"}; // Names of the four treasures
+    static final int BUTTON_SIZE = 120; // Size of each treasure button in pixels
+    static final String[] TREASURE_NAMES = {"Earth", "Fire", "Wind", "Water"}; // Names of the four treasures
 
     /**
      * Constructor for TreasureView.
@@ -96,9 +96,7 @@ public class TreasureView extends JPanel {
         
         try {
             // Load and scale the treasure image
-            ImageIcon icon = new ImageIcon(getClass().getResource(imagePath));
-            Image img = icon.getImage().getScaledInstance(BUTTON_SIZE, BUTTON_SIZE, Image.SCALE_SMOOTH);
-            button.setIcon(new ImageIcon(img));
+            button.setIcon(ImageCache.getInstance().getIcon(imagePath, BUTTON_SIZE, BUTTON_SIZE));
         } catch (Exception e) {
             // Fallback to text if image loading fails
             button.setText(treasureName);
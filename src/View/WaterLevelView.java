@@ -1,5 +1,7 @@
 package View;
 
+import Logging.GameLogger;
+
 import javax.swing.*;
 import java.awt.*;
 
@@ -9,13 +11,15 @@ import java.awt.*;
  * The water level is a critical game mechanic that affects gameplay.
  */
 public class WaterLevelView extends JPanel {
+    private static final GameLogger LOG = GameLogger.getLogger(WaterLevelView.class);
+
     // UI components for displaying water level
     private JLabel waterLevelImage; // Label to display water level image
     private JLabel waterLevelLabel; // Label to display water level text
     
     // Constants for image dimensions
-    private static final int IMAGE_WIDTH = 180; // Width of water level image
-    private static final int IMAGE_HEIGHT = 600; // Height of water level image
+    static final int IMAGE_WIDTH = 180; // Width of water level image
+    static final int IMAGE_HEIGHT = 600; // Height of water level image
 
     /**
      * Constructor for WaterLevelView.
@@ -64,24 +68,14 @@ public class WaterLevelView extends JPanel {
         String imagePath = "/resources/WaterLevel/" + level + ".png";
         
         // Debug information: attempting to load water level image
-        System.out.println("Attempting to load water level image: " + imagePath);
+        LOG.debug(() -> "Attempting to load water level image: " + imagePath);
         
         try {
-            // Load the water level image
-            ImageIcon icon = new ImageIcon(getClass().getResource(imagePath));
-            
-            // Check if image loaded successfully
-            if (icon.getImageLoadStatus() == MediaTracker.COMPLETE) {
-                // Scale image to fit the label dimensions
-                Image img = icon.getImage().getScaledInstance(IMAGE_WIDTH, IMAGE_HEIGHT, Image.SCALE_SMOOTH);
-                waterLevelImage.setIcon(new ImageIcon(img));
-                
-                // Debug information: successful image loading
-                System.out.println("Successfully loaded water level image: " + level);
-            } else {
-                // Debug information: failed to load image
-                System.err.println("Failed to load water level image: " + level);
-            }
+            // Load the water level image, scaled to fit the label dimensions
+            waterLevelImage.setIcon(ImageCache.getInstance().getIcon(imagePath, IMAGE_WIDTH, IMAGE_HEIGHT));
+
+            // Debug information: successful image loading
+            LOG.debug(() -> "Successfully loaded water level image: " + level);
         } catch (Exception e) {
             // Debug information: error occurred during image loading
             System.err.println("Error occurred while loading water level image: " + e.getMessage());
@@ -97,7 +91,7 @@ public class WaterLevelView extends JPanel {
      */
     public void updateWaterLevel(int level) {
         // Debug information: received water level update request
-        System.out.println("Received water level update request: " + level);
+        LOG.debug(() -> "Received water level update request: " + level);
         
         // Update the text label with current water level
         waterLevelLabel.setText("Current water level: " + level);